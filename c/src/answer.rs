@@ -19,19 +19,26 @@
 
 use std::ffi::c_char;
 
+use chrono::NaiveTime;
 use typedb_driver::{
     answer::{ConceptRow, QueryAnswer, QueryType},
     box_stream,
-    concept::Concept,
+    concept::{Concept, Value},
+    error::ConceptError,
     BoxPromise, Promise, Result,
 };
 
 use super::{
     concept::ConceptIterator,
     iterator::CIterator,
-    memory::{borrow, free, release, release_optional, release_string, string_view},
+    memory::{borrow, free, release, release_string, string_view},
+};
+use crate::{
+    common::StringIterator,
+    concept::ConceptRowIterator,
+    error::{try_borrow_optional, try_release, try_release_optional, try_release_string, unwrap_or_default},
+    memory::take_ownership,
 };
-use crate::{common::StringIterator, concept::ConceptRowIterator, error::try_release, memory::take_ownership};
 
 /// Promise object representing the result of an asynchronous operation.
 /// Use \ref query_answer_promise_resolve(QueryAnswerPromise*) to wait for and retrieve the resulting boolean value.
@@ -81,6 +88,17 @@ pub extern "C" fn query_answer_is_concept_document_stream(query_answer: *const Q
     borrow(query_answer).is_document_stream()
 }
 
+/// Produces an <code>Iterator</code> over the <code>String</code> column names shared by all <code>ConceptRow</code>s
+/// of this <code>QueryAnswer</code>. Answers other than a <code>ConceptRowStream</code> have no columns.
+#[no_mangle]
+pub extern "C" fn query_answer_get_column_names(query_answer: *const QueryAnswer) -> *mut StringIterator {
+    let column_names = match borrow(query_answer) {
+        QueryAnswer::ConceptRowStream(header, _) => header.column_names.clone(),
+        _ => Vec::new(),
+    };
+    release(StringIterator(CIterator(box_stream(column_names.into_iter().map(Ok)))))
+}
+
 /// Produces an <code>Iterator</code> over all <code>ConceptRow</code>s in this <code>QueryAnswer</code>.
 #[no_mangle]
 pub extern "C" fn query_answer_into_rows(query_answer: *mut QueryAnswer) -> *mut ConceptRowIterator {
@@ -124,21 +142,179 @@ pub extern "C" fn concept_row_get_query_type(concept_row: *const ConceptRow) ->
 /// Produces an <code>Iterator</code> over all <code>Concepts</code> in this <code>ConceptRow</code>.
 #[no_mangle]
 pub extern "C" fn concept_row_get_concepts(concept_row: *const ConceptRow) -> *mut ConceptIterator {
-    release(ConceptIterator(CIterator(box_stream(borrow(concept_row).get_concepts().cloned().map(Ok)))))
+    release(ConceptIterator(CIterator(box_stream(borrow(concept_row).get_concepts().map(|concept| concept.cloned())))))
 }
 
 /// Retrieves a concept for a given column name.
 ///
 #[no_mangle]
 pub extern "C" fn concept_row_get(concept_row: *const ConceptRow, column_name: *const c_char) -> *mut Concept {
-    release_optional(borrow(concept_row).get(string_view(column_name)).cloned())
+    try_release_optional(borrow(concept_row).get(string_view(column_name)).map(|concept| concept.cloned()).transpose())
 }
 
 /// Retrieves a concept for a given column index.
 ///
 #[no_mangle]
 pub extern "C" fn concept_row_get_index(concept_row: *const ConceptRow, column_index: usize) -> *mut Concept {
-    release_optional(borrow(concept_row).get_index(column_index).cloned())
+    try_release_optional(borrow(concept_row).get_index(column_index).map(|concept| concept.cloned()).transpose())
+}
+
+/// Retrieves a view of the concept for a given column name, without copying it.
+/// The returned <code>Concept</code> is owned by the <code>ConceptRow</code>: it must not be freed,
+/// and it is only valid for as long as the <code>ConceptRow</code> is.
+#[no_mangle]
+pub extern "C" fn concept_row_get_view(concept_row: *const ConceptRow, column_name: *const c_char) -> *const Concept {
+    try_borrow_optional(borrow(concept_row).get(string_view(column_name)))
+}
+
+/// Retrieves a view of the concept for a given column index, without copying it.
+/// The returned <code>Concept</code> is owned by the <code>ConceptRow</code>: it must not be freed,
+/// and it is only valid for as long as the <code>ConceptRow</code> is.
+#[no_mangle]
+pub extern "C" fn concept_row_get_index_view(concept_row: *const ConceptRow, column_index: usize) -> *const Concept {
+    try_borrow_optional(borrow(concept_row).get_index(column_index))
+}
+
+/// Retrieves the number of columns of the <code>ConceptRow</code>.
+#[no_mangle]
+pub extern "C" fn concept_row_get_column_count(concept_row: *const ConceptRow) -> usize {
+    borrow(concept_row).get_column_names().len()
+}
+
+/// Retrieves an <code>integer</code> held by the concept for a given column name, reading it directly from the row.
+/// If the column is empty or absent, or holds a different kind of value, the error is set.
+#[no_mangle]
+pub extern "C" fn concept_row_get_integer(concept_row: *const ConceptRow, column_name: *const c_char) -> i64 {
+    unwrap_or_default(cell_by_name(borrow(concept_row), string_view(column_name)).and_then(integer_value))
+}
+
+/// Retrieves an <code>integer</code> held by the concept for a given column index, reading it directly from the row.
+/// If the column is empty or out of range, or holds a different kind of value, the error is set.
+#[no_mangle]
+pub extern "C" fn concept_row_get_integer_index(concept_row: *const ConceptRow, column_index: usize) -> i64 {
+    unwrap_or_default(cell_by_index(borrow(concept_row), column_index).and_then(integer_value))
+}
+
+/// Retrieves a <code>double</code> held by the concept for a given column name, reading it directly from the row.
+/// If the column is empty or absent, or holds a different kind of value, the error is set.
+#[no_mangle]
+pub extern "C" fn concept_row_get_double(concept_row: *const ConceptRow, column_name: *const c_char) -> f64 {
+    unwrap_or_default(cell_by_name(borrow(concept_row), string_view(column_name)).and_then(double_value))
+}
+
+/// Retrieves a <code>double</code> held by the concept for a given column index, reading it directly from the row.
+/// If the column is empty or out of range, or holds a different kind of value, the error is set.
+#[no_mangle]
+pub extern "C" fn concept_row_get_double_index(concept_row: *const ConceptRow, column_index: usize) -> f64 {
+    unwrap_or_default(cell_by_index(borrow(concept_row), column_index).and_then(double_value))
+}
+
+/// Retrieves a <code>boolean</code> held by the concept for a given column name, reading it directly from the row.
+/// If the column is empty or absent, or holds a different kind of value, the error is set.
+#[no_mangle]
+pub extern "C" fn concept_row_get_boolean(concept_row: *const ConceptRow, column_name: *const c_char) -> bool {
+    unwrap_or_default(cell_by_name(borrow(concept_row), string_view(column_name)).and_then(boolean_value))
+}
+
+/// Retrieves a <code>boolean</code> held by the concept for a given column index, reading it directly from the row.
+/// If the column is empty or out of range, or holds a different kind of value, the error is set.
+#[no_mangle]
+pub extern "C" fn concept_row_get_boolean_index(concept_row: *const ConceptRow, column_index: usize) -> bool {
+    unwrap_or_default(cell_by_index(borrow(concept_row), column_index).and_then(boolean_value))
+}
+
+/// Retrieves a <code>string</code> held by the concept for a given column name, reading it directly from the row.
+/// If the column is empty or absent, or holds a different kind of value, the error is set.
+#[no_mangle]
+pub extern "C" fn concept_row_get_string(concept_row: *const ConceptRow, column_name: *const c_char) -> *mut c_char {
+    try_release_string(cell_by_name(borrow(concept_row), string_view(column_name)).and_then(string_value))
+}
+
+/// Retrieves a <code>string</code> held by the concept for a given column index, reading it directly from the row.
+/// If the column is empty or out of range, or holds a different kind of value, the error is set.
+#[no_mangle]
+pub extern "C" fn concept_row_get_string_index(concept_row: *const ConceptRow, column_index: usize) -> *mut c_char {
+    try_release_string(cell_by_index(borrow(concept_row), column_index).and_then(string_value))
+}
+
+/// Retrieves a <code>date</code>, <code>datetime</code> or <code>datetime-tz</code> held by the concept for a given
+/// name, as nanoseconds since the UNIX epoch, reading it directly from the row.
+/// If the column is empty or absent, or holds a different kind of value, the error is set.
+#[no_mangle]
+pub extern "C" fn concept_row_get_epoch_nanos(concept_row: *const ConceptRow, column_name: *const c_char) -> i64 {
+    unwrap_or_default(cell_by_name(borrow(concept_row), string_view(column_name)).and_then(epoch_nanos_value))
+}
+
+/// Retrieves a <code>date</code>, <code>datetime</code> or <code>datetime-tz</code> held by the concept for a given
+/// index, as nanoseconds since the UNIX epoch, reading it directly from the row.
+/// If the column is empty or out of range, or holds a different kind of value, the error is set.
+#[no_mangle]
+pub extern "C" fn concept_row_get_epoch_nanos_index(concept_row: *const ConceptRow, column_index: usize) -> i64 {
+    unwrap_or_default(cell_by_index(borrow(concept_row), column_index).and_then(epoch_nanos_value))
+}
+
+/// Retrieves the IID of an instance, held by the concept for a given column name, reading it directly from the row.
+/// If the column is empty or absent, or holds a different kind of value, the error is set.
+#[no_mangle]
+pub extern "C" fn concept_row_get_iid(concept_row: *const ConceptRow, column_name: *const c_char) -> *mut c_char {
+    try_release_string(cell_by_name(borrow(concept_row), string_view(column_name)).and_then(iid_value))
+}
+
+/// Retrieves the IID of an instance, held by the concept for a given column index, reading it directly from the row.
+/// If the column is empty or out of range, or holds a different kind of value, the error is set.
+#[no_mangle]
+pub extern "C" fn concept_row_get_iid_index(concept_row: *const ConceptRow, column_index: usize) -> *mut c_char {
+    try_release_string(cell_by_index(borrow(concept_row), column_index).and_then(iid_value))
+}
+
+fn cell_by_name<'a>(concept_row: &'a ConceptRow, column_name: &str) -> Result<&'a Concept> {
+    concept_row
+        .get(column_name)?
+        .ok_or_else(|| ConceptError::UnavailableRowVariable { variable: column_name.to_owned() }.into())
+}
+
+fn cell_by_index(concept_row: &ConceptRow, column_index: usize) -> Result<&Concept> {
+    concept_row.get_index(column_index)?.ok_or_else(|| ConceptError::UnavailableRowIndex { index: column_index }.into())
+}
+
+fn expect_value<T>(concept: &Concept, value: Option<T>, expected: &'static str) -> Result<T> {
+    value.ok_or_else(|| {
+        let found = concept.try_get_value_label().unwrap_or(concept.get_category().name()).to_owned();
+        ConceptError::UnexpectedValueType { expected, found }.into()
+    })
+}
+
+fn integer_value(concept: &Concept) -> Result<i64> {
+    expect_value(concept, concept.try_get_integer(), "integer")
+}
+
+fn double_value(concept: &Concept) -> Result<f64> {
+    expect_value(concept, concept.try_get_double(), "double")
+}
+
+fn boolean_value(concept: &Concept) -> Result<bool> {
+    expect_value(concept, concept.try_get_boolean(), "boolean")
+}
+
+fn string_value(concept: &Concept) -> Result<String> {
+    expect_value(concept, concept.try_get_string(), "string").map(str::to_owned)
+}
+
+pub(crate) fn epoch_nanos_value(concept: &Concept) -> Result<i64> {
+    let nanos = match concept.try_get_value() {
+        Some(Value::Date(date)) => date.and_time(NaiveTime::MIN).and_utc().timestamp_nanos_opt(),
+        Some(Value::Datetime(datetime)) => datetime.and_utc().timestamp_nanos_opt(),
+        Some(Value::DatetimeTZ(datetime_tz)) => datetime_tz.timestamp_nanos_opt(),
+        _ => return expect_value(concept, None, "datetime"),
+    };
+    nanos.ok_or_else(|| ConceptError::EpochNanosOutOfRange { value: concept.to_string() }.into())
+}
+
+fn iid_value(concept: &Concept) -> Result<String> {
+    concept
+        .try_get_iid()
+        .map(|iid| iid.to_string())
+        .ok_or_else(|| ConceptError::MissingIID { concept: concept.to_string() }.into())
 }
 
 /// Checks whether the provided <code>ConceptRow</code> objects are equal
@@ -23,9 +23,9 @@ use typedb_driver::Result;
 
 use super::{
     iterator::CIterator,
-    memory::{borrow_mut, free},
+    memory::{borrow, borrow_mut, free},
 };
-use crate::error::try_release_string;
+use crate::error::{try_release, try_release_string};
 
 /// Iterator over the strings in the result of a request or a TypeQL Fetch query.
 pub struct StringIterator(pub CIterator<Result<String>>);
@@ -37,8 +37,42 @@ pub extern "C" fn string_iterator_next(it: *mut StringIterator) -> *mut c_char {
     borrow_mut(it).0 .0.next().map(try_release_string).unwrap_or_else(null_mut)
 }
 
+/// Forwards the <code>StringIterator</code> and returns the UTF-8 bytes of the next string if it exists,
+/// or null if there are no more elements.
+#[no_mangle]
+pub extern "C" fn string_iterator_next_utf8(it: *mut StringIterator) -> *mut Utf8Bytes {
+    borrow_mut(it).0 .0.next().map(|res| try_release(res.map(Utf8Bytes::from))).unwrap_or_else(null_mut)
+}
+
 /// Frees the native rust <code>StringIterator</code> object
 #[no_mangle]
 pub extern "C" fn string_iterator_drop(it: *mut StringIterator) {
     free(it);
 }
+
+/// The UTF-8 bytes of a string, handed over without conversion into a null-terminated C string.
+pub struct Utf8Bytes(Box<[u8]>);
+
+impl From<String> for Utf8Bytes {
+    fn from(string: String) -> Self {
+        Self(string.into_bytes().into_boxed_slice())
+    }
+}
+
+/// Returns the number of bytes in the <code>Utf8Bytes</code>.
+#[no_mangle]
+pub extern "C" fn utf8_bytes_len(bytes: *const Utf8Bytes) -> usize {
+    borrow(bytes).0.len()
+}
+
+/// Returns a pointer to the first of the bytes in the <code>Utf8Bytes</code>, valid until it is freed.
+#[no_mangle]
+pub extern "C" fn utf8_bytes_data(bytes: *const Utf8Bytes) -> *const u8 {
+    borrow(bytes).0.as_ptr()
+}
+
+/// Frees the native rust <code>Utf8Bytes</code> object
+#[no_mangle]
+pub extern "C" fn utf8_bytes_drop(bytes: *mut Utf8Bytes) {
+    free(bytes);
+}
@@ -17,18 +17,26 @@
  * under the License.
  */
 
-use std::ffi::c_char;
+use std::{
+    collections::HashMap,
+    ffi::c_char,
+    ptr::null_mut,
+    sync::{OnceLock, RwLock},
+};
 
-use chrono::{DateTime, NaiveTime, TimeZone as ChronoTimeZone};
+use chrono::{DateTime, NaiveTime, Offset as ChronoOffset, TimeZone as ChronoTimeZone};
 use typedb_driver::{
     box_stream,
     concept::{
         value::{Decimal, Duration, TimeZone},
-        Attribute, AttributeType, Concept, Entity, EntityType, Relation, RelationType, RoleType, Value,
+        Attribute, AttributeType, Concept, Entity, EntityType, Relation, RelationType, RoleType, Value, ValueType,
     },
 };
 
 use crate::{
+    answer::epoch_nanos_value,
+    common::Utf8Bytes,
+    error::unwrap_or_default,
     iterator::CIterator,
     memory::{
         borrow, borrow_mut, free, release, release_optional, release_optional_string, release_string, string_free,
@@ -165,6 +173,14 @@ pub extern "C" fn concept_try_get_iid(thing: *mut Concept) -> *mut c_char {
     release_optional_string(borrow(thing).try_get_iid().map(|iid| iid.to_string()))
 }
 
+/// Retrieves the unique id (IID) of this <code>Concept</code> as UTF-8 bytes.
+/// If this is an Entity or Relation Instance, returns the IID of the instance.
+/// Otherwise, returns null.
+#[no_mangle]
+pub extern "C" fn concept_try_get_iid_utf8(thing: *mut Concept) -> *mut Utf8Bytes {
+    release_optional(borrow(thing).try_get_iid().map(|iid| Utf8Bytes::from(iid.to_string())))
+}
+
 /// Retrieves the label of this <code>Concept</code>.
 /// If this is an <code>Instance</code>, returns the label of the type of this instance ("unknown" if type fetching is disabled).
 /// If this is a <code>Value</code>, returns the label of the value type of the value.
@@ -174,6 +190,13 @@ pub extern "C" fn concept_get_label(concept: *const Concept) -> *mut c_char {
     release_string(borrow(concept).get_label().clone().to_owned())
 }
 
+/// Retrieves the label of this <code>Concept</code> as UTF-8 bytes, as in <code>concept_get_label</code>.
+/// The bytes are borrowed from the concept, and their number is written into <code>utf8_len</code>.
+#[no_mangle]
+pub extern "C" fn concept_get_label_utf8(concept: *const Concept, utf8_len: *mut usize) -> *const u8 {
+    borrow_utf8(borrow(concept).get_label(), utf8_len)
+}
+
 /// Retrieves the optional label of this <code>Concept</code>.
 /// If this is an <code>Instance</code>, returns the label of the type of this instance (None if type fetching is disabled).
 /// If this is a <code>Value</code>, returns the label of the value type of the value.
@@ -183,6 +206,43 @@ pub extern "C" fn concept_try_get_label(concept: *const Concept) -> *mut c_char
     release_optional_string(borrow(concept).try_get_label().map(|str| str.clone().to_owned()))
 }
 
+const NO_LABEL_ID: i64 = -1;
+const UNREGISTERED_LABEL_ID: i64 = -2;
+const MAX_LABEL_IDS: i64 = 4096;
+const VALUE_PARTS_LEN: usize = 4;
+const NO_TIME_ZONE_ID: i64 = -1;
+
+/// Retrieves a process-wide id of the optional label of this <code>Concept</code>, as in
+/// <code>concept_try_get_label</code>, so that bindings can cache labels without copying them out first.
+/// The first 4096 distinct labels are given the ids 0 to 4095, and the same label always has the same id.
+/// Returns -1 if the concept has no label, or -2 if its label is not given an id.
+#[no_mangle]
+pub extern "C" fn concept_try_get_label_id(concept: *const Concept) -> i64 {
+    match borrow(concept).try_get_label() {
+        Some(label) => label_id(label),
+        None => NO_LABEL_ID,
+    }
+}
+
+fn label_id(label: &str) -> i64 {
+    // labels are few and live as long as the schema, so registered labels are never released
+    static LABEL_IDS: OnceLock<RwLock<HashMap<Box<str>, i64>>> = OnceLock::new();
+    let ids = LABEL_IDS.get_or_init(Default::default);
+    if let Some(&id) = ids.read().unwrap().get(label) {
+        return id;
+    }
+    let mut ids = ids.write().unwrap();
+    if let Some(&id) = ids.get(label) {
+        return id;
+    }
+    let id = ids.len() as i64;
+    if id >= MAX_LABEL_IDS {
+        return UNREGISTERED_LABEL_ID;
+    }
+    ids.insert(label.into(), id);
+    id
+}
+
 /// Retrieves the value type of this <code>Concept</code>, if it exists.
 /// If this is an <code>Attribute</code> instance, returns the value type of this instance.
 /// If this is a <code>Value</code>, returns its value type.
@@ -322,6 +382,17 @@ pub extern "C" fn concept_get_string(concept: *const Concept) -> *mut c_char {
     }
 }
 
+/// Returns the <code>string</code> value of this value concept as UTF-8 bytes.
+/// The bytes are borrowed from the concept, and their number is written into <code>utf8_len</code>.
+/// If the value has another type, the error is set.
+#[no_mangle]
+pub extern "C" fn concept_get_string_utf8(concept: *const Concept, utf8_len: *mut usize) -> *const u8 {
+    match borrow(concept).try_get_string() {
+        Some(value) => borrow_utf8(value, utf8_len),
+        None => unreachable!("Attempting to unwrap a non-string {:?} as string", borrow(concept)),
+    }
+}
+
 /// Returns the value of this date value concept as seconds since the start of the UNIX epoch.
 /// If the value has another type, the error is set.
 #[no_mangle]
@@ -352,6 +423,95 @@ pub extern "C" fn concept_get_datetime_tz(concept: *const Concept) -> DatetimeAn
     }
 }
 
+/// Returns the whole seconds since the start of the UNIX epoch of this date, datetime or datetime-tz value concept.
+/// Dates are taken at midnight UTC, and datetimes without a time zone as UTC.
+/// If the value has another type, the error is set.
+#[no_mangle]
+pub extern "C" fn concept_get_epoch_seconds(concept: *const Concept) -> i64 {
+    match borrow(concept).try_get_value() {
+        Some(Value::Date(date)) => date.and_time(NaiveTime::MIN).and_utc().timestamp(),
+        Some(Value::Datetime(datetime)) => datetime.and_utc().timestamp(),
+        Some(Value::DatetimeTZ(datetime_tz)) => datetime_tz.timestamp(),
+        _ => unreachable!("Attempting to unwrap a non-temporal {:?} as a point in time", borrow(concept)),
+    }
+}
+
+/// Returns the nanoseconds since the start of the UNIX epoch of this date, datetime or datetime-tz value concept,
+/// as in <code>concept_get_epoch_seconds</code>.
+/// If the value has another type or does not fit into 64 bits of nanoseconds, the error is set.
+#[no_mangle]
+pub extern "C" fn concept_get_epoch_nanos(concept: *const Concept) -> i64 {
+    unwrap_or_default(epoch_nanos_value(borrow(concept)))
+}
+
+/// Writes the parts of this decimal, date, datetime or datetime-tz value concept into the
+/// <code>VALUE_PARTS_LEN</code> integers at <code>value_parts</code>, so that a binding reads the value in one call.
+/// Decimals are written as their integer part and their fractional part in multiples of 10^-19. The fractional part
+/// is unsigned and may exceed the range of a signed integer, so its bits are written as one.
+/// Points in time are written as the whole seconds since the start of the UNIX epoch, the nanoseconds since the last
+/// whole second, the offset from UTC in seconds and the id of the time zone, as given to <code>time_zone_name</code>,
+/// or -1 if there is no IANA time zone. Dates are taken at midnight UTC, and datetimes without a time zone as UTC.
+/// If the value has another type, the error is set.
+#[no_mangle]
+pub extern "C" fn concept_get_value_parts(concept: *const Concept, value_parts: *mut i64) {
+    assert!(!value_parts.is_null());
+    let parts = match borrow(concept).try_get_value() {
+        Some(Value::Decimal(decimal)) => [decimal.integer_part(), decimal.fractional_part() as i64, 0, NO_TIME_ZONE_ID],
+        Some(Value::Date(date)) => [date.and_time(NaiveTime::MIN).and_utc().timestamp(), 0, 0, NO_TIME_ZONE_ID],
+        Some(Value::Datetime(datetime)) => {
+            let datetime = datetime.and_utc();
+            [datetime.timestamp(), datetime.timestamp_subsec_nanos() as i64, 0, NO_TIME_ZONE_ID]
+        }
+        Some(Value::DatetimeTZ(datetime_tz)) => {
+            let zone_id = match datetime_tz.timezone() {
+                TimeZone::IANA(tz) => time_zone_id(tz.name()),
+                TimeZone::Fixed(_) => NO_TIME_ZONE_ID,
+            };
+            let offset = datetime_tz.offset().fix().local_minus_utc() as i64;
+            [datetime_tz.timestamp(), datetime_tz.timestamp_subsec_nanos() as i64, offset, zone_id]
+        }
+        _ => unreachable!("Attempting to unwrap a non-decimal, non-temporal {:?} as value parts", borrow(concept)),
+    };
+    unsafe { std::slice::from_raw_parts_mut(value_parts, VALUE_PARTS_LEN) }.copy_from_slice(&parts);
+}
+
+/// Returns the IANA name of the time zone with the given id, as written by <code>concept_get_value_parts</code>,
+/// or null if no time zone has this id. Ids are assigned in the order in which time zones are first seen,
+/// and stay the same for the lifetime of the process.
+#[no_mangle]
+pub extern "C" fn time_zone_name(id: i64) -> *mut c_char {
+    let names = &time_zones().read().unwrap().names;
+    match usize::try_from(id).ok().and_then(|index| names.get(index)) {
+        Some(name) => release_string(name.to_string()),
+        None => null_mut(),
+    }
+}
+
+#[derive(Default)]
+struct TimeZones {
+    ids: HashMap<&'static str, i64>,
+    names: Vec<&'static str>,
+}
+
+fn time_zones() -> &'static RwLock<TimeZones> {
+    static TIME_ZONES: OnceLock<RwLock<TimeZones>> = OnceLock::new();
+    TIME_ZONES.get_or_init(Default::default)
+}
+
+fn time_zone_id(name: &'static str) -> i64 {
+    if let Some(&id) = time_zones().read().unwrap().ids.get(name) {
+        return id;
+    }
+    let mut zones = time_zones().write().unwrap();
+    if let Some(&id) = zones.ids.get(name) {
+        return id;
+    }
+    let id = zones.names.len() as i64;
+    zones.ids.insert(name, id);
+    zones.names.push(name);
+    id
+}
+
 /// Returns the value of this duration value.
 /// If the value has another type, the error is set.
 #[no_mangle]
@@ -434,6 +594,73 @@ pub extern "C" fn concept_is_value(concept: *const Concept) -> bool {
     borrow(concept).is_value()
 }
 
+/// The kind of a <code>Concept</code>, as encoded in the lowest byte of a concept descriptor.
+#[repr(C)]
+#[derive(Clone, Copy, Debug, PartialEq, Eq)]
+pub enum ConceptKind {
+    EntityTypeKind,
+    RelationTypeKind,
+    AttributeTypeKind,
+    RoleTypeKind,
+    EntityKind,
+    RelationKind,
+    AttributeKind,
+    ValueKind,
+}
+
+/// The type of the value held by a <code>Concept</code>, as encoded in the second byte of a concept descriptor.
+#[repr(C)]
+#[derive(Clone, Copy, Debug, PartialEq, Eq)]
+pub enum ConceptValueKind {
+    NoValue,
+    BooleanValue,
+    IntegerValue,
+    DoubleValue,
+    DecimalValue,
+    StringValue,
+    DateValue,
+    DatetimeValue,
+    DatetimeTZValue,
+    DurationValue,
+    StructValue,
+}
+
+/// Returns the descriptor of this <code>Concept</code>: its <code>ConceptKind</code> in the lowest byte,
+/// and the <code>ConceptValueKind</code> of its value type (as with <code>concept_is_boolean</code> and the like)
+/// in the second byte. Allows a binding to classify a concept with a single call.
+#[no_mangle]
+pub extern "C" fn concept_get_descriptor(concept: *const Concept) -> i32 {
+    let concept = borrow(concept);
+    let kind = concept_kind(concept);
+    let value_kind = match concept.try_get_value_type() {
+        None => ConceptValueKind::NoValue,
+        Some(ValueType::Boolean) => ConceptValueKind::BooleanValue,
+        Some(ValueType::Integer) => ConceptValueKind::IntegerValue,
+        Some(ValueType::Double) => ConceptValueKind::DoubleValue,
+        Some(ValueType::Decimal) => ConceptValueKind::DecimalValue,
+        Some(ValueType::String) => ConceptValueKind::StringValue,
+        Some(ValueType::Date) => ConceptValueKind::DateValue,
+        Some(ValueType::Datetime) => ConceptValueKind::DatetimeValue,
+        Some(ValueType::DatetimeTZ) => ConceptValueKind::DatetimeTZValue,
+        Some(ValueType::Duration) => ConceptValueKind::DurationValue,
+        Some(ValueType::Struct(_)) => ConceptValueKind::StructValue,
+    };
+    kind as i32 | (value_kind as i32) << 8
+}
+
+pub(super) fn concept_kind(concept: &Concept) -> ConceptKind {
+    match concept {
+        Concept::EntityType(_) => ConceptKind::EntityTypeKind,
+        Concept::RelationType(_) => ConceptKind::RelationTypeKind,
+        Concept::AttributeType(_) => ConceptKind::AttributeTypeKind,
+        Concept::RoleType(_) => ConceptKind::RoleTypeKind,
+        Concept::Entity(_) => ConceptKind::EntityKind,
+        Concept::Relation(_) => ConceptKind::RelationKind,
+        Concept::Attribute(_) => ConceptKind::AttributeKind,
+        Concept::Value(_) => ConceptKind::ValueKind,
+    }
+}
+
 /// A string representation of this <code>Concept</code> object.
 #[no_mangle]
 pub extern "C" fn concept_to_string(concept: *const Concept) -> *mut c_char {
@@ -460,3 +687,85 @@ pub(super) fn borrow_as_attribute(concept: *const Concept) -> &'static Attribute
         _ => unreachable!(),
     }
 }
+
+fn borrow_utf8(string: &str, utf8_len: *mut usize) -> *const u8 {
+    assert!(!utf8_len.is_null());
+    unsafe { *utf8_len = string.len() };
+    string.as_ptr()
+}
+
+#[cfg(test)]
+mod test {
+    use std::ffi::CStr;
+
+    use chrono::{FixedOffset, NaiveDate, TimeZone as _};
+    use typedb_driver::concept::{
+        value::{Decimal, TimeZone},
+        Concept, Entity, EntityType, Value,
+    };
+
+    use super::{
+        concept_get_value_parts, concept_try_get_label_id, time_zone_name, NO_LABEL_ID, NO_TIME_ZONE_ID,
+        VALUE_PARTS_LEN,
+    };
+    use crate::memory::string_free;
+
+    fn entity_type(label: &str) -> Concept {
+        Concept::EntityType(EntityType { label: label.into() })
+    }
+
+    #[test]
+    fn label_ids_are_stable_per_label() {
+        let person = concept_try_get_label_id(&entity_type("label-id-person"));
+        let company = concept_try_get_label_id(&entity_type("label-id-company"));
+        assert!(person >= 0 && company >= 0);
+        assert_ne!(person, company);
+        assert_eq!(concept_try_get_label_id(&entity_type("label-id-person")), person);
+    }
+
+    #[test]
+    fn concepts_without_labels_have_no_label_id() {
+        let entity = Concept::Entity(Entity { iid: vec![1].into(), type_: None });
+        assert_eq!(concept_try_get_label_id(&entity), NO_LABEL_ID);
+    }
+
+    fn value_parts(value: Value) -> [i64; VALUE_PARTS_LEN] {
+        let mut parts = [0; VALUE_PARTS_LEN];
+        concept_get_value_parts(&Concept::Value(value), parts.as_mut_ptr());
+        parts
+    }
+
+    fn zone_name(id: i64) -> Option<String> {
+        let name = time_zone_name(id);
+        if name.is_null() {
+            return None;
+        }
+        let result = unsafe { CStr::from_ptr(name) }.to_str().unwrap().to_owned();
+        string_free(name);
+        Some(result)
+    }
+
+    #[test]
+    fn decimal_parts_keep_the_unsigned_fractional_bits() {
+        let fractional = 9_999_999_999_999_999_999;
+        let parts = value_parts(Value::Decimal(Decimal::new(-1, fractional)));
+        assert_eq!(parts[0], -1);
+        assert_eq!(parts[1] as u64, fractional);
+    }
+
+    #[test]
+    fn temporal_parts_resolve_their_time_zone_ids() {
+        let datetime = NaiveDate::from_ymd_opt(1969, 12, 31).unwrap().and_hms_nano_opt(23, 59, 59, 500).unwrap();
+        assert_eq!(value_parts(Value::Datetime(datetime)), [-1, 500, 0, NO_TIME_ZONE_ID]);
+
+        let london = TimeZone::IANA(chrono_tz::Europe::London).from_utc_datetime(&datetime);
+        let parts = value_parts(Value::DatetimeTZ(london));
+        assert_eq!(parts[..3], [-1, 500, 3600]);
+        assert_eq!(zone_name(parts[3]).as_deref(), Some("Europe/London"));
+        assert_eq!(value_parts(Value::DatetimeTZ(london))[3], parts[3]);
+
+        let fixed = TimeZone::Fixed(FixedOffset::east_opt(-3600).unwrap()).from_utc_datetime(&datetime);
+        assert_eq!(value_parts(Value::DatetimeTZ(fixed)), [-1, 500, -3600, NO_TIME_ZONE_ID]);
+        assert_eq!(zone_name(NO_TIME_ZONE_ID), None);
+    }
+}
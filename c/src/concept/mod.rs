@@ -17,16 +17,24 @@
  * under the License.
  */
 
-use std::ptr::addr_of_mut;
+use std::{
+    iter, mem,
+    ptr::{addr_of_mut, null_mut},
+};
 
 use itertools::Itertools;
-use typedb_driver::{answer::ConceptRow, concept::Concept, BoxPromise, Promise, Result};
+use typedb_driver::{answer::ConceptRow, box_stream, concept::Concept, BoxPromise, Promise, Result};
 
 use super::{iterator::iterator_try_next, memory::free};
-use crate::{error::try_release_optional, iterator::CIterator, memory::take_ownership};
+use crate::{
+    error::{try_release, try_release_optional},
+    iterator::CIterator,
+    memory::{borrow, borrow_mut, release, take_ownership},
+};
 
 mod concept;
 mod instance;
+mod row_encoder;
 
 /// Promise object representing the result of an asynchronous operation.
 /// Use \ref concept_promise_resolve(ConceptPromise*) to wait for and retrieve the resulting boolean value.
@@ -56,12 +64,67 @@ pub extern "C" fn concept_row_iterator_next(it: *mut ConceptRowIterator) -> *mut
     unsafe { iterator_try_next(addr_of_mut!((*it).0)) }
 }
 
+/// Forwards the <code>ConceptRowIterator</code> by up to <code>max_rows</code> rows and returns them as a
+/// <code>ConceptRowBatch</code>. An empty batch means there are no more elements.
+/// Only waits for the first row: once a row is fetched, the batch ends with the last row that is ready.
+/// If an error is encountered after some rows have been fetched, those rows are returned,
+/// and the error is reported by the next call.
+#[no_mangle]
+pub extern "C" fn concept_row_iterator_next_batch(
+    it: *mut ConceptRowIterator,
+    max_rows: usize,
+) -> *mut ConceptRowBatch {
+    let stream = &mut borrow_mut(it).0 .0;
+    let mut rows = Vec::with_capacity(max_rows.min(MAX_PREALLOCATED_BATCH_ROWS));
+    while rows.len() < max_rows {
+        // the lower bound of the size hint counts the rows of the response part being read
+        if !rows.is_empty() && stream.size_hint().0 == 0 {
+            break;
+        }
+        match stream.next() {
+            Some(Ok(row)) => rows.push(release(row)),
+            Some(Err(err)) if rows.is_empty() => return try_release(Err(err)),
+            Some(Err(err)) => {
+                let rest = mem::replace(stream, box_stream(iter::empty()));
+                *stream = box_stream(iter::once(Err(err)).chain(rest));
+                break;
+            }
+            None => break,
+        }
+    }
+    release(ConceptRowBatch(rows))
+}
+
 /// Frees the native rust <code>ConceptRowIterator</code> object
 #[no_mangle]
 pub extern "C" fn concept_row_iterator_drop(it: *mut ConceptRowIterator) {
     free(it);
 }
 
+const MAX_PREALLOCATED_BATCH_ROWS: usize = 1024;
+
+/// A batch of <code>ConceptRow</code>s pulled from a <code>ConceptRowIterator</code> in a single call.
+pub struct ConceptRowBatch(Vec<*mut ConceptRow>);
+
+/// Returns the number of rows in the <code>ConceptRowBatch</code>.
+#[no_mangle]
+pub extern "C" fn concept_row_batch_len(batch: *const ConceptRowBatch) -> usize {
+    borrow(batch).0.len()
+}
+
+/// Takes the row at the given position out of the <code>ConceptRowBatch</code>, passing its ownership
+/// to the caller. Returns null if the row has already been taken or the index is out of range.
+#[no_mangle]
+pub extern "C" fn concept_row_batch_take(batch: *mut ConceptRowBatch, index: usize) -> *mut ConceptRow {
+    borrow_mut(batch).0.get_mut(index).map(|row| mem::replace(row, null_mut())).unwrap_or_else(null_mut)
+}
+
+/// Frees the native rust <code>ConceptRowBatch</code> object, along with the rows that have not been taken.
+#[no_mangle]
+pub extern "C" fn concept_row_batch_drop(batch: *mut ConceptRowBatch) {
+    take_ownership(batch).0.into_iter().for_each(free);
+}
+
 /// Iterator over the <code>Concepts</code>s returned by an API method or query.
 pub struct ConceptIterator(pub CIterator<Result<Concept>>);
 
@@ -77,3 +140,54 @@ pub extern "C" fn concept_iterator_next(it: *mut ConceptIterator) -> *mut Concep
 pub extern "C" fn concept_iterator_drop(it: *mut ConceptIterator) {
     free(it);
 }
+
+#[cfg(test)]
+mod test {
+    use std::{iter, sync::Arc};
+
+    use typedb_driver::{
+        answer::{concept_row::ConceptRowHeader, ConceptRow, QueryType},
+        box_stream,
+    };
+
+    use super::{
+        concept_row_batch_drop, concept_row_batch_len, concept_row_iterator_drop, concept_row_iterator_next_batch,
+        ConceptRowIterator,
+    };
+    use crate::{iterator::CIterator, memory::release};
+
+    fn rows(count: usize) -> Vec<ConceptRow> {
+        let header = Arc::new(ConceptRowHeader { column_names: Vec::new(), query_type: QueryType::ReadQuery });
+        (0..count).map(|_| ConceptRow::new(header.clone(), Vec::new())).collect()
+    }
+
+    /// A row iterator over a single response part, which panics if it has to wait for the next one.
+    fn single_part(count: usize) -> *mut ConceptRowIterator {
+        let parts = iter::once(rows(count))
+            .chain(iter::from_fn(|| -> Option<Vec<ConceptRow>> { panic!("waited for the next response part") }));
+        release(ConceptRowIterator(CIterator(box_stream(parts.flat_map(|rows| rows.into_iter().map(Ok))))))
+    }
+
+    fn next_batch_len(it: *mut ConceptRowIterator, max_rows: usize) -> usize {
+        let batch = concept_row_iterator_next_batch(it, max_rows);
+        let len = concept_row_batch_len(batch);
+        concept_row_batch_drop(batch);
+        len
+    }
+
+    #[test]
+    fn batch_ends_with_the_last_ready_row() {
+        let it = single_part(3);
+        assert_eq!(next_batch_len(it, 10), 3);
+        concept_row_iterator_drop(it);
+    }
+
+    #[test]
+    fn batch_is_bounded_by_max_rows() {
+        let it = single_part(5);
+        assert_eq!(next_batch_len(it, 2), 2);
+        assert_eq!(next_batch_len(it, 2), 2);
+        assert_eq!(next_batch_len(it, 2), 1);
+        concept_row_iterator_drop(it);
+    }
+}
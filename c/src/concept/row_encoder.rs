@@ -0,0 +1,554 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+use std::{collections::HashMap, slice};
+
+use chrono::{Datelike, Offset};
+use typedb_driver::{
+    answer::ConceptRow,
+    concept::{value::TimeZone, Attribute, Concept, Value},
+    error::ConceptError,
+    BoxStream, Result, IID,
+};
+
+use super::{
+    concept::{concept_kind, ConceptValueKind},
+    ConceptRowIterator,
+};
+use crate::{
+    error::unwrap_or_default,
+    memory::{borrow, borrow_mut, free, release},
+};
+
+const BATCH_HEADER_SIZE: usize = 8;
+const EMPTY_CELL: u8 = u8::MAX;
+const NO_LABEL: u32 = u32::MAX;
+const UNIX_EPOCH_DAYS_FROM_CE: i32 = 719_163;
+
+/// Encodes <code>ConceptRow</code>s from a <code>ConceptRowIterator</code> into a compact binary layout,
+/// so that a binding can decode whole batches of rows without a native call per row or per cell.
+///
+/// All numbers are little-endian. A batch starts with the <code>u32</code> number of rows and the
+/// <code>u32</code> number of columns, followed by the cells of each row. A cell starts with a <code>u8</code>
+/// <code>ConceptKind</code>, or 255 if it is empty, followed by:
+/// - types: a label;
+/// - entities and relations: a label and an IID (<code>u16</code> length and bytes);
+/// - attributes: a label and a value;
+/// - values: a value.
+///
+/// Labels are dictionary ids (<code>u32</code>, <code>u32::MAX</code> if the type is unknown). Ids are assigned
+/// sequentially by the encoder, and the first occurrence of an id is followed by the label itself
+/// (<code>u32</code> length and UTF-8 bytes). The labels first seen in a row join the dictionary only once the row
+/// is written into a batch, so a row which fails or is kept for the next batch never consumes ids.
+///
+/// A value starts with a <code>u8</code> <code>ConceptValueKind</code>, followed by: a <code>u8</code> for booleans,
+/// an <code>i64</code> for integers, an <code>f64</code> for doubles, an <code>i64</code> integer part and
+/// a <code>u64</code> fractional part (in 10^-19) for decimals, an <code>i32</code> number of days since
+/// the UNIX epoch for dates, an <code>i64</code> of seconds and a <code>u32</code> of nanoseconds since the UNIX
+/// epoch for datetimes, followed by an <code>i32</code> UTC offset in seconds and a zone name (empty for fixed
+/// offsets) for datetime-tzs, <code>u32</code> months, <code>u32</code> days and <code>u64</code> nanoseconds for
+/// durations. Strings, zone names and structs (in their textual form) are a <code>u32</code> length and UTF-8 bytes.
+pub struct ConceptRowEncoder {
+    label_ids: HashMap<String, u32>,
+    row_labels: Vec<String>,
+    scratch: Vec<u8>,
+    pending: Option<Result<u32>>,
+}
+
+impl ConceptRowEncoder {
+    fn new() -> Self {
+        Self { label_ids: HashMap::new(), row_labels: Vec::new(), scratch: Vec::new(), pending: None }
+    }
+
+    fn encode_batch(
+        &mut self,
+        rows: &mut BoxStream<'static, Result<ConceptRow>>,
+        max_rows: usize,
+        buffer: &mut [u8],
+    ) -> Result<usize> {
+        if buffer.len() < BATCH_HEADER_SIZE {
+            let capacity = buffer.len();
+            return Err(ConceptError::EncodingBufferTooSmall { required: BATCH_HEADER_SIZE, capacity }.into());
+        }
+        let mut row_count = 0u32;
+        let mut column_count = 0u32;
+        let mut written = BATCH_HEADER_SIZE;
+        while (row_count as usize) < max_rows {
+            // the scratch buffer still holds a pending row which did not fit into the previous batch
+            let encoded = match self.pending.take() {
+                Some(pending) => pending,
+                None => match rows.next() {
+                    Some(row) => row.and_then(|row| self.encode_row(&row)),
+                    None => break,
+                },
+            };
+            match encoded {
+                Ok(columns) if written + self.scratch.len() <= buffer.len() => {
+                    buffer[written..written + self.scratch.len()].copy_from_slice(&self.scratch);
+                    written += self.scratch.len();
+                    self.commit_row_labels();
+                    row_count += 1;
+                    column_count = columns;
+                }
+                Ok(columns) => {
+                    self.pending = Some(Ok(columns));
+                    if row_count == 0 {
+                        let required = BATCH_HEADER_SIZE + self.scratch.len();
+                        return Err(ConceptError::EncodingBufferTooSmall { required, capacity: buffer.len() }.into());
+                    }
+                    break;
+                }
+                Err(err) if row_count == 0 => return Err(err),
+                Err(err) => {
+                    self.pending = Some(Err(err));
+                    break;
+                }
+            }
+        }
+        if row_count == 0 {
+            return Ok(0);
+        }
+        buffer[0..4].copy_from_slice(&row_count.to_le_bytes());
+        buffer[4..8].copy_from_slice(&column_count.to_le_bytes());
+        Ok(written)
+    }
+
+    fn pending_size(&self) -> usize {
+        match self.pending {
+            Some(Ok(_)) => BATCH_HEADER_SIZE + self.scratch.len(),
+            _ => 0,
+        }
+    }
+
+    fn commit_row_labels(&mut self) {
+        for label in self.row_labels.drain(..) {
+            let id = self.label_ids.len() as u32;
+            self.label_ids.insert(label, id);
+        }
+    }
+
+    fn encode_row(&mut self, row: &ConceptRow) -> Result<u32> {
+        self.scratch.clear();
+        self.row_labels.clear();
+        let column_count = row.get_column_names().len();
+        for index in 0..column_count {
+            match row.get_index(index)? {
+                Some(concept) => self.encode_concept(concept),
+                None => self.scratch.push(EMPTY_CELL),
+            }
+        }
+        Ok(column_count as u32)
+    }
+
+    fn encode_concept(&mut self, concept: &Concept) {
+        self.scratch.push(concept_kind(concept) as u8);
+        match concept {
+            Concept::EntityType(_) | Concept::RelationType(_) | Concept::AttributeType(_) | Concept::RoleType(_) => {
+                self.encode_label(concept.try_get_label())
+            }
+            Concept::Entity(_) | Concept::Relation(_) => {
+                self.encode_label(concept.try_get_label());
+                self.encode_iid(concept.try_get_iid().expect("entities and relations have an IID"));
+            }
+            Concept::Attribute(Attribute { value, .. }) => {
+                self.encode_label(concept.try_get_label());
+                self.encode_value(value);
+            }
+            Concept::Value(value) => self.encode_value(value),
+        }
+    }
+
+    fn encode_label(&mut self, label: Option<&str>) {
+        let Some(label) = label else {
+            self.scratch.extend_from_slice(&NO_LABEL.to_le_bytes());
+            return;
+        };
+        if let Some(id) = self.label_ids.get(label) {
+            self.scratch.extend_from_slice(&id.to_le_bytes());
+        } else if let Some(position) = self.row_labels.iter().position(|row_label| row_label == label) {
+            let id = (self.label_ids.len() + position) as u32;
+            self.scratch.extend_from_slice(&id.to_le_bytes());
+        } else {
+            let id = (self.label_ids.len() + self.row_labels.len()) as u32;
+            self.row_labels.push(label.to_owned());
+            self.scratch.extend_from_slice(&id.to_le_bytes());
+            self.encode_str(label);
+        }
+    }
+
+    fn encode_iid(&mut self, iid: &IID) {
+        self.scratch.extend_from_slice(&(iid.as_bytes().len() as u16).to_le_bytes());
+        self.scratch.extend_from_slice(iid.as_bytes());
+    }
+
+    fn encode_value(&mut self, value: &Value) {
+        match value {
+            Value::Boolean(bool) => {
+                self.scratch.push(ConceptValueKind::BooleanValue as u8);
+                self.scratch.push(*bool as u8);
+            }
+            Value::Integer(integer) => {
+                self.scratch.push(ConceptValueKind::IntegerValue as u8);
+                self.scratch.extend_from_slice(&integer.to_le_bytes());
+            }
+            Value::Double(double) => {
+                self.scratch.push(ConceptValueKind::DoubleValue as u8);
+                self.scratch.extend_from_slice(&double.to_le_bytes());
+            }
+            Value::Decimal(decimal) => {
+                self.scratch.push(ConceptValueKind::DecimalValue as u8);
+                self.scratch.extend_from_slice(&decimal.integer_part().to_le_bytes());
+                self.scratch.extend_from_slice(&decimal.fractional_part().to_le_bytes());
+            }
+            Value::String(string) => {
+                self.scratch.push(ConceptValueKind::StringValue as u8);
+                self.encode_str(string);
+            }
+            Value::Date(date) => {
+                self.scratch.push(ConceptValueKind::DateValue as u8);
+                let days = date.num_days_from_ce() - UNIX_EPOCH_DAYS_FROM_CE;
+                self.scratch.extend_from_slice(&days.to_le_bytes());
+            }
+            Value::Datetime(datetime) => {
+                self.scratch.push(ConceptValueKind::DatetimeValue as u8);
+                let datetime = datetime.and_utc();
+                self.scratch.extend_from_slice(&datetime.timestamp().to_le_bytes());
+                self.scratch.extend_from_slice(&datetime.timestamp_subsec_nanos().to_le_bytes());
+            }
+            Value::DatetimeTZ(datetime_tz) => {
+                self.scratch.push(ConceptValueKind::DatetimeTZValue as u8);
+                self.scratch.extend_from_slice(&datetime_tz.timestamp().to_le_bytes());
+                self.scratch.extend_from_slice(&datetime_tz.timestamp_subsec_nanos().to_le_bytes());
+                self.scratch.extend_from_slice(&datetime_tz.offset().fix().local_minus_utc().to_le_bytes());
+                match datetime_tz.timezone() {
+                    TimeZone::IANA(tz) => self.encode_str(tz.name()),
+                    TimeZone::Fixed(_) => self.encode_str(""),
+                }
+            }
+            Value::Duration(duration) => {
+                self.scratch.push(ConceptValueKind::DurationValue as u8);
+                self.scratch.extend_from_slice(&duration.months.to_le_bytes());
+                self.scratch.extend_from_slice(&duration.days.to_le_bytes());
+                self.scratch.extend_from_slice(&duration.nanos.to_le_bytes());
+            }
+            Value::Struct(..) => {
+                self.scratch.push(ConceptValueKind::StructValue as u8);
+                self.encode_str(&value.to_string());
+            }
+        }
+    }
+
+    fn encode_str(&mut self, string: &str) {
+        self.scratch.extend_from_slice(&(string.len() as u32).to_le_bytes());
+        self.scratch.extend_from_slice(string.as_bytes());
+    }
+}
+
+/// Creates a new <code>ConceptRowEncoder</code>. An encoder keeps the label dictionary shared by all
+/// batches it encodes, so a single encoder should be used for all rows of an answer.
+#[no_mangle]
+pub extern "C" fn concept_row_encoder_new() -> *mut ConceptRowEncoder {
+    release(ConceptRowEncoder::new())
+}
+
+/// Frees the native rust <code>ConceptRowEncoder</code> object.
+#[no_mangle]
+pub extern "C" fn concept_row_encoder_drop(encoder: *mut ConceptRowEncoder) {
+    free(encoder);
+}
+
+/// Returns the size of the buffer required to encode the row kept by the <code>ConceptRowEncoder</code>
+/// because it did not fit into the previous buffer, or 0 if no row is kept.
+#[no_mangle]
+pub extern "C" fn concept_row_encoder_pending_size(encoder: *const ConceptRowEncoder) -> usize {
+    borrow(encoder).pending_size()
+}
+
+/// Forwards the <code>ConceptRowIterator</code>, encoding up to <code>max_rows</code> next rows, as many as fit
+/// into the buffer of the given capacity, in the layout described by <code>ConceptRowEncoder</code>.
+/// Returns the number of bytes written, or 0 if there are no more rows. A row which does not fit is kept
+/// by the encoder for the next call; if it does not fit into an empty buffer, the error is set.
+#[no_mangle]
+pub extern "C" fn concept_row_iterator_next_encoded(
+    it: *mut ConceptRowIterator,
+    encoder: *mut ConceptRowEncoder,
+    max_rows: usize,
+    buffer: *mut u8,
+    capacity: usize,
+) -> usize {
+    assert!(!buffer.is_null());
+    let buffer = unsafe { slice::from_raw_parts_mut(buffer, capacity) };
+    unwrap_or_default(borrow_mut(encoder).encode_batch(&mut borrow_mut(it).0 .0, max_rows, buffer))
+}
+
+#[cfg(test)]
+mod test {
+    use std::sync::Arc;
+
+    use chrono::{FixedOffset, NaiveDate, TimeZone as _};
+    use typedb_driver::{
+        answer::{concept_row::ConceptRowHeader, ConceptRow, QueryType},
+        box_stream,
+        concept::{
+            value::{Decimal, Duration, TimeZone},
+            Attribute, AttributeType, Concept, Entity, EntityType, Relation, Value,
+        },
+        BoxStream, Result,
+    };
+
+    use super::{ConceptRowEncoder, BATCH_HEADER_SIZE, EMPTY_CELL, NO_LABEL};
+    use crate::concept::concept::{ConceptKind, ConceptValueKind};
+
+    struct Reader<'a> {
+        bytes: &'a [u8],
+    }
+
+    impl<'a> Reader<'a> {
+        fn take(&mut self, count: usize) -> &'a [u8] {
+            let (head, tail) = self.bytes.split_at(count);
+            self.bytes = tail;
+            head
+        }
+
+        fn u8(&mut self) -> u8 {
+            self.take(1)[0]
+        }
+
+        fn u16(&mut self) -> u16 {
+            u16::from_le_bytes(self.take(2).try_into().unwrap())
+        }
+
+        fn u32(&mut self) -> u32 {
+            u32::from_le_bytes(self.take(4).try_into().unwrap())
+        }
+
+        fn i32(&mut self) -> i32 {
+            i32::from_le_bytes(self.take(4).try_into().unwrap())
+        }
+
+        fn u64(&mut self) -> u64 {
+            u64::from_le_bytes(self.take(8).try_into().unwrap())
+        }
+
+        fn i64(&mut self) -> i64 {
+            i64::from_le_bytes(self.take(8).try_into().unwrap())
+        }
+
+        fn str(&mut self) -> &'a str {
+            let len = self.u32() as usize;
+            std::str::from_utf8(self.take(len)).unwrap()
+        }
+
+        fn new_label(&mut self, id: u32, label: &str) {
+            assert_eq!(self.u32(), id);
+            assert_eq!(self.str(), label);
+        }
+
+        fn known_label(&mut self, id: u32) {
+            assert_eq!(self.u32(), id);
+        }
+
+        fn value_kind(&mut self, kind: ConceptValueKind) {
+            assert_eq!(self.u8(), ConceptKind::ValueKind as u8);
+            assert_eq!(self.u8(), kind as u8);
+        }
+    }
+
+    fn row(concepts: Vec<Option<Concept>>) -> ConceptRow {
+        let column_names = (0..concepts.len()).map(|index| format!("c{index}")).collect();
+        ConceptRow::new(Arc::new(ConceptRowHeader { column_names, query_type: QueryType::ReadQuery }), concepts)
+    }
+
+    fn rows(rows: Vec<ConceptRow>) -> BoxStream<'static, Result<ConceptRow>> {
+        box_stream(rows.into_iter().map(Ok))
+    }
+
+    fn entity_type(label: &str) -> Concept {
+        Concept::EntityType(EntityType { label: label.into() })
+    }
+
+    fn value(value: Value) -> Option<Concept> {
+        Some(Concept::Value(value))
+    }
+
+    #[test]
+    fn encodes_every_concept_and_value_kind() {
+        let date = NaiveDate::from_ymd_opt(2024, 3, 1).unwrap();
+        let datetime = date.and_hms_nano_opt(12, 30, 15, 123).unwrap();
+        let london = TimeZone::IANA(chrono_tz::Europe::London).from_utc_datetime(&datetime);
+        let fixed = TimeZone::Fixed(FixedOffset::east_opt(-3600).unwrap()).from_utc_datetime(&datetime);
+        let mut stream = rows(vec![
+            row(vec![
+                Some(entity_type("person")),
+                Some(Concept::Entity(Entity {
+                    iid: vec![1, 2, 3].into(),
+                    type_: Some(EntityType { label: "person".into() }),
+                })),
+                None,
+                Some(Concept::Relation(Relation { iid: vec![4].into(), type_: None })),
+                Some(Concept::Attribute(Attribute {
+                    iid: vec![5, 6].into(),
+                    value: Value::String("Alice".to_owned()),
+                    type_: Some(AttributeType { label: "name".into(), value_type: None }),
+                })),
+            ]),
+            row(vec![
+                value(Value::Boolean(true)),
+                value(Value::Integer(-42)),
+                value(Value::Double(2.5)),
+                value(Value::Decimal(Decimal::new(-2, 5_000_000_000_000_000_000))),
+                value(Value::Date(date)),
+                value(Value::Datetime(datetime)),
+                value(Value::DatetimeTZ(london)),
+                value(Value::DatetimeTZ(fixed)),
+                value(Value::Duration(Duration::new(1, 2, 3))),
+            ]),
+        ]);
+        let mut encoder = ConceptRowEncoder::new();
+        let mut buffer = vec![0u8; 1024];
+        let written = encoder.encode_batch(&mut stream, 1, &mut buffer).unwrap();
+
+        let mut reader = Reader { bytes: &buffer[..written] };
+        assert_eq!(reader.u32(), 1);
+        assert_eq!(reader.u32(), 5);
+        assert_eq!(reader.u8(), ConceptKind::EntityTypeKind as u8);
+        reader.new_label(0, "person");
+        assert_eq!(reader.u8(), ConceptKind::EntityKind as u8);
+        reader.known_label(0);
+        assert_eq!(reader.u16(), 3);
+        assert_eq!(reader.take(3), &[1, 2, 3]);
+        assert_eq!(reader.u8(), EMPTY_CELL);
+        assert_eq!(reader.u8(), ConceptKind::RelationKind as u8);
+        reader.known_label(NO_LABEL);
+        assert_eq!(reader.u16(), 1);
+        assert_eq!(reader.take(1), &[4]);
+        assert_eq!(reader.u8(), ConceptKind::AttributeKind as u8);
+        reader.new_label(1, "name");
+        assert_eq!(reader.u8(), ConceptValueKind::StringValue as u8);
+        assert_eq!(reader.str(), "Alice");
+        assert!(reader.bytes.is_empty());
+
+        let written = encoder.encode_batch(&mut stream, 1, &mut buffer).unwrap();
+        let mut reader = Reader { bytes: &buffer[..written] };
+        assert_eq!(reader.u32(), 1);
+        assert_eq!(reader.u32(), 9);
+        reader.value_kind(ConceptValueKind::BooleanValue);
+        assert_eq!(reader.u8(), 1);
+        reader.value_kind(ConceptValueKind::IntegerValue);
+        assert_eq!(reader.i64(), -42);
+        reader.value_kind(ConceptValueKind::DoubleValue);
+        assert_eq!(f64::from_bits(reader.u64()), 2.5);
+        reader.value_kind(ConceptValueKind::DecimalValue);
+        assert_eq!(reader.i64(), -2);
+        assert_eq!(reader.u64(), 5_000_000_000_000_000_000);
+        reader.value_kind(ConceptValueKind::DateValue);
+        assert_eq!(reader.i32(), 19_783);
+        reader.value_kind(ConceptValueKind::DatetimeValue);
+        assert_eq!(reader.i64(), 1_709_296_215);
+        assert_eq!(reader.u32(), 123);
+        reader.value_kind(ConceptValueKind::DatetimeTZValue);
+        assert_eq!(reader.i64(), 1_709_296_215);
+        assert_eq!(reader.u32(), 123);
+        assert_eq!(reader.i32(), 0);
+        assert_eq!(reader.str(), "Europe/London");
+        reader.value_kind(ConceptValueKind::DatetimeTZValue);
+        assert_eq!(reader.i64(), 1_709_296_215);
+        assert_eq!(reader.u32(), 123);
+        assert_eq!(reader.i32(), -3600);
+        assert_eq!(reader.str(), "");
+        reader.value_kind(ConceptValueKind::DurationValue);
+        assert_eq!(reader.u32(), 1);
+        assert_eq!(reader.u32(), 2);
+        assert_eq!(reader.u64(), 3);
+        assert!(reader.bytes.is_empty());
+
+        assert_eq!(encoder.encode_batch(&mut stream, 1, &mut buffer).unwrap(), 0);
+    }
+
+    #[test]
+    fn labels_are_sent_once_across_batches() {
+        let mut stream = rows(vec![row(vec![Some(entity_type("person"))]), row(vec![Some(entity_type("person"))])]);
+        let mut encoder = ConceptRowEncoder::new();
+        let mut buffer = vec![0u8; 64];
+
+        let written = encoder.encode_batch(&mut stream, 1, &mut buffer).unwrap();
+        let mut reader = Reader { bytes: &buffer[BATCH_HEADER_SIZE..written] };
+        assert_eq!(reader.u8(), ConceptKind::EntityTypeKind as u8);
+        reader.new_label(0, "person");
+
+        let written = encoder.encode_batch(&mut stream, 1, &mut buffer).unwrap();
+        let mut reader = Reader { bytes: &buffer[BATCH_HEADER_SIZE..written] };
+        assert_eq!(reader.u8(), ConceptKind::EntityTypeKind as u8);
+        reader.known_label(0);
+        assert!(reader.bytes.is_empty());
+    }
+
+    #[test]
+    fn pending_row_keeps_its_labels_until_written() {
+        let mut stream = rows(vec![
+            row(vec![Some(entity_type("person"))]),
+            row(vec![Some(entity_type("company")), Some(entity_type("person"))]),
+        ]);
+        let mut encoder = ConceptRowEncoder::new();
+
+        // the second row does not fit after the first one, and is kept for the next batch
+        let mut buffer = vec![0u8; 32];
+        let written = encoder.encode_batch(&mut stream, 2, &mut buffer).unwrap();
+        assert_eq!(&buffer[0..4], &1u32.to_le_bytes());
+        assert_eq!(written, BATCH_HEADER_SIZE + 1 + 4 + 4 + "person".len());
+        let required = encoder.pending_size();
+        assert_eq!(required, BATCH_HEADER_SIZE + (1 + 4 + 4 + "company".len()) + (1 + 4));
+
+        // the kept row does not fit into an empty buffer either
+        let mut small = vec![0u8; required - 1];
+        assert!(encoder.encode_batch(&mut stream, 2, &mut small).is_err());
+        assert_eq!(encoder.pending_size(), required);
+        assert_eq!(encoder.label_ids.len(), 1);
+
+        let mut buffer = vec![0u8; required];
+        assert_eq!(encoder.encode_batch(&mut stream, 2, &mut buffer).unwrap(), required);
+        let mut reader = Reader { bytes: &buffer[BATCH_HEADER_SIZE..] };
+        assert_eq!(reader.u8(), ConceptKind::EntityTypeKind as u8);
+        reader.new_label(1, "company");
+        assert_eq!(reader.u8(), ConceptKind::EntityTypeKind as u8);
+        reader.known_label(0);
+        assert_eq!(encoder.pending_size(), 0);
+    }
+
+    #[test]
+    fn unwritten_rows_do_not_consume_label_ids() {
+        let mut encoder = ConceptRowEncoder::new();
+        encoder.encode_row(&row(vec![Some(entity_type("company")), Some(entity_type("company"))])).unwrap();
+        let mut reader = Reader { bytes: &encoder.scratch };
+        assert_eq!(reader.u8(), ConceptKind::EntityTypeKind as u8);
+        reader.new_label(0, "company");
+        assert_eq!(reader.u8(), ConceptKind::EntityTypeKind as u8);
+        reader.known_label(0);
+
+        // the row above was never written, so its label must be sent again with the same id space
+        let mut stream = rows(vec![row(vec![Some(entity_type("person")), Some(entity_type("company"))])]);
+        let mut buffer = vec![0u8; 64];
+        let written = encoder.encode_batch(&mut stream, 1, &mut buffer).unwrap();
+        let mut reader = Reader { bytes: &buffer[BATCH_HEADER_SIZE..written] };
+        assert_eq!(reader.u8(), ConceptKind::EntityTypeKind as u8);
+        reader.new_label(0, "person");
+        assert_eq!(reader.u8(), ConceptKind::EntityTypeKind as u8);
+        reader.new_label(1, "company");
+    }
+}
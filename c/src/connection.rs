@@ -17,14 +17,14 @@
  * under the License.
  */
 
-use std::{ffi::c_char, path::Path};
+use std::{ffi::c_char, path::Path, time::Duration};
 
 use itertools::Itertools;
-use typedb_driver::{Credentials, DriverOptions, TypeDBDriver};
+use typedb_driver::{error::ConnectionError, Credentials, DriverOptions, DriverRuntime, Error, Result, TypeDBDriver};
 
 use super::{
     error::{try_release, unwrap_void},
-    memory::{borrow, free, string_view},
+    memory::{borrow, borrow_mut, free, string_view},
 };
 use crate::memory::{release, string_array_view};
 
@@ -149,3 +149,113 @@ pub extern "C" fn driver_options_new(is_tls_enabled: bool, tls_root_ca: *const c
 pub extern "C" fn driver_options_drop(driver_options: *mut DriverOptions) {
     free(driver_options);
 }
+
+/// Sets how long, in microseconds, the driver waits for further requests of a transaction before sending them
+/// to the server in a single message. With zero, the requests that are already queued are sent together.
+/// If the window is negative, the error is set and the options are left unchanged.
+#[no_mangle]
+pub extern "C" fn driver_options_set_transaction_coalescing_window_micros(
+    driver_options: *mut DriverOptions,
+    coalescing_window_micros: i64,
+) {
+    let driver_options = borrow_mut(driver_options);
+    unwrap_void(non_negative("transaction_coalescing_window_micros", coalescing_window_micros).map(|micros| {
+        *driver_options = driver_options.clone().transaction_coalescing_window(Duration::from_micros(micros));
+    }))
+}
+
+/// Returns how long, in microseconds, the driver waits for further requests of a transaction before sending them.
+#[no_mangle]
+pub extern "C" fn driver_options_get_transaction_coalescing_window_micros(driver_options: *const DriverOptions) -> i64 {
+    borrow(driver_options).get_transaction_coalescing_window().as_micros() as i64
+}
+
+/// Sets the maximum size, in bytes, of a message carrying the coalesced requests of a transaction.
+/// If the size is negative, the error is set and the options are left unchanged.
+#[no_mangle]
+pub extern "C" fn driver_options_set_transaction_max_batch_size(
+    driver_options: *mut DriverOptions,
+    max_batch_size: i64,
+) {
+    let driver_options = borrow_mut(driver_options);
+    unwrap_void(non_negative("transaction_max_batch_size", max_batch_size).map(|max_batch_size| {
+        *driver_options = driver_options.clone().transaction_max_batch_size(max_batch_size);
+    }))
+}
+
+/// Returns the maximum size, in bytes, of a message carrying the coalesced requests of a transaction.
+#[no_mangle]
+pub extern "C" fn driver_options_get_transaction_max_batch_size(driver_options: *const DriverOptions) -> i64 {
+    borrow(driver_options).get_transaction_max_batch_size() as i64
+}
+
+/// Sets the number of threads running the network I/O and response processing of the driver.
+/// With more than one, the responses of concurrent transactions are decoded in parallel.
+/// If the number is negative, the error is set and the options are left unchanged.
+#[no_mangle]
+pub extern "C" fn driver_options_set_worker_threads(driver_options: *mut DriverOptions, worker_threads: i64) {
+    let driver_options = borrow_mut(driver_options);
+    unwrap_void(non_negative("worker_threads", worker_threads).map(|worker_threads| {
+        *driver_options = driver_options.clone().worker_threads(worker_threads);
+    }))
+}
+
+/// Returns the number of threads running the network I/O and response processing of the driver.
+#[no_mangle]
+pub extern "C" fn driver_options_get_worker_threads(driver_options: *const DriverOptions) -> i64 {
+    borrow(driver_options).get_worker_threads() as i64
+}
+
+/// Sets the number of threads executing callbacks, such as transaction on-close callbacks, in parallel.
+/// If the number is negative, the error is set and the options are left unchanged.
+#[no_mangle]
+pub extern "C" fn driver_options_set_callback_threads(driver_options: *mut DriverOptions, callback_threads: i64) {
+    let driver_options = borrow_mut(driver_options);
+    unwrap_void(non_negative("callback_threads", callback_threads).map(|callback_threads| {
+        *driver_options = driver_options.clone().callback_threads(callback_threads);
+    }))
+}
+
+/// Returns the number of threads executing callbacks.
+#[no_mangle]
+pub extern "C" fn driver_options_get_callback_threads(driver_options: *const DriverOptions) -> i64 {
+    borrow(driver_options).get_callback_threads() as i64
+}
+
+/// Sets a runtime shared with other drivers, instead of starting a dedicated one for the driver.
+/// The <code>DriverOptions</code> hold their own reference to the runtime.
+#[no_mangle]
+pub extern "C" fn driver_options_set_runtime(driver_options: *mut DriverOptions, runtime: *const DriverRuntime) {
+    let driver_options = borrow_mut(driver_options);
+    *driver_options = driver_options.clone().runtime(borrow(runtime).clone());
+}
+
+/// Starts a native runtime that can be shared by several drivers.
+/// If either number of threads is negative, the error is set and no runtime is started.
+///
+/// @param worker_threads The number of threads running the network I/O and response processing.
+/// @param callback_threads The number of threads executing callbacks.
+#[no_mangle]
+pub extern "C" fn driver_runtime_new(worker_threads: i64, callback_threads: i64) -> *mut DriverRuntime {
+    try_release(non_negative("worker_threads", worker_threads).and_then(|worker_threads| {
+        DriverRuntime::new(worker_threads, non_negative("callback_threads", callback_threads)?)
+    }))
+}
+
+/// Returns the number of references currently keeping this runtime running: the runtime handles and driver options
+/// holding it, and the drivers, server connections and open transactions using it.
+#[no_mangle]
+pub extern "C" fn driver_runtime_reference_count(runtime: *const DriverRuntime) -> i64 {
+    borrow(runtime).reference_count() as i64
+}
+
+/// Frees the native rust <code>DriverRuntime</code> handle.
+/// The runtime itself is shut down once no driver uses it anymore.
+#[no_mangle]
+pub extern "C" fn driver_runtime_drop(runtime: *mut DriverRuntime) {
+    free(runtime);
+}
+
+fn non_negative<T: TryFrom<i64>>(option: &'static str, value: i64) -> Result<T> {
+    T::try_from(value).map_err(|_| Error::from(ConnectionError::NegativeOptionValue { option, value }))
+}
@@ -81,6 +81,10 @@ pub(super) fn try_release_optional_arc<T>(result: Option<Arc<T>>) -> *const T {
     result.map(release_arc).unwrap_or_else(null)
 }
 
+pub(super) fn try_borrow_optional<T>(result: Result<Option<&T>>) -> *const T {
+    ok_record(result).flatten().map(|value| value as *const T).unwrap_or_else(null)
+}
+
 pub(super) fn unwrap_or_default<T: Copy + Default>(result: Result<T>) -> T {
     ok_record(result).unwrap_or_default()
 }
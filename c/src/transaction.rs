@@ -19,7 +19,10 @@
 
 use std::{ffi::c_char, ptr::null_mut};
 
-use typedb_driver::{DatabaseManager, Error, Transaction, TransactionType, TypeDBDriver};
+use typedb_driver::{
+    answer::QueryAnswer, error::ConnectionError, DatabaseManager, Error, Options, Result, Transaction, TransactionType,
+    TypeDBDriver,
+};
 
 use super::memory::{borrow, borrow_mut, free, release, take_ownership};
 use crate::{answer::QueryAnswerPromise, error::try_release, memory::string_view, promise::VoidPromise};
@@ -29,19 +32,138 @@ use crate::{answer::QueryAnswerPromise, error::try_release, memory::string_view,
 /// @param databases The <code>DatabaseManager</code> object on this connection.
 /// @param database_name The name of the database with which the transaction connects.
 /// @param type_ The type of transaction to be created (Write / Read / Schema).
+/// @param options Transaction options.
 #[no_mangle]
 pub extern "C" fn transaction_new(
     driver: *mut TypeDBDriver,
     database_name: *const c_char,
     type_: TransactionType,
+    options: *const Options,
 ) -> *mut Transaction {
-    try_release(borrow(driver).transaction(string_view(database_name), type_))
+    try_release(borrow(driver).transaction_with_options(string_view(database_name), type_, *borrow(options)))
 }
 
 /// Performs a TypeQL query in the transaction.
+///
+/// @param transaction The transaction in which to perform the query
+/// @param query The TypeQL query to be executed
+/// @param options Query options.
+#[no_mangle]
+pub extern "C" fn transaction_query(
+    transaction: *mut Transaction,
+    query: *const c_char,
+    options: *const Options,
+) -> *mut QueryAnswerPromise {
+    release(QueryAnswerPromise::new(Box::new(
+        borrow(transaction).query_with_options(string_view(query), *borrow(options)),
+    )))
+}
+
+/// Performs a TypeQL query in the transaction without blocking the caller.
+/// The callback is executed on the driver's callback thread once the query answer is available.
+/// It receives either the <code>QueryAnswer</code> or the <code>Error</code>, and takes ownership of it.
+///
+/// @param transaction The transaction in which to perform the query
+/// @param query The TypeQL query to be executed
+/// @param options Query options.
+/// @param callback_id The argument to be passed to the callback function when it is executed.
+/// @param callback The function to be called
+#[no_mangle]
+pub extern "C" fn transaction_query_with_callback(
+    transaction: *const Transaction,
+    query: *const c_char,
+    options: *const Options,
+    callback_id: usize,
+    callback: extern "C" fn(usize, *mut QueryAnswer, *mut Error),
+) {
+    borrow(transaction).query_with_callback(string_view(query), *borrow(options), move |result| match result {
+        Ok(answer) => callback(callback_id, release(answer), null_mut()),
+        Err(err) => callback(callback_id, null_mut(), release(err)),
+    });
+}
+
+/// A native buffer into which the caller writes the UTF-8 text of a query, so that the query can be handed
+/// to the transaction without being copied again.
+pub struct QueryBuffer(Vec<u8>);
+
+/// Allocates a zeroed <code>QueryBuffer</code> holding up to <code>capacity</code> bytes.
+#[no_mangle]
+pub extern "C" fn query_buffer_new(capacity: usize) -> *mut QueryBuffer {
+    release(QueryBuffer(vec![0; capacity]))
+}
+
+/// Returns a pointer to the first byte of the <code>QueryBuffer</code>, valid until it is freed or consumed.
 #[no_mangle]
-pub extern "C" fn transaction_query(transaction: *mut Transaction, query: *const c_char) -> *mut QueryAnswerPromise {
-    release(QueryAnswerPromise::new(Box::new(borrow(transaction).query(string_view(query)))))
+pub extern "C" fn query_buffer_data(buffer: *mut QueryBuffer) -> *mut u8 {
+    borrow_mut(buffer).0.as_mut_ptr()
+}
+
+/// Returns the number of bytes the <code>QueryBuffer</code> holds.
+#[no_mangle]
+pub extern "C" fn query_buffer_capacity(buffer: *const QueryBuffer) -> usize {
+    borrow(buffer).0.len()
+}
+
+/// Frees the native rust <code>QueryBuffer</code> object
+#[no_mangle]
+pub extern "C" fn query_buffer_drop(buffer: *mut QueryBuffer) {
+    free(buffer);
+}
+
+fn take_query(buffer: *mut QueryBuffer, length: usize) -> Result<String> {
+    let mut bytes = take_ownership(buffer).0;
+    bytes.truncate(length);
+    String::from_utf8(bytes)
+        .map_err(|err| ConnectionError::QueryInvalidUtf8 { valid_up_to: err.utf8_error().valid_up_to() }.into())
+}
+
+/// Performs a TypeQL query held in a <code>QueryBuffer</code> in the transaction.
+/// The buffer is consumed, and its bytes become the query text without being copied.
+///
+/// @param transaction The transaction in which to perform the query
+/// @param buffer The <code>QueryBuffer</code> holding the TypeQL query to be executed
+/// @param length The number of bytes of the query at the start of the buffer
+/// @param options Query options.
+#[no_mangle]
+pub extern "C" fn transaction_query_buffer(
+    transaction: *mut Transaction,
+    buffer: *mut QueryBuffer,
+    length: usize,
+    options: *const Options,
+) -> *mut QueryAnswerPromise {
+    try_release(take_query(buffer, length).map(|query| {
+        QueryAnswerPromise::new(Box::new(borrow(transaction).query_owned(query, *borrow(options))))
+    }))
+}
+
+/// Performs a TypeQL query held in a <code>QueryBuffer</code> in the transaction without blocking the caller.
+/// The buffer is consumed, and its bytes become the query text without being copied.
+/// The callback is executed as in <code>transaction_query_with_callback</code>, including when the query
+/// is not valid UTF-8.
+///
+/// @param transaction The transaction in which to perform the query
+/// @param buffer The <code>QueryBuffer</code> holding the TypeQL query to be executed
+/// @param length The number of bytes of the query at the start of the buffer
+/// @param options Query options.
+/// @param callback_id The argument to be passed to the callback function when it is executed.
+/// @param callback The function to be called
+#[no_mangle]
+pub extern "C" fn transaction_query_buffer_with_callback(
+    transaction: *const Transaction,
+    buffer: *mut QueryBuffer,
+    length: usize,
+    options: *const Options,
+    callback_id: usize,
+    callback: extern "C" fn(usize, *mut QueryAnswer, *mut Error),
+) {
+    let query = match take_query(buffer, length) {
+        Ok(query) => query,
+        Err(err) => return callback(callback_id, null_mut(), release(err)),
+    };
+    borrow(transaction).query_owned_with_callback(query, *borrow(options), move |result| match result {
+        Ok(answer) => callback(callback_id, release(answer), null_mut()),
+        Err(err) => callback(callback_id, null_mut(), release(err)),
+    });
 }
 
 /// Closes the transaction and frees the native rust object.
@@ -50,6 +172,20 @@ pub extern "C" fn transaction_close(txn: *mut Transaction) {
     free(txn);
 }
 
+/// Returns the number of answer rows (or documents) received for the queries of this transaction
+/// but not yet taken by their consumers.
+#[no_mangle]
+pub extern "C" fn transaction_buffered_rows(txn: *const Transaction) -> i64 {
+    borrow(txn).buffered_rows() as i64
+}
+
+/// Returns the number of bytes of encoded answers received for the queries of this transaction
+/// but not yet taken by their consumers.
+#[no_mangle]
+pub extern "C" fn transaction_buffered_bytes(txn: *const Transaction) -> i64 {
+    borrow(txn).buffered_bytes() as i64
+}
+
 /// Forcibly closes this transaction. To be used in exceptional cases.
 #[no_mangle]
 pub extern "C" fn transaction_force_close(txn: *mut Transaction) {
@@ -64,12 +200,48 @@ pub extern "C" fn transaction_commit(txn: *mut Transaction) -> *mut VoidPromise
     release(VoidPromise(Box::new(take_ownership(txn).commit())))
 }
 
+/// Commits the changes made via this transaction without blocking the caller.
+/// The native rust object is freed immediately; the callback is executed on the driver's callback thread
+/// once the commit has completed, and receives the <code>Error</code> (or null) with ownership.
+///
+/// @param txn The transaction to commit
+/// @param callback_id The argument to be passed to the callback function when it is executed.
+/// @param callback The function to be called
+#[no_mangle]
+pub extern "C" fn transaction_commit_with_callback(
+    txn: *mut Transaction,
+    callback_id: usize,
+    callback: extern "C" fn(usize, *mut Error),
+) {
+    take_ownership(txn).commit_with_callback(move |result| {
+        callback(callback_id, result.err().map(release).unwrap_or(null_mut()))
+    });
+}
+
 /// Rolls back the uncommitted changes made via this transaction.
 #[no_mangle]
 pub extern "C" fn transaction_rollback(txn: *const Transaction) -> *mut VoidPromise {
     release(VoidPromise(Box::new(borrow(txn).rollback())))
 }
 
+/// Rolls back the uncommitted changes made via this transaction without blocking the caller.
+/// The callback is executed on the driver's callback thread once the rollback has completed,
+/// and receives the <code>Error</code> (or null) with ownership.
+///
+/// @param txn The transaction to roll back
+/// @param callback_id The argument to be passed to the callback function when it is executed.
+/// @param callback The function to be called
+#[no_mangle]
+pub extern "C" fn transaction_rollback_with_callback(
+    txn: *const Transaction,
+    callback_id: usize,
+    callback: extern "C" fn(usize, *mut Error),
+) {
+    borrow(txn).rollback_with_callback(move |result| {
+        callback(callback_id, result.err().map(release).unwrap_or(null_mut()))
+    });
+}
+
 /// Checks whether this transaction is open.
 #[no_mangle]
 pub extern "C" fn transaction_is_open(txn: *const Transaction) -> bool {
@@ -55,8 +55,9 @@ struct Type {};
 %dropproxy(Error, error)
 
 %dropproxy(DriverOptions, driver_options)
+%dropproxy(DriverRuntime, driver_runtime)
 %dropproxy(Credentials, credentials)
-//%dropproxy(Options, options)
+%dropproxy(Options, options)
 
 #define typedb_driver_drop driver_close
 #define transaction_drop transaction_close
@@ -78,14 +79,18 @@ struct Type {};
 
 %dropproxy(ConceptRow, concept_row)
 %dropproxy(ConceptRowIterator, concept_row_iterator)
+%dropproxy(ConceptRowBatch, concept_row_batch)
+%dropproxy(ConceptRowEncoder, concept_row_encoder)
 
 %dropproxydefined(DatetimeAndTimeZone, datetime_and_time_zone)
 %dropproxydefined(StringAndOptValue, string_and_opt_value)
 %dropproxy(StringAndOptValueIterator, string_and_opt_value_iterator)
 
 %dropproxy(StringIterator, string_iterator)
+%dropproxy(Utf8Bytes, utf8_bytes)
 
 %dropproxy(QueryAnswer, query_answer)
+%dropproxy(QueryBuffer, query_buffer)
 
 %define %promiseproxy(Type, function_prefix)
 struct Type {};
@@ -111,35 +116,133 @@ struct TransactionCallbackDirector {
 %}
 
 %{
-#include <memory>
 #include <iostream>
+#include <mutex>
 #include <unordered_map>
-static std::unordered_map<size_t, TransactionCallbackDirector*> transactionOnCloseCallbacks {};
+// One-shot callbacks are executed at most once, on one of the driver's callback threads, and deleted afterwards.
+// The registries are shared by all drivers and callback threads, so they are guarded by a mutex.
+template <typename Director>
+class OneShotCallbacks {
+public:
+    size_t insert(Director* handler) {
+        std::lock_guard<std::mutex> guard(mutex);
+        size_t ID = nextID++;
+        callbacks.insert({ID, handler});
+        return ID;
+    }
+
+    Director* remove(size_t ID) {
+        std::lock_guard<std::mutex> guard(mutex);
+        auto it = callbacks.find(ID);
+        if (it == callbacks.end()) return nullptr;
+        Director* handler = it->second;
+        callbacks.erase(it);
+        return handler;
+    }
+
+private:
+    std::mutex mutex;
+    size_t nextID = 0;
+    std::unordered_map<size_t, Director*> callbacks;
+};
+
+static OneShotCallbacks<TransactionCallbackDirector> transactionOnCloseCallbacks {};
+
 static void transaction_callback_execute(size_t ID, Error* error) {
+    TransactionCallbackDirector* handler = transactionOnCloseCallbacks.remove(ID);
+    if (handler == nullptr) return;
     try {
-        transactionOnCloseCallbacks.at(ID)->callback(error);
-        transactionOnCloseCallbacks.erase(ID);
+        handler->callback(error);
     } catch (std::exception const& e) {
         std::cerr << "[ERROR] " << e.what() << std::endl;
     }
+    delete handler;
 }
 %}
 
 %rename(transaction_on_close) transaction_on_close_register;
 %ignore transaction_on_close;
 %inline %{
-#include <atomic>
 void transaction_on_close_register(const Transaction* transaction, TransactionCallbackDirector* handler) {
-    static std::atomic_size_t nextID;
-    std::size_t ID = nextID.fetch_add(1);
-    transactionOnCloseCallbacks.insert({ID, handler});
-    transaction_on_close(transaction, ID, &transaction_callback_execute);
+    transaction_on_close(transaction, transactionOnCloseCallbacks.insert(handler), &transaction_callback_execute);
+}
+%}
+
+%feature("director") QueryAnswerCallbackDirector;
+%inline %{
+struct QueryAnswerCallbackDirector {
+    QueryAnswerCallbackDirector() {}
+    virtual ~QueryAnswerCallbackDirector() {}
+    virtual void callback(QueryAnswer*, Error*) = 0;
+};
+%}
+
+%feature("director") VoidCallbackDirector;
+%inline %{
+struct VoidCallbackDirector {
+    VoidCallbackDirector() {}
+    virtual ~VoidCallbackDirector() {}
+    virtual void callback(Error*) = 0;
+};
+%}
+
+%{
+static OneShotCallbacks<QueryAnswerCallbackDirector> queryAnswerCallbacks {};
+static OneShotCallbacks<VoidCallbackDirector> voidCallbacks {};
+
+static void query_answer_callback_execute(size_t ID, QueryAnswer* answer, Error* error) {
+    QueryAnswerCallbackDirector* handler = queryAnswerCallbacks.remove(ID);
+    if (handler == nullptr) return;
+    try {
+        handler->callback(answer, error);
+    } catch (std::exception const& e) {
+        std::cerr << "[ERROR] " << e.what() << std::endl;
+    }
+    delete handler;
+}
+
+static void void_callback_execute(size_t ID, Error* error) {
+    VoidCallbackDirector* handler = voidCallbacks.remove(ID);
+    if (handler == nullptr) return;
+    try {
+        handler->callback(error);
+    } catch (std::exception const& e) {
+        std::cerr << "[ERROR] " << e.what() << std::endl;
+    }
+    delete handler;
+}
+%}
+
+%rename(transaction_query_with_callback) transaction_query_with_callback_register;
+%ignore transaction_query_with_callback;
+%rename(transaction_query_buffer_with_callback) transaction_query_buffer_with_callback_register;
+%ignore transaction_query_buffer_with_callback;
+%rename(transaction_commit_with_callback) transaction_commit_with_callback_register;
+%ignore transaction_commit_with_callback;
+%rename(transaction_rollback_with_callback) transaction_rollback_with_callback_register;
+%ignore transaction_rollback_with_callback;
+%inline %{
+void transaction_query_with_callback_register(const Transaction* transaction, const char* query, const Options* options, QueryAnswerCallbackDirector* handler) {
+    transaction_query_with_callback(transaction, query, options, queryAnswerCallbacks.insert(handler), &query_answer_callback_execute);
+}
+
+void transaction_query_buffer_with_callback_register(const Transaction* transaction, QueryBuffer* buffer, uintptr_t length, const Options* options, QueryAnswerCallbackDirector* handler) {
+    transaction_query_buffer_with_callback(transaction, buffer, length, options, queryAnswerCallbacks.insert(handler), &query_answer_callback_execute);
+}
+
+void transaction_commit_with_callback_register(Transaction* transaction, VoidCallbackDirector* handler) {
+    transaction_commit_with_callback(transaction, voidCallbacks.insert(handler), &void_callback_execute);
+}
+
+void transaction_rollback_with_callback_register(const Transaction* transaction, VoidCallbackDirector* handler) {
+    transaction_rollback_with_callback(transaction, voidCallbacks.insert(handler), &void_callback_execute);
 }
 %}
 
 %delobject database_delete;
 
 %delobject transaction_commit;
+%delobject transaction_commit_with_callback;
 
 %typemap(newfree) char* "string_free($1);";
 %ignore string_free;
@@ -148,9 +251,14 @@ void transaction_on_close_register(const Transaction* transaction, TransactionCa
 %newobject concept_row_get_column_names;
 %newobject concept_row_get_query_type;
 %newobject query_answer_get_query_type;
+%newobject query_answer_get_column_names;
 %newobject concept_row_get_concepts;
 %newobject concept_row_get_index;
 %newobject concept_row_to_string;
+%newobject concept_row_get_string;
+%newobject concept_row_get_string_index;
+%newobject concept_row_get_iid;
+%newobject concept_row_get_iid_index;
 
 %newobject value_get_string;
 %newobject value_get_datetime_tz;
@@ -166,14 +274,17 @@ void transaction_on_close_register(const Transaction* transaction, TransactionCa
 %newobject concept_get_label;
 %newobject concept_try_get_label;
 %newobject concept_try_get_iid;
+%newobject concept_try_get_iid_utf8;
 %newobject concept_try_get_value_type;
 %newobject concept_try_get_value;
+%newobject time_zone_name;
 
 %newobject driver_open_core;
 %newobject driver_open_cloud;
 %newobject driver_open_cloud_translated;
 
 %newobject driver_options_new;
+%newobject driver_runtime_new;
 %newobject credentials_new;
 
 %newobject database_get_name;
@@ -194,17 +305,23 @@ void transaction_on_close_register(const Transaction* transaction, TransactionCa
 %newobject error_code;
 %newobject error_message;
 
-//%newobject options_new;
+%newobject options_new;
 
 %newobject concept_iterator_next;
 %newobject concept_row_iterator_next;
+%newobject concept_row_iterator_next_batch;
+%newobject concept_row_batch_take;
+%newobject concept_row_encoder_new;
 %newobject database_iterator_next;
 %newobject string_iterator_next;
+%newobject string_iterator_next_utf8;
 %newobject string_and_opt_value_iterator_next;
 %newobject user_iterator_next;
 
 %newobject transaction_new;
 %newobject transaction_query;
+%newobject transaction_query_buffer;
+%newobject query_buffer_new;
 
 %newobject users_all;
 %newobject users_get_current_user;
@@ -42,11 +42,17 @@ artifacts = [
   "io.netty:netty-resolver",
   "io.netty:netty-tcnative-boringssl-static",
   "io.netty:netty-transport",
+  "io.projectreactor:reactor-core",
+  "io.reactivex.rxjava3:rxjava",
   "javax.annotation:javax.annotation-api",
   "junit:junit",
+  "org.apache.arrow:arrow-memory-core",
+  "org.apache.arrow:arrow-memory-unsafe",
+  "org.apache.arrow:arrow-vector",
   "org.hamcrest:hamcrest-all",
   "org.hamcrest:hamcrest-core",
   "org.hamcrest:hamcrest-library",
+  "org.reactivestreams:reactive-streams",
   "org.slf4j:jcl-over-slf4j",
   "org.slf4j:slf4j-api",
   "org.slf4j:log4j-over-slf4j",
@@ -56,4 +62,10 @@ artifacts = [
 
 # Override libraries conflicting with versions defined in @typedb_dependencies
 overrides = {
+  "io.projectreactor:reactor-core": "3.6.10",
+  "io.reactivex.rxjava3:rxjava": "3.1.9",
+  "org.apache.arrow:arrow-memory-core": "15.0.2",
+  "org.apache.arrow:arrow-memory-unsafe": "15.0.2",
+  "org.apache.arrow:arrow-vector": "15.0.2",
+  "org.reactivestreams:reactive-streams": "1.0.4",
 }
@@ -23,8 +23,21 @@ import com.typedb.driver.common.NativeObject;
 import com.typedb.driver.common.exception.TypeDBDriverException;
 
 import javax.annotation.Nullable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 
+import static com.typedb.driver.common.exception.ErrorMessage.Driver.NON_NEGATIVE_VALUE_REQUIRED;
+import static com.typedb.driver.common.exception.ErrorMessage.Driver.POSITIVE_VALUE_REQUIRED;
+import static com.typedb.driver.jni.typedb_driver.driver_options_get_callback_threads;
+import static com.typedb.driver.jni.typedb_driver.driver_options_get_transaction_coalescing_window_micros;
+import static com.typedb.driver.jni.typedb_driver.driver_options_get_transaction_max_batch_size;
+import static com.typedb.driver.jni.typedb_driver.driver_options_get_worker_threads;
 import static com.typedb.driver.jni.typedb_driver.driver_options_new;
+import static com.typedb.driver.jni.typedb_driver.driver_options_set_callback_threads;
+import static com.typedb.driver.jni.typedb_driver.driver_options_set_runtime;
+import static com.typedb.driver.jni.typedb_driver.driver_options_set_transaction_coalescing_window_micros;
+import static com.typedb.driver.jni.typedb_driver.driver_options_set_transaction_max_batch_size;
+import static com.typedb.driver.jni.typedb_driver.driver_options_set_worker_threads;
 
 /**
  * User connection settings (TLS encryption, etc.) for connecting to TypeDB Server.
@@ -35,6 +48,11 @@ import static com.typedb.driver.jni.typedb_driver.driver_options_new;
  * </pre>
  */
 public class DriverOptions extends NativeObject<com.typedb.driver.jni.DriverOptions> {
+    private static final Executor DIRECT_EXECUTOR = Runnable::run;
+
+    @Nullable
+    private Executor callbackExecutor = null;
+
     /**
      * @param isTlsEnabled  Specify whether the connection to TypeDB Server must be done over TLS.
      * @param tlsRootCAPath Path to the CA certificate to use for authenticating server certificates.
@@ -50,4 +68,210 @@ public class DriverOptions extends NativeObject<com.typedb.driver.jni.DriverOpti
             throw new TypeDBDriverException(error);
         }
     }
+
+    /**
+     * Returns how long, in microseconds, the driver waits for further requests of a transaction
+     * before sending them to the server in a single message.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * driverOptions.transactionCoalescingWindowMicros();
+     * </pre>
+     */
+    public long transactionCoalescingWindowMicros() {
+        return driver_options_get_transaction_coalescing_window_micros(nativeObject);
+    }
+
+    /**
+     * Sets how long, in microseconds, the driver waits for further requests of a transaction
+     * before sending them to the server in a single message. Defaults to 0: the requests
+     * that are already queued are sent together, without waiting.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * driverOptions.transactionCoalescingWindowMicros(50);
+     * </pre>
+     *
+     * @param transactionCoalescingWindowMicros How long to wait for further requests, in microseconds
+     */
+    public DriverOptions transactionCoalescingWindowMicros(long transactionCoalescingWindowMicros) {
+        if (transactionCoalescingWindowMicros < 0) {
+            throw new TypeDBDriverException(NON_NEGATIVE_VALUE_REQUIRED, transactionCoalescingWindowMicros);
+        }
+        try {
+            driver_options_set_transaction_coalescing_window_micros(nativeObject, transactionCoalescingWindowMicros);
+        } catch (com.typedb.driver.jni.Error error) {
+            throw new TypeDBDriverException(error);
+        }
+        return this;
+    }
+
+    /**
+     * Returns the maximum size, in bytes, of a message carrying the coalesced requests of a transaction.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * driverOptions.transactionMaxBatchSize();
+     * </pre>
+     */
+    public long transactionMaxBatchSize() {
+        return driver_options_get_transaction_max_batch_size(nativeObject);
+    }
+
+    /**
+     * Sets the maximum size, in bytes, of a message carrying the coalesced requests of a transaction.
+     * Values above the gRPC message limit of 1 000 000 bytes are capped to it.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * driverOptions.transactionMaxBatchSize(64 * 1024);
+     * </pre>
+     *
+     * @param transactionMaxBatchSize The maximum message size, in bytes
+     */
+    public DriverOptions transactionMaxBatchSize(long transactionMaxBatchSize) {
+        if (transactionMaxBatchSize < 1) {
+            throw new TypeDBDriverException(POSITIVE_VALUE_REQUIRED, transactionMaxBatchSize);
+        }
+        try {
+            driver_options_set_transaction_max_batch_size(nativeObject, transactionMaxBatchSize);
+        } catch (com.typedb.driver.jni.Error error) {
+            throw new TypeDBDriverException(error);
+        }
+        return this;
+    }
+
+    /**
+     * Returns the number of threads running the network I/O and response processing of the driver.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * driverOptions.workerThreads();
+     * </pre>
+     */
+    public int workerThreads() {
+        return (int) driver_options_get_worker_threads(nativeObject);
+    }
+
+    /**
+     * Sets the number of threads running the network I/O and response processing of the driver.
+     * Defaults to 1, in which case all transactions of the driver share a single thread; with more threads,
+     * the responses of concurrent transactions are decoded in parallel.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * driverOptions.workerThreads(Runtime.getRuntime().availableProcessors());
+     * </pre>
+     *
+     * @param workerThreads The number of worker threads
+     */
+    public DriverOptions workerThreads(int workerThreads) {
+        if (workerThreads < 1) {
+            throw new TypeDBDriverException(POSITIVE_VALUE_REQUIRED, workerThreads);
+        }
+        try {
+            driver_options_set_worker_threads(nativeObject, workerThreads);
+        } catch (com.typedb.driver.jni.Error error) {
+            throw new TypeDBDriverException(error);
+        }
+        return this;
+    }
+
+    /**
+     * Sets a runtime shared with other drivers, instead of starting a dedicated one for the driver.
+     * The worker thread count of these options is then ignored in favour of that of the shared runtime,
+     * and closing the driver leaves the runtime running for the other drivers using it.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * driverOptions.runtime(runtime);
+     * </pre>
+     *
+     * @param runtime The runtime to share
+     */
+    public DriverOptions runtime(DriverRuntime runtime) {
+        driver_options_set_runtime(nativeObject, runtime.nativeObject);
+        return this;
+    }
+
+    /**
+     * Returns the number of native threads executing callbacks, such as transaction on-close callbacks.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * driverOptions.callbackThreads();
+     * </pre>
+     */
+    public int callbackThreads() {
+        return (int) driver_options_get_callback_threads(nativeObject);
+    }
+
+    /**
+     * Sets the number of native threads executing callbacks, such as transaction on-close callbacks, in parallel.
+     * Defaults to 1, in which case callbacks are executed one after another.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * driverOptions.callbackThreads(4);
+     * </pre>
+     *
+     * @param callbackThreads The number of callback threads
+     */
+    public DriverOptions callbackThreads(int callbackThreads) {
+        if (callbackThreads < 1) {
+            throw new TypeDBDriverException(POSITIVE_VALUE_REQUIRED, callbackThreads);
+        }
+        try {
+            driver_options_set_callback_threads(nativeObject, callbackThreads);
+        } catch (com.typedb.driver.jni.Error error) {
+            throw new TypeDBDriverException(error);
+        }
+        return this;
+    }
+
+    /**
+     * Returns the executor on which the transaction on-close callbacks of the driver are run.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * driverOptions.callbackExecutor();
+     * </pre>
+     */
+    public Executor callbackExecutor() {
+        return callbackExecutor == null ? DIRECT_EXECUTOR : callbackExecutor;
+    }
+
+    /**
+     * Returns the executor on which the futures of asynchronous transaction operations of the driver are completed,
+     * and so on which the stages attached to them run by default. This is the executor set with
+     * <code>callbackExecutor</code> or, if none is set, the common fork-join pool, so that a stage waiting on
+     * another operation of the driver never blocks the native callback threads that would complete it.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * driverOptions.futureExecutor();
+     * </pre>
+     */
+    public Executor futureExecutor() {
+        return callbackExecutor == null ? ForkJoinPool.commonPool() : callbackExecutor;
+    }
+
+    /**
+     * Sets the executor on which the transaction on-close callbacks of the driver are run, and on which the futures
+     * of its asynchronous transaction operations are completed. By default, on-close callbacks are run directly on
+     * the native callback threads, so a slow callback holds up the callbacks queued behind it, and futures are
+     * completed on the common fork-join pool. An executor running tasks on the calling thread makes stages attached
+     * to those futures run on the native callback threads, where waiting on another operation deadlocks.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * driverOptions.callbackExecutor(ForkJoinPool.commonPool());
+     * </pre>
+     *
+     * @param callbackExecutor The executor to run the callbacks on
+     */
+    public DriverOptions callbackExecutor(Executor callbackExecutor) {
+        this.callbackExecutor = callbackExecutor;
+        return this;
+    }
 }
@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.typedb.driver.api;
+
+import com.typedb.driver.common.NativeObject;
+import com.typedb.driver.common.exception.TypeDBDriverException;
+
+import static com.typedb.driver.common.exception.ErrorMessage.Driver.POSITIVE_VALUE_REQUIRED;
+import static com.typedb.driver.common.exception.ErrorMessage.Driver.RUNTIME_CLOSED;
+import static com.typedb.driver.jni.typedb_driver.driver_runtime_new;
+import static com.typedb.driver.jni.typedb_driver.driver_runtime_reference_count;
+
+/**
+ * A native runtime (network I/O threads and callback handler thread) that can be shared by several drivers,
+ * so that the number of native threads scales with the load rather than with the number of drivers.
+ * Each driver opened with it holds its own reference: the runtime is shut down once this handle
+ * and all of those drivers have been closed.
+ *
+ * <h3>Examples</h3>
+ * <pre>
+ * try (DriverRuntime runtime = new DriverRuntime(4)) {
+ *     Driver driver = TypeDB.coreDriver(address, credentials, new DriverOptions(false, null).runtime(runtime));
+ * }
+ * </pre>
+ */
+public class DriverRuntime extends NativeObject<com.typedb.driver.jni.DriverRuntime> implements AutoCloseable {
+    /**
+     * @param workerThreads The number of threads running the network I/O and response processing.
+     */
+    public DriverRuntime(int workerThreads) {
+        this(workerThreads, 1);
+    }
+
+    /**
+     * @param workerThreads   The number of threads running the network I/O and response processing.
+     * @param callbackThreads The number of threads executing callbacks, such as transaction on-close callbacks.
+     */
+    public DriverRuntime(int workerThreads, int callbackThreads) {
+        super(newNative(workerThreads, callbackThreads));
+    }
+
+    private static com.typedb.driver.jni.DriverRuntime newNative(int workerThreads, int callbackThreads) {
+        if (workerThreads < 1) throw new TypeDBDriverException(POSITIVE_VALUE_REQUIRED, workerThreads);
+        if (callbackThreads < 1) throw new TypeDBDriverException(POSITIVE_VALUE_REQUIRED, callbackThreads);
+        try {
+            return driver_runtime_new(workerThreads, callbackThreads);
+        } catch (com.typedb.driver.jni.Error error) {
+            throw new TypeDBDriverException(error);
+        }
+    }
+
+    /**
+     * Returns the number of references currently keeping this runtime running: the runtime handles and driver options
+     * holding it, and the drivers, server connections and open transactions using it.
+     * Throws if this handle has been closed.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * runtime.referenceCount();
+     * </pre>
+     */
+    public long referenceCount() {
+        if (!nativeObject.isOwned()) throw new TypeDBDriverException(RUNTIME_CLOSED);
+        return driver_runtime_reference_count(nativeObject);
+    }
+
+    /**
+     * Releases this handle on the runtime. The drivers already opened with it keep it running until they are closed.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * runtime.close();
+     * </pre>
+     */
+    @Override
+    public void close() {
+        nativeObject.delete();
+    }
+}
@@ -23,6 +23,8 @@ import com.typedb.driver.api.answer.QueryAnswer;
 import com.typedb.driver.common.Promise;
 
 import javax.annotation.CheckReturnValue;
+import java.nio.ByteBuffer;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 
 public interface Transaction extends AutoCloseable {
@@ -37,6 +39,30 @@ public interface Transaction extends AutoCloseable {
     @CheckReturnValue
     boolean isOpen();
 
+    /**
+     * Returns the number of answer rows (or documents) received for the queries of this transaction
+     * but not yet taken by their consumers.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * transaction.bufferedRows();
+     * </pre>
+     */
+    @CheckReturnValue
+    long bufferedRows();
+
+    /**
+     * Returns the number of bytes of encoded answers received for the queries of this transaction
+     * but not yet taken by their consumers.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * transaction.bufferedBytes();
+     * </pre>
+     */
+    @CheckReturnValue
+    long bufferedBytes();
+
     /**
      * The transaction’s type (READ, WRITE, or SCHEMA)
      *
@@ -48,11 +74,16 @@ public interface Transaction extends AutoCloseable {
     @CheckReturnValue
     Type getType();
 
-//    /**
-//     * The options for the transaction
-//     */
-//    @CheckReturnValue
-//    Options options();
+    /**
+     * The options for the transaction
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * transaction.options();
+     * </pre>
+     */
+    @CheckReturnValue
+    Options options();
 
     /**
      * Execute a TypeQL query in this transaction.
@@ -67,8 +98,171 @@ public interface Transaction extends AutoCloseable {
     @CheckReturnValue
     Promise<? extends QueryAnswer> query(String query) throws com.typedb.driver.common.exception.TypeDBDriverException;
 
+    /**
+     * Execute a TypeQL query in this transaction, with the given options.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * transaction.query("match $x isa person;", new Options().prefetchSize(256));
+     * </pre>
+     *
+     * @param query   The query to execute.
+     * @param options <code>Options</code> for the query
+     */
+    @CheckReturnValue
+    Promise<? extends QueryAnswer> query(String query, Options options) throws com.typedb.driver.common.exception.TypeDBDriverException;
+
+    /**
+     * Execute a TypeQL query in this transaction without blocking the calling thread.
+     * The returned future is completed by the driver once the query answer is available,
+     * or completed exceptionally with a <code>TypeDBDriverException</code> if the query fails.
+     * The future is completed on the executor given by <code>DriverOptions.futureExecutor</code>, so stages attached
+     * to it may wait on other operations of the driver.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * transaction.queryAsync("match $x isa person;").thenAccept(answer -> ...);
+     * </pre>
+     *
+     * @param query The query to execute.
+     */
+    @CheckReturnValue
+    CompletableFuture<? extends QueryAnswer> queryAsync(String query) throws com.typedb.driver.common.exception.TypeDBDriverException;
+
+    /**
+     * Execute a TypeQL query in this transaction, with the given options, without blocking the calling thread.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * transaction.queryAsync("match $x isa person;", new Options().prefetchSize(256));
+     * </pre>
+     *
+     * @param query   The query to execute.
+     * @param options <code>Options</code> for the query
+     */
+    @CheckReturnValue
+    CompletableFuture<? extends QueryAnswer> queryAsync(String query, Options options) throws com.typedb.driver.common.exception.TypeDBDriverException;
+
+    /**
+     * Execute a large TypeQL query in this transaction. The query is encoded into UTF-8 straight into native memory,
+     * and handed to the request without being copied again, so it need not be built into a <code>String</code>.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * transaction.query(insertQueryBuilder);
+     * </pre>
+     *
+     * @param query The query to execute.
+     */
+    @CheckReturnValue
+    Promise<? extends QueryAnswer> query(CharSequence query) throws com.typedb.driver.common.exception.TypeDBDriverException;
+
+    /**
+     * Execute a large TypeQL query in this transaction, with the given options.
+     * See <code>query(CharSequence)</code>.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * transaction.query(insertQueryBuilder, new Options());
+     * </pre>
+     *
+     * @param query   The query to execute.
+     * @param options <code>Options</code> for the query
+     */
+    @CheckReturnValue
+    Promise<? extends QueryAnswer> query(CharSequence query, Options options) throws com.typedb.driver.common.exception.TypeDBDriverException;
+
+    /**
+     * Execute a TypeQL query, given as UTF-8 bytes, in this transaction. The remaining bytes of the buffer are
+     * copied once into native memory and handed to the request without being copied again.
+     * The position of the buffer is not changed.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * transaction.query(ByteBuffer.wrap(queryFileBytes));
+     * </pre>
+     *
+     * @param utf8 The UTF-8 bytes of the query to execute.
+     */
+    @CheckReturnValue
+    Promise<? extends QueryAnswer> query(ByteBuffer utf8) throws com.typedb.driver.common.exception.TypeDBDriverException;
+
+    /**
+     * Execute a TypeQL query, given as UTF-8 bytes, in this transaction, with the given options.
+     * See <code>query(ByteBuffer)</code>.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * transaction.query(ByteBuffer.wrap(queryFileBytes), new Options());
+     * </pre>
+     *
+     * @param utf8    The UTF-8 bytes of the query to execute.
+     * @param options <code>Options</code> for the query
+     */
+    @CheckReturnValue
+    Promise<? extends QueryAnswer> query(ByteBuffer utf8, Options options) throws com.typedb.driver.common.exception.TypeDBDriverException;
+
+    /**
+     * Execute a large TypeQL query in this transaction without blocking the calling thread.
+     * See <code>query(CharSequence)</code> and <code>queryAsync(String)</code>.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * transaction.queryAsync(insertQueryBuilder).thenAccept(answer -> ...);
+     * </pre>
+     *
+     * @param query The query to execute.
+     */
+    @CheckReturnValue
+    CompletableFuture<? extends QueryAnswer> queryAsync(CharSequence query) throws com.typedb.driver.common.exception.TypeDBDriverException;
+
+    /**
+     * Execute a large TypeQL query in this transaction, with the given options, without blocking the calling thread.
+     * See <code>query(CharSequence)</code> and <code>queryAsync(String)</code>.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * transaction.queryAsync(insertQueryBuilder, new Options());
+     * </pre>
+     *
+     * @param query   The query to execute.
+     * @param options <code>Options</code> for the query
+     */
+    @CheckReturnValue
+    CompletableFuture<? extends QueryAnswer> queryAsync(CharSequence query, Options options) throws com.typedb.driver.common.exception.TypeDBDriverException;
+
+    /**
+     * Execute a TypeQL query, given as UTF-8 bytes, in this transaction without blocking the calling thread.
+     * See <code>query(ByteBuffer)</code> and <code>queryAsync(String)</code>.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * transaction.queryAsync(ByteBuffer.wrap(queryFileBytes)).thenAccept(answer -> ...);
+     * </pre>
+     *
+     * @param utf8 The UTF-8 bytes of the query to execute.
+     */
+    @CheckReturnValue
+    CompletableFuture<? extends QueryAnswer> queryAsync(ByteBuffer utf8) throws com.typedb.driver.common.exception.TypeDBDriverException;
+
+    /**
+     * Execute a TypeQL query, given as UTF-8 bytes, in this transaction, with the given options,
+     * without blocking the calling thread. See <code>query(ByteBuffer)</code> and <code>queryAsync(String)</code>.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * transaction.queryAsync(ByteBuffer.wrap(queryFileBytes), new Options());
+     * </pre>
+     *
+     * @param utf8    The UTF-8 bytes of the query to execute.
+     * @param options <code>Options</code> for the query
+     */
+    @CheckReturnValue
+    CompletableFuture<? extends QueryAnswer> queryAsync(ByteBuffer utf8, Options options) throws com.typedb.driver.common.exception.TypeDBDriverException;
+
     /**
      * Registers a callback function which will be executed when this transaction is closed.
+     * The callback is run on the executor set in <code>DriverOptions.callbackExecutor</code>.
      *
      * <h3>Examples</h3>
      * <pre>
@@ -89,6 +283,17 @@ public interface Transaction extends AutoCloseable {
      */
     void commit()  throws com.typedb.driver.common.exception.TypeDBDriverException;
 
+    /**
+     * Commits the changes made via this transaction without blocking the calling thread.
+     * Whether or not the transaction is commited successfully, it gets closed after the commit call.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * transaction.commitAsync().join()
+     * </pre>
+     */
+    CompletableFuture<Void> commitAsync() throws com.typedb.driver.common.exception.TypeDBDriverException;
+
     /**
      * Rolls back the uncommitted changes made via this transaction.
      *
@@ -99,6 +304,16 @@ public interface Transaction extends AutoCloseable {
      */
     void rollback() throws com.typedb.driver.common.exception.TypeDBDriverException;
 
+    /**
+     * Rolls back the uncommitted changes made via this transaction without blocking the calling thread.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * transaction.rollbackAsync().join()
+     * </pre>
+     */
+    CompletableFuture<Void> rollbackAsync() throws com.typedb.driver.common.exception.TypeDBDriverException;
+
     /**
      * Closes the transaction.
      *
@@ -0,0 +1,215 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.typedb.driver.api.answer;
+
+import javax.annotation.CheckReturnValue;
+import java.util.List;
+
+/**
+ * A batch of <code>ConceptRow</code>s stored column by column, as primitive arrays indexed by row.
+ * The arrays are backed by the batch, and must not be modified.
+ */
+public interface ColumnBatch {
+    /**
+     * The storage of a column, determined by the concepts it holds within the batch.
+     */
+    enum ColumnType {
+        /**
+         * All cells of the column are empty.
+         */
+        EMPTY,
+        /**
+         * All non-empty cells hold <code>boolean</code> attributes or values, stored in <code>booleans</code>.
+         */
+        BOOLEAN,
+        /**
+         * All non-empty cells hold <code>integer</code> attributes or values, stored in <code>longs</code>.
+         */
+        INTEGER,
+        /**
+         * All non-empty cells hold <code>double</code> attributes or values, stored in <code>doubles</code>.
+         */
+        DOUBLE,
+        /**
+         * All non-empty cells hold <code>string</code> attributes or values, dictionary-encoded in
+         * <code>stringCodes</code> and <code>stringDictionary</code>.
+         */
+        STRING,
+        /**
+         * The column holds types, instances, other values, or a mix of those. Only labels are stored.
+         */
+        OTHER
+    }
+
+    /**
+     * Retrieves the number of rows in this batch.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * batch.rowCount();
+     * </pre>
+     */
+    @CheckReturnValue
+    int rowCount();
+
+    /**
+     * Retrieves the number of columns in this batch, as in the header of the answer.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * batch.columnCount();
+     * </pre>
+     */
+    @CheckReturnValue
+    int columnCount();
+
+    /**
+     * Retrieves the storage of the given column in this batch.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * batch.columnType(column);
+     * </pre>
+     *
+     * @param column the column index
+     */
+    @CheckReturnValue
+    ColumnType columnType(int column);
+
+    /**
+     * Checks if the cell of the given column and row is empty.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * batch.isNull(column, row);
+     * </pre>
+     *
+     * @param column the column index
+     * @param row the row index
+     */
+    @CheckReturnValue
+    boolean isNull(int column, int row);
+
+    /**
+     * Retrieves the null bitmap of the given column: the bit <code>row % 64</code> of the word
+     * <code>row / 64</code> is set if the cell of that row is empty.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * batch.nullBitmap(column);
+     * </pre>
+     *
+     * @param column the column index
+     */
+    @CheckReturnValue
+    long[] nullBitmap(int column);
+
+    /**
+     * Retrieves the values of a <code>BOOLEAN</code> column. Empty cells hold <code>false</code>.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * batch.booleans(column);
+     * </pre>
+     *
+     * @param column the column index
+     */
+    @CheckReturnValue
+    boolean[] booleans(int column);
+
+    /**
+     * Retrieves the values of an <code>INTEGER</code> column. Empty cells hold <code>0</code>.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * batch.longs(column);
+     * </pre>
+     *
+     * @param column the column index
+     */
+    @CheckReturnValue
+    long[] longs(int column);
+
+    /**
+     * Retrieves the values of a <code>DOUBLE</code> column. Empty cells hold <code>0</code>.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * batch.doubles(column);
+     * </pre>
+     *
+     * @param column the column index
+     */
+    @CheckReturnValue
+    double[] doubles(int column);
+
+    /**
+     * Retrieves the codes of a <code>STRING</code> column, as indices into its <code>stringDictionary</code>.
+     * Empty cells hold <code>-1</code>.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * batch.stringCodes(column);
+     * </pre>
+     *
+     * @param column the column index
+     */
+    @CheckReturnValue
+    int[] stringCodes(int column);
+
+    /**
+     * Retrieves the distinct strings of a <code>STRING</code> column in this batch.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * batch.stringDictionary(column);
+     * </pre>
+     *
+     * @param column the column index
+     */
+    @CheckReturnValue
+    String[] stringDictionary(int column);
+
+    /**
+     * Retrieves the label codes of the given column, as indices into the <code>labelDictionary</code>.
+     * Cells holding a type or an instance hold the code of its (type's) label, other cells hold <code>-1</code>.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * batch.labelCodes(column);
+     * </pre>
+     *
+     * @param column the column index
+     */
+    @CheckReturnValue
+    int[] labelCodes(int column);
+
+    /**
+     * Retrieves the label dictionary. It is shared by all batches of an answer, so label codes can be
+     * compared across batches.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * batch.labelDictionary().get(code);
+     * </pre>
+     */
+    @CheckReturnValue
+    List<String> labelDictionary();
+}
@@ -0,0 +1,49 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.typedb.driver.api.answer;
+
+import javax.annotation.CheckReturnValue;
+
+/**
+ * A column of a <code>ConceptRowHeader</code>, resolved once and reusable for every row of the same answer.
+ */
+public interface ColumnRef {
+    /**
+     * Retrieves the column name (variable) this reference was resolved from.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * column.name();
+     * </pre>
+     */
+    @CheckReturnValue
+    String name();
+
+    /**
+     * Retrieves the index of this column in the header.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * column.index();
+     * </pre>
+     */
+    @CheckReturnValue
+    long index();
+}
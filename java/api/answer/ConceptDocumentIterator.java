@@ -19,6 +19,8 @@
 
 package com.typedb.driver.api.answer;
 
+import com.typedb.driver.common.Utf8View;
+
 import javax.annotation.CheckReturnValue;
 import java.util.Iterator;
 import java.util.stream.Stream;
@@ -46,4 +48,15 @@ public interface ConceptDocumentIterator extends QueryAnswer, Iterator<JSON> {
 
     @CheckReturnValue
     Stream<JSON> stream();
+
+    /**
+     * Streams the remaining concept documents as their JSON text in UTF-8, without parsing or decoding them.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * answer.asConceptDocuments().streamUTF8().mapToInt(Utf8View::length).sum();
+     * </pre>
+     */
+    @CheckReturnValue
+    Stream<Utf8View> streamUTF8();
 }
@@ -79,6 +79,188 @@ public interface ConceptRow {
     @CheckReturnValue
     Concept getIndex(long columnIndex);
 
+    /**
+     * Retrieves a concept for a column resolved from the header of this row's answer.
+     * The column is accessed by index, without looking up its name.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * conceptRow.get(answer.header().column(columnName));
+     * </pre>
+     *
+     * @param column the column resolved from <code>ConceptRowIterator.header()</code>
+     */
+    @CheckReturnValue
+    Concept get(ColumnRef column);
+
+    /**
+     * Retrieves an <code>integer</code> value for a given column name (variable) without materialising a <code>Concept</code>.
+     * Throws if the column is empty or holds a different kind of concept.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * conceptRow.getLong(columnName);
+     * </pre>
+     *
+     * @param columnName the variable (column name from ``column_names``)
+     */
+    @CheckReturnValue
+    long getLong(String columnName);
+
+    /**
+     * Retrieves an <code>integer</code> value for a given index of the header (<code>columnNames</code>) without materialising
+     * a <code>Concept</code>. Throws if the column is empty or holds a different kind of concept.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * conceptRow.getLong(columnIndex);
+     * </pre>
+     *
+     * @param columnIndex the column index
+     */
+    @CheckReturnValue
+    long getLong(long columnIndex);
+
+    /**
+     * Retrieves a <code>double</code> value for a given column name (variable) without materialising a <code>Concept</code>.
+     * Throws if the column is empty or holds a different kind of concept.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * conceptRow.getDouble(columnName);
+     * </pre>
+     *
+     * @param columnName the variable (column name from ``column_names``)
+     */
+    @CheckReturnValue
+    double getDouble(String columnName);
+
+    /**
+     * Retrieves a <code>double</code> value for a given index of the header (<code>columnNames</code>) without materialising
+     * a <code>Concept</code>. Throws if the column is empty or holds a different kind of concept.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * conceptRow.getDouble(columnIndex);
+     * </pre>
+     *
+     * @param columnIndex the column index
+     */
+    @CheckReturnValue
+    double getDouble(long columnIndex);
+
+    /**
+     * Retrieves a <code>boolean</code> value for a given column name (variable) without materialising a <code>Concept</code>.
+     * Throws if the column is empty or holds a different kind of concept.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * conceptRow.getBoolean(columnName);
+     * </pre>
+     *
+     * @param columnName the variable (column name from ``column_names``)
+     */
+    @CheckReturnValue
+    boolean getBoolean(String columnName);
+
+    /**
+     * Retrieves a <code>boolean</code> value for a given index of the header (<code>columnNames</code>) without materialising
+     * a <code>Concept</code>. Throws if the column is empty or holds a different kind of concept.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * conceptRow.getBoolean(columnIndex);
+     * </pre>
+     *
+     * @param columnIndex the column index
+     */
+    @CheckReturnValue
+    boolean getBoolean(long columnIndex);
+
+    /**
+     * Retrieves a <code>string</code> value for a given column name (variable) without materialising a <code>Concept</code>.
+     * Throws if the column is empty or holds a different kind of concept.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * conceptRow.getString(columnName);
+     * </pre>
+     *
+     * @param columnName the variable (column name from ``column_names``)
+     */
+    @CheckReturnValue
+    String getString(String columnName);
+
+    /**
+     * Retrieves a <code>string</code> value for a given index of the header (<code>columnNames</code>) without materialising
+     * a <code>Concept</code>. Throws if the column is empty or holds a different kind of concept.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * conceptRow.getString(columnIndex);
+     * </pre>
+     *
+     * @param columnIndex the column index
+     */
+    @CheckReturnValue
+    String getString(long columnIndex);
+
+    /**
+     * Retrieves a <code>date</code>, <code>datetime</code> or <code>datetime-tz</code> value as nanoseconds since the UNIX epoch for a given column name (variable) without materialising a <code>Concept</code>.
+     * Throws if the column is empty or holds a different kind of concept.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * conceptRow.getEpochNanos(columnName);
+     * </pre>
+     *
+     * @param columnName the variable (column name from ``column_names``)
+     */
+    @CheckReturnValue
+    long getEpochNanos(String columnName);
+
+    /**
+     * Retrieves a <code>date</code>, <code>datetime</code> or <code>datetime-tz</code> value as nanoseconds since the UNIX epoch for a given index of the header (<code>columnNames</code>) without materialising
+     * a <code>Concept</code>. Throws if the column is empty or holds a different kind of concept.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * conceptRow.getEpochNanos(columnIndex);
+     * </pre>
+     *
+     * @param columnIndex the column index
+     */
+    @CheckReturnValue
+    long getEpochNanos(long columnIndex);
+
+    /**
+     * Retrieves the IID of an instance for a given column name (variable) without materialising a <code>Concept</code>.
+     * Throws if the column is empty or holds a different kind of concept.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * conceptRow.getIID(columnName);
+     * </pre>
+     *
+     * @param columnName the variable (column name from ``column_names``)
+     */
+    @CheckReturnValue
+    String getIID(String columnName);
+
+    /**
+     * Retrieves the IID of an instance for a given index of the header (<code>columnNames</code>) without materialising
+     * a <code>Concept</code>. Throws if the column is empty or holds a different kind of concept.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * conceptRow.getIID(columnIndex);
+     * </pre>
+     *
+     * @param columnIndex the column index
+     */
+    @CheckReturnValue
+    String getIID(long columnIndex);
+
     /**
      * Produces a stream over all concepts in this `ConceptRow`, skipping empty results.
      *
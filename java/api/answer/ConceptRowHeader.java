@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.typedb.driver.api.answer;
+
+import com.typedb.driver.api.QueryType;
+
+import javax.annotation.CheckReturnValue;
+import java.util.stream.Stream;
+
+/**
+ * The header shared by all <code>ConceptRow</code>s of a query answer.
+ */
+public interface ConceptRowHeader {
+    /**
+     * Produces a stream over all column names (variables) in this header.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * header.columnNames();
+     * </pre>
+     */
+    @CheckReturnValue
+    Stream<String> columnNames();
+
+    /**
+     * Retrieves the executed query's type.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * header.getQueryType();
+     * </pre>
+     */
+    @CheckReturnValue
+    QueryType getQueryType();
+
+    /**
+     * Resolves a column name (variable) to a <code>ColumnRef</code> that can be used to access
+     * the column in every row of this answer by index.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * header.column(columnName);
+     * </pre>
+     *
+     * @param columnName the variable (column name from <code>columnNames</code>)
+     */
+    @CheckReturnValue
+    ColumnRef column(String columnName);
+}
@@ -20,7 +20,11 @@
 package com.typedb.driver.api.answer;
 
 import javax.annotation.CheckReturnValue;
+import java.nio.ByteBuffer;
 import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
 import java.util.stream.Stream;
 
 /**
@@ -44,8 +48,93 @@ public interface ConceptRowIterator extends QueryAnswer, Iterator<ConceptRow> {
         return this;
     }
 
+    /**
+     * Retrieves the header shared by all <code>ConceptRow</code>s of this answer.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * answer.asConceptRows().header();
+     * </pre>
+     */
+    @CheckReturnValue
+    ConceptRowHeader header();
+
+    /**
+     * Fetches up to <code>maxRows</code> next <code>ConceptRow</code>s with a single native call.
+     * Waits for at least one row, and returns an empty list only when the iterator is exhausted.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * answer.asConceptRows().nextBatch(maxRows);
+     * </pre>
+     *
+     * @param maxRows The maximum number of rows to fetch, at least 1
+     */
+    @CheckReturnValue
+    List<ConceptRow> nextBatch(int maxRows);
+
+    /**
+     * Encodes as many next <code>ConceptRow</code>s as fit into the given direct <code>ByteBuffer</code> with
+     * a single native call, and returns a reader decoding them from the buffer without further native calls.
+     * The returned reader is reused by the next call, which overwrites the buffer. Waits for at least one row,
+     * and returns a reader with no rows only when the iterator is exhausted.
+     * Rows cannot be encoded while rows fetched by <code>nextBatch</code> or <code>stream</code> are pending.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * ByteBuffer buffer = ByteBuffer.allocateDirect(1 << 20);
+     * RowBatchReader reader = answer.asConceptRows().nextEncodedBatch(buffer);
+     * while (reader.nextRow()) reader.getLong(0);
+     * </pre>
+     *
+     * @param buffer The direct buffer to encode rows into; it must fit at least one row
+     */
+    RowBatchReader nextEncodedBatch(ByteBuffer buffer);
+
+    /**
+     * Encodes up to <code>maxRows</code> next <code>ConceptRow</code>s, as many as fit into the given direct
+     * <code>ByteBuffer</code>, as with <code>nextEncodedBatch(ByteBuffer)</code>.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * answer.asConceptRows().nextEncodedBatch(buffer, maxRows);
+     * </pre>
+     *
+     * @param buffer The direct buffer to encode rows into; it must fit at least one row
+     * @param maxRows The maximum number of rows to encode, at least 1
+     */
+    RowBatchReader nextEncodedBatch(ByteBuffer buffer, int maxRows);
+
+    /**
+     * Retrieves the size of the buffer required to encode the next <code>ConceptRow</code>, if it did not fit into
+     * the buffer of the last <code>nextEncodedBatch</code> call, or 0 otherwise.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * answer.asConceptRows().pendingEncodedSize();
+     * </pre>
+     */
+    long pendingEncodedSize();
+
+    /**
+     * Creates a stream over <code>ColumnBatch</code>es of up to <code>batchSize</code> rows each, which store
+     * the rows column by column in primitive arrays. Each batch is encoded by the native layer in a single call,
+     * and transposed in a single pass. Cannot be used while rows fetched by <code>nextBatch</code>
+     * or <code>stream</code> are pending.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * answer.asConceptRows().columnar(4096).forEach(batch -> sum(batch.longs(0)));
+     * </pre>
+     *
+     * @param batchSize The maximum number of rows in a batch, at least 1
+     */
+    @CheckReturnValue
+    Stream<ColumnBatch> columnar(int batchSize);
+
     /**
      * Creates a stream over <code>ConceptRow</code>s based on this iterator.
+     * Rows are fetched from the native side in batches.
      *
      * <h3>Examples</h3>
      * <pre>
@@ -54,4 +143,33 @@ public interface ConceptRowIterator extends QueryAnswer, Iterator<ConceptRow> {
      */
     @CheckReturnValue
     Stream<ConceptRow> stream();
+
+    /**
+     * Creates a <code>Flow.Publisher</code> over <code>ConceptRow</code>s based on this iterator.
+     * Rows are only fetched from the server while the subscriber has outstanding demand.
+     * The publisher accepts a single subscriber, and shares its position with this iterator, which is released
+     * once the subscription completes, fails or is cancelled. Rows are pulled on a shared pool of at most
+     * <code>IteratorPublisher.DEFAULT_PARALLELISM</code> threads, so further subscriptions wait for a thread.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * answer.asConceptRows().publisher().subscribe(subscriber);
+     * </pre>
+     */
+    @CheckReturnValue
+    Flow.Publisher<ConceptRow> publisher();
+
+    /**
+     * Creates a <code>Flow.Publisher</code> over <code>ConceptRow</code>s based on this iterator,
+     * pulling rows and signalling the subscriber on the given executor.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * answer.asConceptRows().publisher(executor).subscribe(subscriber);
+     * </pre>
+     *
+     * @param executor The executor on which rows are pulled and delivered
+     */
+    @CheckReturnValue
+    Flow.Publisher<ConceptRow> publisher(Executor executor);
 }
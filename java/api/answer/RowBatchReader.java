@@ -0,0 +1,333 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.typedb.driver.api.answer;
+
+import com.typedb.driver.common.Duration;
+
+import javax.annotation.CheckReturnValue;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZonedDateTime;
+
+/**
+ * Decodes a batch of <code>ConceptRow</code>s encoded into a <code>ByteBuffer</code> by
+ * <code>ConceptRowIterator.nextEncodedBatch</code>, one row at a time, without native calls.
+ * Accessors read the cells of the current row, and throw if the cell holds a different kind of concept.
+ */
+public interface RowBatchReader {
+    /**
+     * Retrieves the number of rows in this batch. A batch with no rows means the answer is exhausted.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * reader.rowCount();
+     * </pre>
+     */
+    @CheckReturnValue
+    int rowCount();
+
+    /**
+     * Retrieves the number of columns of each row in this batch.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * reader.columnCount();
+     * </pre>
+     */
+    @CheckReturnValue
+    int columnCount();
+
+    /**
+     * Moves to the next row of this batch. Must be called before reading the first row.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * while (reader.nextRow()) reader.getLong(0);
+     * </pre>
+     *
+     * @return <code>false</code> if there are no more rows in this batch
+     */
+    boolean nextRow();
+
+    /**
+     * Checks if the cell of the current row in the given column is empty.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * reader.isEmpty(column);
+     * </pre>
+     *
+     * @param column the column index
+     */
+    @CheckReturnValue
+    boolean isEmpty(int column);
+
+    /**
+     * Checks if the cell of the current row in the given column holds a type.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * reader.isType(column);
+     * </pre>
+     *
+     * @param column the column index
+     */
+    @CheckReturnValue
+    boolean isType(int column);
+
+    /**
+     * Checks if the cell of the current row in the given column holds an entity.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * reader.isEntity(column);
+     * </pre>
+     *
+     * @param column the column index
+     */
+    @CheckReturnValue
+    boolean isEntity(int column);
+
+    /**
+     * Checks if the cell of the current row in the given column holds a relation.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * reader.isRelation(column);
+     * </pre>
+     *
+     * @param column the column index
+     */
+    @CheckReturnValue
+    boolean isRelation(int column);
+
+    /**
+     * Checks if the cell of the current row in the given column holds an attribute.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * reader.isAttribute(column);
+     * </pre>
+     *
+     * @param column the column index
+     */
+    @CheckReturnValue
+    boolean isAttribute(int column);
+
+    /**
+     * Checks if the cell of the current row in the given column holds a value.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * reader.isValue(column);
+     * </pre>
+     *
+     * @param column the column index
+     */
+    @CheckReturnValue
+    boolean isValue(int column);
+
+    /**
+     * Retrieves the label of the concept in the given column of the current row: the label of a type,
+     * the label of the type of an instance ("unknown" if type fetching is disabled), or the value type of a value.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * reader.getLabel(column);
+     * </pre>
+     *
+     * @param column the column index
+     */
+    @CheckReturnValue
+    String getLabel(int column);
+
+    /**
+     * Retrieves the IID of the entity or relation in the given column of the current row.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * reader.getIID(column);
+     * </pre>
+     *
+     * @param column the column index
+     */
+    @CheckReturnValue
+    String getIID(int column);
+
+    /**
+     * Copies the raw bytes of the IID of the entity or relation in the given column of the current row
+     * into <code>target</code>, which must be large enough to hold them.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * int length = reader.getIIDBytes(column, bytes);
+     * </pre>
+     *
+     * @param column the column index
+     * @param target the array to copy the bytes into
+     * @return the number of bytes copied
+     */
+    int getIIDBytes(int column, byte[] target);
+
+    /**
+     * Retrieves the value type of the attribute or value in the given column of the current row.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * reader.getValueType(column);
+     * </pre>
+     *
+     * @param column the column index
+     */
+    @CheckReturnValue
+    String getValueType(int column);
+
+    /**
+     * Retrieves the <code>boolean</code> value of the attribute or value in the given column of the current row.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * reader.getBoolean(column);
+     * </pre>
+     *
+     * @param column the column index
+     */
+    @CheckReturnValue
+    boolean getBoolean(int column);
+
+    /**
+     * Retrieves the <code>integer</code> value of the attribute or value in the given column of the current row.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * reader.getLong(column);
+     * </pre>
+     *
+     * @param column the column index
+     */
+    @CheckReturnValue
+    long getLong(int column);
+
+    /**
+     * Retrieves the <code>double</code> value of the attribute or value in the given column of the current row.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * reader.getDouble(column);
+     * </pre>
+     *
+     * @param column the column index
+     */
+    @CheckReturnValue
+    double getDouble(int column);
+
+    /**
+     * Retrieves the <code>decimal</code> value of the attribute or value in the given column of the current row.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * reader.getDecimal(column);
+     * </pre>
+     *
+     * @param column the column index
+     */
+    @CheckReturnValue
+    BigDecimal getDecimal(int column);
+
+    /**
+     * Retrieves the <code>string</code> value of the attribute or value in the given column of the current row.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * reader.getString(column);
+     * </pre>
+     *
+     * @param column the column index
+     */
+    @CheckReturnValue
+    String getString(int column);
+
+    /**
+     * Retrieves the <code>date</code> value of the attribute or value in the given column of the current row.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * reader.getDate(column);
+     * </pre>
+     *
+     * @param column the column index
+     */
+    @CheckReturnValue
+    LocalDate getDate(int column);
+
+    /**
+     * Retrieves the <code>datetime</code> value of the attribute or value in the given column of the current row.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * reader.getDatetime(column);
+     * </pre>
+     *
+     * @param column the column index
+     */
+    @CheckReturnValue
+    LocalDateTime getDatetime(int column);
+
+    /**
+     * Retrieves the <code>datetime-tz</code> value of the attribute or value in the given column of the current row.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * reader.getDatetimeTZ(column);
+     * </pre>
+     *
+     * @param column the column index
+     */
+    @CheckReturnValue
+    ZonedDateTime getDatetimeTZ(int column);
+
+    /**
+     * Retrieves the <code>duration</code> value of the attribute or value in the given column of the current row.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * reader.getDuration(column);
+     * </pre>
+     *
+     * @param column the column index
+     */
+    @CheckReturnValue
+    Duration getDuration(int column);
+
+    /**
+     * Retrieves the <code>date</code>, <code>datetime</code> or <code>datetime-tz</code> value of the attribute or value
+     * in the given column of the current row, as nanoseconds since the UNIX epoch.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * reader.getEpochNanos(column);
+     * </pre>
+     *
+     * @param column the column index
+     */
+    @CheckReturnValue
+    long getEpochNanos(int column);
+}
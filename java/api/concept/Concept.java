@@ -30,6 +30,7 @@ import com.typedb.driver.api.concept.type.RoleType;
 import com.typedb.driver.api.concept.type.Type;
 import com.typedb.driver.api.concept.value.Value;
 import com.typedb.driver.common.Duration;
+import com.typedb.driver.common.Utf8View;
 import com.typedb.driver.common.exception.TypeDBDriverException;
 
 import javax.annotation.CheckReturnValue;
@@ -39,6 +40,7 @@ import java.time.LocalDateTime;
 import java.time.ZonedDateTime;
 import java.util.Map;
 import java.util.Optional;
+import java.util.OptionalLong;
 
 import static com.typedb.driver.common.exception.ErrorMessage.Concept.INVALID_CONCEPT_CASTING;
 import static com.typedb.driver.common.util.Objects.className;
@@ -484,6 +486,17 @@ public interface Concept {
      */
     Optional<String> tryGetString();
 
+    /**
+     * Returns a <code>string</code> value of this <code>Concept</code> as UTF-8 bytes, decoded only on demand.
+     * If it's not a <code>Value</code> or it has another type, returns <code>null</code>.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * concept.tryGetStringUTF8();
+     * </pre>
+     */
+    Optional<Utf8View> tryGetStringUTF8();
+
     /**
      * Returns a <code>date</code> value of this <code>Concept</code>.
      * If it's not a <code>Value</code> or it has another type, returns <code>null</code>.
@@ -517,6 +530,33 @@ public interface Concept {
      */
     Optional<ZonedDateTime> tryGetDatetimeTZ();
 
+    /**
+     * Returns the whole seconds since the start of the UNIX epoch of a <code>date</code>, <code>datetime</code>
+     * or <code>datetime-tz</code> value of this <code>Concept</code>, without decoding it into a
+     * <code>java.time</code> object. Dates are taken at midnight UTC, and datetimes without a time zone as UTC.
+     * If it's not a <code>Value</code> or it has another type, returns <code>null</code>.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * concept.tryGetEpochSeconds();
+     * </pre>
+     */
+    OptionalLong tryGetEpochSeconds();
+
+    /**
+     * Returns the nanoseconds since the start of the UNIX epoch of a <code>date</code>, <code>datetime</code>
+     * or <code>datetime-tz</code> value of this <code>Concept</code>, as in <code>tryGetEpochSeconds()</code>.
+     * If it's not a <code>Value</code> or it has another type, returns <code>null</code>.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * concept.tryGetEpochNanos();
+     * </pre>
+     *
+     * @throws TypeDBDriverException if the value does not fit into a <code>long</code> of nanoseconds
+     */
+    OptionalLong tryGetEpochNanos();
+
     /**
      * Returns a <code>duration</code> value of this <code>Concept</code>.
      * If it's not a <code>Value</code> or it has another type, returns <code>null</code>.
@@ -553,6 +593,17 @@ public interface Concept {
     @CheckReturnValue
     String getLabel();
 
+    /**
+     * Retrieves the unique label of the concept as UTF-8 bytes, decoded only on demand, as in <code>getLabel()</code>.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * concept.getLabelUTF8();
+     * </pre>
+     */
+    @CheckReturnValue
+    Utf8View getLabelUTF8();
+
     /**
      * Retrieves the unique label of the concept.
      * If this is an <code>Instance</code>, return the label of the type of this instance (<code>null</code> if type fetching is disabled).
@@ -579,6 +630,18 @@ public interface Concept {
     @CheckReturnValue
     Optional<String> tryGetIID();
 
+    /**
+     * Retrieves the unique id of the <code>Concept</code> as UTF-8 bytes, decoded only on demand.
+     * Returns <code>null</code> if absent.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * concept.tryGetIIDUTF8();
+     * </pre>
+     */
+    @CheckReturnValue
+    Optional<Utf8View> tryGetIIDUTF8();
+
     /**
      * Retrieves the <code>String</code> describing the value type of this <code>Concept</code>.
      * Returns <code>null</code> if not absent.
@@ -0,0 +1,321 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.typedb.driver.arrow;
+
+import com.typedb.driver.api.answer.ConceptRowIterator;
+import com.typedb.driver.api.answer.RowBatchReader;
+import com.typedb.driver.common.Duration;
+import com.typedb.driver.common.exception.TypeDBDriverException;
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.vector.BigIntVector;
+import org.apache.arrow.vector.BitVector;
+import org.apache.arrow.vector.DateDayVector;
+import org.apache.arrow.vector.DecimalVector;
+import org.apache.arrow.vector.FieldVector;
+import org.apache.arrow.vector.FixedSizeBinaryVector;
+import org.apache.arrow.vector.Float8Vector;
+import org.apache.arrow.vector.IntervalMonthDayNanoVector;
+import org.apache.arrow.vector.TimeStampNanoTZVector;
+import org.apache.arrow.vector.TimeStampNanoVector;
+import org.apache.arrow.vector.VarCharVector;
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.arrow.vector.types.DateUnit;
+import org.apache.arrow.vector.types.FloatingPointPrecision;
+import org.apache.arrow.vector.types.IntervalUnit;
+import org.apache.arrow.vector.types.TimeUnit;
+import org.apache.arrow.vector.types.pojo.ArrowType;
+import org.apache.arrow.vector.types.pojo.FieldType;
+
+import javax.annotation.CheckReturnValue;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static com.typedb.driver.common.exception.ErrorMessage.Driver.POSITIVE_VALUE_REQUIRED;
+import static com.typedb.driver.common.exception.ErrorMessage.Query.COLUMN_TYPE_CHANGED;
+import static com.typedb.driver.common.exception.ErrorMessage.Query.UNSUPPORTED_COLUMN_TYPE;
+
+/**
+ * Loads the <code>ConceptRow</code>s of an answer into Arrow record batches, one batch at a time, reusing the
+ * vectors of a <code>VectorSchemaRoot</code>. Rows are decoded from their native binary encoding straight into the
+ * off-heap vectors, without materialising <code>ConceptRow</code> or <code>Concept</code> objects.
+ * <p>
+ * Each column is typed by the first concept it holds: types as their labels (utf8), entities and relations as their
+ * IIDs (fixed size binary), and attributes and values by their value type (bool, int64, float64, decimal(38, 19),
+ * utf8, date, timestamp, UTC timestamp or month-day-nano interval). Columns which held no concept yet are of the null
+ * type, and are promoted to the type of their first concept: the batch promoting a column is loaded into a new
+ * <code>VectorSchemaRoot</code>, so the root should be retrieved again after each batch. Struct values are not
+ * supported.
+ */
+public class ArrowBatches implements AutoCloseable {
+    private static final int ENCODED_BUFFER_SIZE = 1 << 20;
+    private static final int DECIMAL_PRECISION = 38;
+    private static final int DECIMAL_SCALE = 19;
+    private static final String NULL_COLUMN = "none";
+    private static final String TYPE_COLUMN = "type";
+    private static final String INSTANCE_COLUMN = "instance";
+
+    private final ConceptRowIterator rows;
+    private final BufferAllocator allocator;
+    private final int batchSize;
+    private final List<String> columnNames;
+    private final ColumnWriter[] writers;
+    private final byte[] iid;
+    private ByteBuffer encoded;
+    private VectorSchemaRoot root;
+    private boolean schemaFixed;
+
+    ArrowBatches(ConceptRowIterator rows, BufferAllocator allocator, int batchSize) {
+        if (batchSize < 1) throw new TypeDBDriverException(POSITIVE_VALUE_REQUIRED, batchSize);
+        this.rows = rows;
+        this.allocator = allocator;
+        this.batchSize = batchSize;
+        this.columnNames = rows.header().columnNames().collect(Collectors.toList());
+        this.writers = new ColumnWriter[columnNames.size()];
+        this.iid = new byte[Short.MAX_VALUE * 2 + 1];
+        this.encoded = ByteBuffer.allocateDirect(ENCODED_BUFFER_SIZE);
+        this.schemaFixed = false;
+    }
+
+    /**
+     * Loads the next batch of up to <code>batchSize</code> rows into the <code>VectorSchemaRoot</code>.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * while (batches.loadNextBatch()) consume(batches.getVectorSchemaRoot());
+     * </pre>
+     *
+     * @return <code>false</code> if there are no more rows
+     */
+    public boolean loadNextBatch() {
+        return load(false);
+    }
+
+    /**
+     * Loads the next batch of rows after the rows already held by the <code>VectorSchemaRoot</code>.
+     */
+    boolean appendNextBatch() {
+        return load(true);
+    }
+
+    private boolean load(boolean append) {
+        RowBatchReader batch = nextEncodedBatch();
+        if (batch.rowCount() == 0) return false;
+        int offset = append ? getVectorSchemaRoot().getRowCount() : 0;
+        if (!append) getVectorSchemaRoot().getFieldVectors().forEach(FieldVector::reset);
+        for (int row = offset; batch.nextRow(); row++) {
+            for (int column = 0; column < writers.length; column++) {
+                if (batch.isEmpty(column)) continue;
+                writer(batch, column).write(batch, column, row);
+            }
+        }
+        getVectorSchemaRoot().setRowCount(offset + batch.rowCount());
+        return true;
+    }
+
+    private RowBatchReader nextEncodedBatch() {
+        while (true) {
+            try {
+                return rows.nextEncodedBatch(encoded, batchSize);
+            } catch (TypeDBDriverException e) {
+                // the row which did not fit is kept by the encoder, so it is retried with a larger buffer
+                long required = rows.pendingEncodedSize();
+                if (required <= encoded.capacity()) throw e;
+                long capacity = Math.max(required, 2L * encoded.capacity());
+                encoded = ByteBuffer.allocateDirect(Math.toIntExact(capacity));
+            }
+        }
+    }
+
+    /**
+     * Retrieves the <code>VectorSchemaRoot</code> holding the last loaded batch. A new root is created when
+     * a batch promotes a column of the null type.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * batches.getVectorSchemaRoot();
+     * </pre>
+     */
+    @CheckReturnValue
+    public VectorSchemaRoot getVectorSchemaRoot() {
+        if (root == null) {
+            List<FieldVector> vectors = new ArrayList<>(writers.length);
+            for (int column = 0; column < writers.length; column++) {
+                if (writers[column] == null) writers[column] = newWriter(NULL_COLUMN, column, 0);
+                vectors.add(writers[column].vector);
+            }
+            root = new VectorSchemaRoot(vectors);
+        }
+        return root;
+    }
+
+    /**
+     * Checks whether any column has not held a concept yet, and is of the null type.
+     */
+    boolean hasUntypedColumns() {
+        for (ColumnWriter writer : writers) if (writer == null || writer.cellType.equals(NULL_COLUMN)) return true;
+        return false;
+    }
+
+    /**
+     * Fixes the schema of the <code>VectorSchemaRoot</code>: columns of the null type are no longer promoted,
+     * and fail to load a concept.
+     */
+    void fixSchema() {
+        getVectorSchemaRoot();
+        schemaFixed = true;
+    }
+
+    @Override
+    public void close() {
+        for (ColumnWriter writer : writers) if (writer != null) writer.vector.close();
+        root = null;
+        encoded = null;
+    }
+
+    private ColumnWriter writer(RowBatchReader batch, int column) {
+        String cellType = cellType(batch, column);
+        ColumnWriter writer = writers[column];
+        if (writer != null && writer.cellType.equals(cellType)) return writer;
+        String columnType = writer == null ? NULL_COLUMN : writer.cellType;
+        if (!columnType.equals(NULL_COLUMN) || schemaFixed) {
+            throw new TypeDBDriverException(COLUMN_TYPE_CHANGED, columnNames.get(column), columnType, cellType);
+        }
+        int width = cellType.equals(INSTANCE_COLUMN) ? batch.getIIDBytes(column, iid) : 0;
+        writers[column] = newWriter(cellType, column, width);
+        if (writer != null) {
+            // the root is recreated with the promoted vector, earlier rows of which are null
+            writer.vector.close();
+            root = null;
+        }
+        return writers[column];
+    }
+
+    private static String cellType(RowBatchReader batch, int column) {
+        if (batch.isType(column)) return TYPE_COLUMN;
+        else if (batch.isEntity(column) || batch.isRelation(column)) return INSTANCE_COLUMN;
+        else return batch.getValueType(column);
+    }
+
+    private ColumnWriter newWriter(String cellType, int column, int iidWidth) {
+        switch (cellType) {
+            case NULL_COLUMN:
+                return new ColumnWriter(cellType, vector(column, ArrowType.Null.INSTANCE), (batch, col, row) -> {
+                });
+            case TYPE_COLUMN: {
+                VarCharVector vector = (VarCharVector) vector(column, ArrowType.Utf8.INSTANCE);
+                return new ColumnWriter(cellType, vector, (batch, col, row) ->
+                        vector.setSafe(row, batch.getLabel(col).getBytes(StandardCharsets.UTF_8)));
+            }
+            case INSTANCE_COLUMN: {
+                ArrowType type = new ArrowType.FixedSizeBinary(iidWidth);
+                FixedSizeBinaryVector vector = (FixedSizeBinaryVector) vector(column, type);
+                return new ColumnWriter(cellType, vector, (batch, col, row) -> {
+                    int length = batch.getIIDBytes(col, iid);
+                    if (length != iidWidth) {
+                        throw new TypeDBDriverException(COLUMN_TYPE_CHANGED, columnNames.get(col),
+                                "binary(" + iidWidth + ")", "binary(" + length + ")");
+                    }
+                    vector.setSafe(row, iid);
+                });
+            }
+            case "boolean": {
+                BitVector vector = (BitVector) vector(column, ArrowType.Bool.INSTANCE);
+                return new ColumnWriter(cellType, vector, (batch, col, row) ->
+                        vector.setSafe(row, batch.getBoolean(col) ? 1 : 0));
+            }
+            case "integer": {
+                BigIntVector vector = (BigIntVector) vector(column, new ArrowType.Int(64, true));
+                return new ColumnWriter(cellType, vector, (batch, col, row) -> vector.setSafe(row, batch.getLong(col)));
+            }
+            case "double": {
+                ArrowType type = new ArrowType.FloatingPoint(FloatingPointPrecision.DOUBLE);
+                Float8Vector vector = (Float8Vector) vector(column, type);
+                return new ColumnWriter(cellType, vector, (batch, col, row) ->
+                        vector.setSafe(row, batch.getDouble(col)));
+            }
+            case "decimal": {
+                ArrowType type = new ArrowType.Decimal(DECIMAL_PRECISION, DECIMAL_SCALE, 128);
+                DecimalVector vector = (DecimalVector) vector(column, type);
+                return new ColumnWriter(cellType, vector, (batch, col, row) ->
+                        vector.setSafe(row, batch.getDecimal(col)));
+            }
+            case "string": {
+                VarCharVector vector = (VarCharVector) vector(column, ArrowType.Utf8.INSTANCE);
+                return new ColumnWriter(cellType, vector, (batch, col, row) ->
+                        vector.setSafe(row, batch.getString(col).getBytes(StandardCharsets.UTF_8)));
+            }
+            case "date": {
+                DateDayVector vector = (DateDayVector) vector(column, new ArrowType.Date(DateUnit.DAY));
+                return new ColumnWriter(cellType, vector, (batch, col, row) ->
+                        vector.setSafe(row, Math.toIntExact(batch.getDate(col).toEpochDay())));
+            }
+            case "datetime": {
+                ArrowType type = new ArrowType.Timestamp(TimeUnit.NANOSECOND, null);
+                TimeStampNanoVector vector = (TimeStampNanoVector) vector(column, type);
+                return new ColumnWriter(cellType, vector, (batch, col, row) ->
+                        vector.setSafe(row, batch.getEpochNanos(col)));
+            }
+            case "datetime-tz": {
+                ArrowType type = new ArrowType.Timestamp(TimeUnit.NANOSECOND, "UTC");
+                TimeStampNanoTZVector vector = (TimeStampNanoTZVector) vector(column, type);
+                return new ColumnWriter(cellType, vector, (batch, col, row) ->
+                        vector.setSafe(row, batch.getEpochNanos(col)));
+            }
+            case "duration": {
+                ArrowType type = new ArrowType.Interval(IntervalUnit.MONTH_DAY_NANO);
+                IntervalMonthDayNanoVector vector = (IntervalMonthDayNanoVector) vector(column, type);
+                return new ColumnWriter(cellType, vector, (batch, col, row) -> {
+                    Duration duration = batch.getDuration(col);
+                    vector.setSafe(row, duration.getMonths(), duration.getDays(), duration.getTimePart().toNanos());
+                });
+            }
+            default:
+                throw new TypeDBDriverException(UNSUPPORTED_COLUMN_TYPE, columnNames.get(column), cellType);
+        }
+    }
+
+    private FieldVector vector(int column, ArrowType type) {
+        return FieldType.nullable(type).createNewSingleVector(columnNames.get(column), allocator, null);
+    }
+
+    @FunctionalInterface
+    private interface CellWriter {
+        void write(RowBatchReader batch, int column, int row);
+    }
+
+    private static class ColumnWriter {
+        private final String cellType;
+        private final FieldVector vector;
+        private final CellWriter cellWriter;
+
+        private ColumnWriter(String cellType, FieldVector vector, CellWriter cellWriter) {
+            this.cellType = cellType;
+            this.vector = vector;
+            this.cellWriter = cellWriter;
+        }
+
+        private void write(RowBatchReader batch, int column, int row) {
+            cellWriter.write(batch, column, row);
+        }
+    }
+}
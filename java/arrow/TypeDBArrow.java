@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.typedb.driver.arrow;
+
+import com.typedb.driver.api.answer.ConceptRowIterator;
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.vector.ipc.ArrowStreamWriter;
+
+import javax.annotation.CheckReturnValue;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * Adapters exporting TypeDB answers as Apache Arrow record batches.
+ */
+public final class TypeDBArrow {
+    private static final int MAX_HELD_BACK_ROWS = 1 << 16;
+
+    private TypeDBArrow() {
+    }
+
+    /**
+     * Loads the <code>ConceptRow</code>s of an answer into Arrow record batches of up to <code>batchSize</code>
+     * rows. The rows must not have been consumed through the iterator beforehand.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * try (ArrowBatches batches = TypeDBArrow.batches(answer.asConceptRows(), allocator, 4096)) {
+     *     while (batches.loadNextBatch()) consume(batches.getVectorSchemaRoot());
+     * }
+     * </pre>
+     *
+     * @param rows The row iterator to export
+     * @param allocator The allocator of the Arrow vectors
+     * @param batchSize The maximum number of rows in each record batch
+     */
+    @CheckReturnValue
+    public static ArrowBatches batches(ConceptRowIterator rows, BufferAllocator allocator, int batchSize) {
+        return new ArrowBatches(rows, allocator, batchSize);
+    }
+
+    /**
+     * Writes the <code>ConceptRow</code>s of an answer to an output stream in the Arrow IPC streaming format.
+     * As the schema cannot change once written, batches are held back until every column has held a concept, up to
+     * 65536 rows; a column which is still empty by then is written as the null type, and fails if it holds
+     * a concept later. An answer without rows is written as a stream holding only the schema. The output stream is
+     * not closed.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * TypeDBArrow.writeStream(answer.asConceptRows(), allocator, 4096, out);
+     * </pre>
+     *
+     * @param rows The row iterator to export
+     * @param allocator The allocator of the Arrow vectors
+     * @param batchSize The maximum number of rows in each record batch
+     * @param out The output stream to write to
+     */
+    public static void writeStream(ConceptRowIterator rows, BufferAllocator allocator, int batchSize,
+                                   OutputStream out) {
+        try (ArrowBatches batches = batches(rows, allocator, batchSize)) {
+            boolean hasRows = batches.loadNextBatch();
+            boolean hasMore = hasRows;
+            while (hasMore && batches.hasUntypedColumns()
+                    && batches.getVectorSchemaRoot().getRowCount() < MAX_HELD_BACK_ROWS) {
+                hasMore = batches.appendNextBatch();
+            }
+            batches.fixSchema();
+            WritableByteChannel channel = Channels.newChannel(new UnclosedOutputStream(out));
+            try (ArrowStreamWriter writer = new ArrowStreamWriter(batches.getVectorSchemaRoot(), null, channel)) {
+                writer.start();
+                if (hasRows) writer.writeBatch();
+                while (hasMore && batches.loadNextBatch()) writer.writeBatch();
+                writer.end();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Flushes instead of closing the wrapped stream, so that the caller's stream outlives the Arrow writer.
+     */
+    private static class UnclosedOutputStream extends FilterOutputStream {
+        private UnclosedOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            out.write(bytes, offset, length);
+        }
+
+        @Override
+        public void close() throws IOException {
+            flush();
+        }
+    }
+}
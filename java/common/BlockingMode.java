@@ -0,0 +1,199 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.typedb.driver.common;
+
+import com.typedb.driver.common.exception.TypeDBDriverException;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static com.typedb.driver.common.exception.ErrorMessage.Driver.UNRECOGNISED_BLOCKING_MODE;
+import static java.lang.invoke.MethodType.methodType;
+
+/**
+ * Determines where the driver waits for pending network operations, such as resolving a <code>Promise</code>
+ * or fetching the next element of an answer iterator.
+ * <p>Waiting inside a native call pins the calling thread to its carrier, which starves the carrier pool
+ * when the caller is a virtual thread. When waiting on the Java side, the native call is executed by the driver
+ * (or completes through a native callback), while the caller parks on a Java-visible completion signal.</p>
+ * <p>The initial mode is read, ignoring case, from the <code>typedb.driver.blockingMode</code> system property,
+ * and defaults to <code>AUTO</code>, which is also used if the property is not recognised.</p>
+ * <p>Native calls waited on from the Java side run on a shared pool of at most <code>NATIVE_WAIT_PARALLELISM</code>
+ * threads, set by the <code>typedb.driver.nativeWaitThreads</code> system property; further waits queue for
+ * a thread. If the property is missing or is not a positive number, the pool has a thread per available
+ * processor, and at least 4.</p>
+ */
+public enum BlockingMode {
+    /**
+     * Always wait inside the native call.
+     */
+    NATIVE,
+    /**
+     * Always wait on the Java side.
+     */
+    JAVA,
+    /**
+     * Wait on the Java side when the caller is a virtual thread, and inside the native call otherwise.
+     */
+    AUTO;
+
+    private static final String PROPERTY = "typedb.driver.blockingMode";
+    private static final String PARALLELISM_PROPERTY = "typedb.driver.nativeWaitThreads";
+    public static final int NATIVE_WAIT_PARALLELISM = parallelismProperty();
+    private static final MethodHandle IS_VIRTUAL = isVirtualHandle();
+    private static final ThreadPoolExecutor NATIVE_WAIT_EXECUTOR = new ThreadPoolExecutor(
+            NATIVE_WAIT_PARALLELISM, NATIVE_WAIT_PARALLELISM, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+            runnable -> {
+                Thread thread = new Thread(runnable, "typedb-native-wait");
+                thread.setDaemon(true);
+                return thread;
+            }
+    );
+
+    static {
+        NATIVE_WAIT_EXECUTOR.allowCoreThreadTimeOut(true);
+    }
+
+    private static volatile BlockingMode current = modeProperty();
+
+    /**
+     * Retrieves the current blocking mode.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * BlockingMode.get();
+     * </pre>
+     */
+    public static BlockingMode get() {
+        return current;
+    }
+
+    /**
+     * Retrieves the blocking mode with the given name, ignoring case.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * BlockingMode.parse("java");
+     * </pre>
+     *
+     * @param name The name of the blocking mode
+     */
+    public static BlockingMode parse(String name) {
+        try {
+            return BlockingMode.valueOf(name.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new TypeDBDriverException(UNRECOGNISED_BLOCKING_MODE, name, Arrays.toString(values()));
+        }
+    }
+
+    /**
+     * Sets the blocking mode for all subsequent waits.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * BlockingMode.set(BlockingMode.JAVA);
+     * </pre>
+     *
+     * @param mode The blocking mode to use
+     */
+    public static void set(BlockingMode mode) {
+        current = mode;
+    }
+
+    /**
+     * @hidden
+     */
+    public static boolean waitsInJava() {
+        switch (current) {
+            case NATIVE:
+                return false;
+            case JAVA:
+                return true;
+            default:
+                return isVirtualThread();
+        }
+    }
+
+    /**
+     * @hidden
+     */
+    public static <T> T call(Supplier<T> blocking) {
+        if (!waitsInJava()) return blocking.get();
+        return join(CompletableFuture.supplyAsync(blocking, NATIVE_WAIT_EXECUTOR));
+    }
+
+    /**
+     * @hidden
+     */
+    public static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) throw (RuntimeException) e.getCause();
+            else throw e;
+        }
+    }
+
+    private static boolean isVirtualThread() {
+        if (IS_VIRTUAL == null) return false;
+        try {
+            return (boolean) IS_VIRTUAL.invokeExact(Thread.currentThread());
+        } catch (Throwable e) {
+            return false;
+        }
+    }
+
+    private static BlockingMode modeProperty() {
+        String name = System.getProperty(PROPERTY);
+        if (name == null) return AUTO;
+        try {
+            return parse(name);
+        } catch (TypeDBDriverException e) {
+            return AUTO; // a bad property must not fail the initialisation of the driver
+        }
+    }
+
+    private static int parallelismProperty() {
+        int fallback = Math.max(4, Runtime.getRuntime().availableProcessors());
+        String value = System.getProperty(PARALLELISM_PROPERTY);
+        if (value == null) return fallback;
+        try {
+            int parallelism = Integer.parseInt(value.trim());
+            return parallelism >= 1 ? parallelism : fallback;
+        } catch (NumberFormatException e) {
+            return fallback;
+        }
+    }
+
+    private static MethodHandle isVirtualHandle() {
+        try {
+            return MethodHandles.publicLookup().findVirtual(Thread.class, "isVirtual", methodType(boolean.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            return null; // virtual threads are not available before Java 21
+        }
+    }
+}
@@ -0,0 +1,232 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.typedb.driver.common;
+
+import com.typedb.driver.common.exception.TypeDBDriverException;
+
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.typedb.driver.common.exception.ErrorMessage.Driver.POSITIVE_VALUE_REQUIRED;
+import static com.typedb.driver.common.exception.ErrorMessage.Query.ANSWER_ALREADY_CONSUMED;
+
+/**
+ * A single-subscriber <code>Flow.Publisher</code> over a native answer iterator.
+ * Elements are only pulled from the iterator while the subscriber has outstanding demand,
+ * and the native stream only asks the server for its next batch once the previous one has been pulled,
+ * so <code>request(n)</code> drives the server-side stream continuation.
+ * No thread is held on behalf of the subscription while there is no outstanding demand.
+ * <p>
+ * Pulling an element may wait for the server, so by default subscriptions are drained on a shared pool
+ * of at most <code>DEFAULT_PARALLELISM</code> threads: further subscriptions with outstanding demand wait for a
+ * thread, and a subscription yields its thread after <code>DRAIN_LIMIT</code> elements. The native iterator is
+ * released once the subscription completes, fails or is cancelled.
+ */
+public class IteratorPublisher<T> implements Flow.Publisher<T> {
+    public static final int DEFAULT_PARALLELISM = Math.max(4, Runtime.getRuntime().availableProcessors());
+    private static final int DRAIN_LIMIT = 256;
+    private static final ThreadPoolExecutor DEFAULT_EXECUTOR = new ThreadPoolExecutor(
+            DEFAULT_PARALLELISM, DEFAULT_PARALLELISM, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+            runnable -> {
+                Thread thread = new Thread(runnable, "typedb-answer-publisher");
+                thread.setDaemon(true);
+                return thread;
+            }
+    );
+
+    static {
+        DEFAULT_EXECUTOR.allowCoreThreadTimeOut(true);
+    }
+
+    private final Iterator<T> iterator;
+    private final Executor executor;
+    private final Runnable release;
+    private final AtomicBoolean subscribed;
+
+    public IteratorPublisher(Iterator<T> iterator, Runnable release) {
+        this(iterator, DEFAULT_EXECUTOR, release);
+    }
+
+    public IteratorPublisher(Iterator<T> iterator, Executor executor, Runnable release) {
+        this.iterator = iterator;
+        this.executor = executor;
+        this.release = release;
+        this.subscribed = new AtomicBoolean(false);
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super T> subscriber) {
+        Objects.requireNonNull(subscriber);
+        if (!subscribed.compareAndSet(false, true)) {
+            subscriber.onSubscribe(new Flow.Subscription() {
+                @Override
+                public void request(long n) {
+                }
+
+                @Override
+                public void cancel() {
+                }
+            });
+            subscriber.onError(new TypeDBDriverException(ANSWER_ALREADY_CONSUMED));
+            return;
+        }
+        IteratorSubscription subscription = new IteratorSubscription(subscriber);
+        subscriber.onSubscribe(subscription);
+    }
+
+    private class IteratorSubscription implements Flow.Subscription, Runnable {
+        private final Flow.Subscriber<? super T> subscriber;
+        private final AtomicLong demand;
+        private final AtomicInteger pendingDrains;
+        private volatile boolean cancelled;
+        private volatile Throwable invalidRequest;
+        private volatile boolean done;
+
+        private IteratorSubscription(Flow.Subscriber<? super T> subscriber) {
+            this.subscriber = subscriber;
+            this.demand = new AtomicLong(0);
+            this.pendingDrains = new AtomicInteger(0);
+            this.cancelled = false;
+            this.done = false;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n < 1) invalidRequest = new IllegalArgumentException(POSITIVE_VALUE_REQUIRED.message(n));
+            else demand.getAndUpdate(current -> current + n < 0 ? Long.MAX_VALUE : current + n);
+            scheduleDrain();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            // the iterator is released by the drain, so that it is never freed while an element is being pulled
+            scheduleDrain();
+        }
+
+        private void scheduleDrain() {
+            if (pendingDrains.getAndIncrement() != 0) return;
+            execute();
+        }
+
+        private void execute() {
+            try {
+                executor.execute(this);
+            } catch (RuntimeException e) {
+                cancelled = true;
+                if (!done) terminate(e);
+            }
+        }
+
+        @Override
+        public void run() {
+            int missed = 1;
+            do {
+                if (drain()) {
+                    // demand remains: the thread is yielded, and the drain continues once rescheduled
+                    execute();
+                    return;
+                }
+                missed = pendingDrains.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        /**
+         * Emits elements while there is demand, up to <code>DRAIN_LIMIT</code>.
+         *
+         * @return <code>true</code> if the limit was reached while demand remains
+         */
+        private boolean drain() {
+            long emitted = 0;
+            long requested = demand.get();
+            int limit = DRAIN_LIMIT;
+            boolean yielded = false;
+            while (!done) {
+                if (cancelled) {
+                    finish();
+                    break;
+                }
+                if (invalidRequest != null) {
+                    terminate(invalidRequest);
+                    break;
+                }
+                if (emitted == requested) {
+                    if (requested != Long.MAX_VALUE) requested = demand.addAndGet(-emitted);
+                    emitted = 0;
+                    if (requested == 0) break;
+                }
+                if (limit-- == 0) {
+                    yielded = true;
+                    break;
+                }
+                T next;
+                try {
+                    if (!iterator.hasNext()) {
+                        finish();
+                        signal(subscriber::onComplete);
+                        break;
+                    }
+                    next = iterator.next();
+                } catch (RuntimeException e) {
+                    terminate(e);
+                    break;
+                }
+                try {
+                    subscriber.onNext(next);
+                } catch (Throwable e) {
+                    // rule 2.13: the subscriber violated the specification, so the subscription is cancelled
+                    // without signalling it any further
+                    cancelled = true;
+                    finish();
+                    break;
+                }
+                emitted++;
+            }
+            if (emitted > 0 && requested != Long.MAX_VALUE) demand.addAndGet(-emitted);
+            return yielded;
+        }
+
+        private void terminate(Throwable error) {
+            finish();
+            signal(() -> subscriber.onError(error));
+        }
+
+        private void finish() {
+            if (done) return;
+            done = true;
+            release.run();
+        }
+
+        private void signal(Runnable signal) {
+            try {
+                signal.run();
+            } catch (RuntimeException e) {
+                // rule 2.13: a failing terminal signal leaves nothing to notify
+            }
+        }
+    }
+}
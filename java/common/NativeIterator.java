@@ -32,24 +32,40 @@ import static java.util.Spliterators.spliteratorUnknownSize;
 
 public class NativeIterator<T> implements Iterator<T> {
     private final Iterator<T> inner;
+    private T next;
+    private boolean isFinished;
 
     public NativeIterator(Iterator<T> inner) {
         this.inner = inner;
+        this.next = null;
+        this.isFinished = false;
     }
 
     @Override
     public boolean hasNext() {
-        try {
-            return inner.hasNext();
-        } catch (com.typedb.driver.jni.Error.Unchecked e) {
-            throw new TypeDBDriverException(e);
+        if (isFinished) return false;
+        if (next == null) {
+            next = fetchNext();
+            if (next == null) {
+                isFinished = true;
+                return false;
+            }
         }
+        return true;
     }
 
     @Override
     public T next() {
+        if (!hasNext()) return null;
+        T ret = next;
+        next = null;
+        return ret;
+    }
+
+    private T fetchNext() {
         try {
-            return inner.next();
+            // a single wait per element, which happens on the Java side if required by the blocking mode
+            return BlockingMode.call(() -> inner.hasNext() ? inner.next() : null);
         } catch (com.typedb.driver.jni.Error.Unchecked e) {
             throw new TypeDBDriverException(e);
         }
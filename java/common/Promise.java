@@ -21,6 +21,7 @@ package com.typedb.driver.common;
 
 import com.typedb.driver.common.exception.TypeDBDriverException;
 
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -31,6 +32,7 @@ import java.util.function.Supplier;
  */
 public class Promise<T> {
     private final Supplier<T> inner;
+    private final boolean waitsInNative;
 
     /**
      * Promise constructor
@@ -43,7 +45,12 @@ public class Promise<T> {
      * @param inner The supplier to function to wrap into the promise
      */
     public Promise(Supplier<T> inner) {
+        this(inner, true);
+    }
+
+    private Promise(Supplier<T> inner, boolean waitsInNative) {
         this.inner = inner;
+        this.waitsInNative = waitsInNative;
     }
 
     /**
@@ -65,8 +72,24 @@ public class Promise<T> {
         });
     }
 
+    /**
+     * Helper function to create a promise resolved by a native completion signal.
+     * Resolving it parks the calling thread on the Java side instead of inside a native call.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * Promise.of(future);
+     * </pre>
+     *
+     * @param future The future completed by the native layer
+     */
+    static public <T> Promise<T> of(CompletableFuture<T> future) {
+        return new Promise<>(() -> BlockingMode.join(future), false);
+    }
+
     /**
      * Retrieves the result of the Promise.
+     * See <code>BlockingMode</code> for where the calling thread waits for the result.
      *
      * <h3>Examples</h3>
      * <pre>
@@ -75,7 +98,8 @@ public class Promise<T> {
      */
     public T resolve() { // TODO: Can have a checked exception in some cases!
         try {
-            return this.inner.get();
+            if (waitsInNative) return BlockingMode.call(inner);
+            else return inner.get();
         } catch (com.typedb.driver.jni.Error.Unchecked e) {
             throw new TypeDBDriverException(e);
         }
@@ -0,0 +1,143 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.typedb.driver.common;
+
+import com.typedb.driver.common.exception.ErrorMessage;
+import com.typedb.driver.common.exception.TypeDBDriverException;
+
+import javax.annotation.CheckReturnValue;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * The UTF-8 bytes of a string received from the server. The bytes are copied once out of native memory,
+ * and only decoded into a <code>String</code> when <code>toString()</code> is first called, so that strings
+ * which are passed through unchanged never have to be decoded.
+ */
+public class Utf8View {
+    private final byte[] bytes;
+    private String string;
+    private int hash = 0;
+
+    /**
+     * @hidden
+     */
+    public Utf8View(byte[] bytes) {
+        if (bytes == null) throw new TypeDBDriverException(ErrorMessage.Internal.NULL_NATIVE_VALUE);
+        this.bytes = bytes;
+    }
+
+    /**
+     * Returns the number of UTF-8 bytes in this string.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * utf8.length();
+     * </pre>
+     */
+    @CheckReturnValue
+    public int length() {
+        return bytes.length;
+    }
+
+    /**
+     * Returns a read-only <code>ByteBuffer</code> over the UTF-8 bytes of this string, without copying them.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * utf8.asByteBuffer();
+     * </pre>
+     */
+    @CheckReturnValue
+    public ByteBuffer asByteBuffer() {
+        return ByteBuffer.wrap(bytes).asReadOnlyBuffer();
+    }
+
+    /**
+     * Returns a copy of the UTF-8 bytes of this string.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * utf8.toByteArray();
+     * </pre>
+     */
+    @CheckReturnValue
+    public byte[] toByteArray() {
+        return bytes.clone();
+    }
+
+    /**
+     * Writes the UTF-8 bytes of this string to an output stream.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * utf8.writeTo(out);
+     * </pre>
+     *
+     * @param out The output stream to write to
+     */
+    public void writeTo(OutputStream out) throws IOException {
+        out.write(bytes);
+    }
+
+    /**
+     * Decodes this string, on the first call only.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * utf8.toString();
+     * </pre>
+     */
+    @Override
+    public String toString() {
+        if (string == null) string = new String(bytes, StandardCharsets.UTF_8);
+        return string;
+    }
+
+    /**
+     * Checks if this string has the same UTF-8 bytes as another <code>Utf8View</code>.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * utf8.equals(obj);
+     * </pre>
+     *
+     * @param obj Object to compare with
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        Utf8View that = (Utf8View) obj;
+        return Arrays.equals(bytes, that.bytes);
+    }
+
+    /**
+     * @hidden
+     */
+    @Override
+    public int hashCode() {
+        if (hash == 0) hash = Arrays.hashCode(bytes);
+        return hash;
+    }
+}
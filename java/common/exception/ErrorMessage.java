@@ -83,6 +83,12 @@ public abstract class ErrorMessage {
                 new Driver(8, "Value cannot be less than 1, was: '%d'.");
         public static final Driver UNIMPLEMENTED =
                 new Driver(9, "This operation is not implemented yet.");
+        public static final Driver NON_NEGATIVE_VALUE_REQUIRED =
+                new Driver(10, "Value cannot be less than 0, was: '%d'.");
+        public static final Driver UNRECOGNISED_BLOCKING_MODE =
+                new Driver(11, "The blocking mode '%s' is not recognised, expected one of %s.");
+        public static final Driver RUNTIME_CLOSED =
+                new Driver(12, "The driver runtime handle has been closed and no further operation is allowed.");
 
         private static final String codePrefix = "JDR";
         private static final String messagePrefix = "Driver Error";
@@ -115,6 +121,16 @@ public abstract class ErrorMessage {
                 new Query(1, "The variable '%s' does not exist.");
         public static final Query MISSING_QUERY =
                 new Query(2, "Query cannot be null or blank.");
+        public static final Query ANSWER_ALREADY_CONSUMED =
+                new Query(3, "The query answer stream has already been subscribed to.");
+        public static final Query DIRECT_BUFFER_REQUIRED =
+                new Query(4, "Concept rows can only be encoded into a direct ByteBuffer.");
+        public static final Query ROWS_ALREADY_FETCHED =
+                new Query(5, "Concept rows cannot be encoded while rows already fetched from the answer are not consumed.");
+        public static final Query COLUMN_TYPE_CHANGED =
+                new Query(6, "The column '%s' was typed as '%s' by earlier rows, but holds a '%s'.");
+        public static final Query UNSUPPORTED_COLUMN_TYPE =
+                new Query(7, "The column '%s' holds '%s' values, which cannot be exported.");
 
         private static final String codePrefix = "JQR";
         private static final String messagePrefix = "Query Error";
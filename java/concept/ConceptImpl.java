@@ -24,6 +24,7 @@ import com.typedb.driver.api.concept.value.Value;
 import com.typedb.driver.common.Duration;
 import com.typedb.driver.common.NativeIterator;
 import com.typedb.driver.common.NativeObject;
+import com.typedb.driver.common.Utf8View;
 import com.typedb.driver.common.collection.Pair;
 import com.typedb.driver.common.exception.TypeDBDriverException;
 import com.typedb.driver.concept.instance.AttributeImpl;
@@ -34,18 +35,16 @@ import com.typedb.driver.concept.type.EntityTypeImpl;
 import com.typedb.driver.concept.type.RelationTypeImpl;
 import com.typedb.driver.concept.type.RoleTypeImpl;
 import com.typedb.driver.concept.value.ValueImpl;
+import com.typedb.driver.concept.value.ValueParts;
 
 import java.math.BigDecimal;
-import java.math.BigInteger;
-import java.math.RoundingMode;
-import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.ZoneId;
-import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.util.Map;
 import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.stream.Collectors;
 
 import static com.typedb.driver.common.collection.Collections.pair;
@@ -53,202 +52,310 @@ import static com.typedb.driver.common.exception.ErrorMessage.Internal.UNEXPECTE
 import static com.typedb.driver.jni.typedb_driver.concept_equals;
 import static com.typedb.driver.jni.typedb_driver.concept_get_boolean;
 import static com.typedb.driver.jni.typedb_driver.concept_get_date_as_seconds;
-import static com.typedb.driver.jni.typedb_driver.concept_get_datetime;
-import static com.typedb.driver.jni.typedb_driver.concept_get_datetime_tz;
-import static com.typedb.driver.jni.typedb_driver.concept_get_decimal;
+import static com.typedb.driver.jni.typedb_driver.concept_get_descriptor;
 import static com.typedb.driver.jni.typedb_driver.concept_get_double;
 import static com.typedb.driver.jni.typedb_driver.concept_get_duration;
+import static com.typedb.driver.jni.typedb_driver.concept_get_epoch_nanos;
+import static com.typedb.driver.jni.typedb_driver.concept_get_epoch_seconds;
 import static com.typedb.driver.jni.typedb_driver.concept_get_label;
+import static com.typedb.driver.jni.typedb_driver.concept_get_label_utf8;
 import static com.typedb.driver.jni.typedb_driver.concept_get_integer;
 import static com.typedb.driver.jni.typedb_driver.concept_get_string;
+import static com.typedb.driver.jni.typedb_driver.concept_get_string_utf8;
 import static com.typedb.driver.jni.typedb_driver.concept_get_struct;
-import static com.typedb.driver.jni.typedb_driver.concept_is_attribute;
-import static com.typedb.driver.jni.typedb_driver.concept_is_attribute_type;
-import static com.typedb.driver.jni.typedb_driver.concept_is_boolean;
-import static com.typedb.driver.jni.typedb_driver.concept_is_date;
-import static com.typedb.driver.jni.typedb_driver.concept_is_datetime;
-import static com.typedb.driver.jni.typedb_driver.concept_is_datetime_tz;
-import static com.typedb.driver.jni.typedb_driver.concept_is_decimal;
-import static com.typedb.driver.jni.typedb_driver.concept_is_double;
-import static com.typedb.driver.jni.typedb_driver.concept_is_duration;
-import static com.typedb.driver.jni.typedb_driver.concept_is_entity;
-import static com.typedb.driver.jni.typedb_driver.concept_is_entity_type;
-import static com.typedb.driver.jni.typedb_driver.concept_is_integer;
-import static com.typedb.driver.jni.typedb_driver.concept_is_relation;
-import static com.typedb.driver.jni.typedb_driver.concept_is_relation_type;
-import static com.typedb.driver.jni.typedb_driver.concept_is_role_type;
-import static com.typedb.driver.jni.typedb_driver.concept_is_string;
-import static com.typedb.driver.jni.typedb_driver.concept_is_struct;
-import static com.typedb.driver.jni.typedb_driver.concept_is_value;
+import static com.typedb.driver.jni.typedb_driver.concept_get_value_parts;
 import static com.typedb.driver.jni.typedb_driver.concept_to_string;
 import static com.typedb.driver.jni.typedb_driver.concept_try_get_iid;
+import static com.typedb.driver.jni.typedb_driver.concept_try_get_iid_utf8;
 import static com.typedb.driver.jni.typedb_driver.concept_try_get_label;
+import static com.typedb.driver.jni.typedb_driver.concept_try_get_label_id;
 import static com.typedb.driver.jni.typedb_driver.concept_try_get_value;
 import static com.typedb.driver.jni.typedb_driver.concept_try_get_value_type;
 
 public abstract class ConceptImpl extends NativeObject<com.typedb.driver.jni.Concept> implements Concept {
+    // labels by their native id, as given by concept_try_get_label_id
+    private static final long NO_LABEL_ID = -1;
+    private static final long UNREGISTERED_LABEL_ID = -2;
+    private static final int MAX_LABEL_IDS = 4096;
+    private static final AtomicReferenceArray<String> labels = new AtomicReferenceArray<>(MAX_LABEL_IDS);
+    private static final int UNKNOWN_DESCRIPTOR = -1;
+    private static final int DESCRIPTOR_KIND_MASK = 0xFF;
+    private static final int DESCRIPTOR_VALUE_KIND_SHIFT = 8;
+
+    private int descriptor = UNKNOWN_DESCRIPTOR;
+    // Concepts are immutable snapshots, so properties read from the native object are kept once fetched
+    private Optional<String> label = null;
+    private Optional<String> iid = null;
+    private Optional<String> valueType = null;
+    private Optional<Value> value = null;
+    private Object decodedValue = null;
+
     protected ConceptImpl(com.typedb.driver.jni.Concept concept) {
         super(concept);
     }
 
     public static ConceptImpl of(com.typedb.driver.jni.Concept concept) {
-        if (concept_is_entity_type(concept)) return new EntityTypeImpl(concept);
-        else if (concept_is_relation_type(concept)) return new RelationTypeImpl(concept);
-        else if (concept_is_attribute_type(concept)) return new AttributeTypeImpl(concept);
-        else if (concept_is_entity(concept)) return new EntityImpl(concept);
-        else if (concept_is_relation(concept)) return new RelationImpl(concept);
-        else if (concept_is_attribute(concept)) return new AttributeImpl(concept);
-        else if (concept_is_value(concept)) return new ValueImpl(concept);
-        else if (concept_is_role_type(concept)) return new RoleTypeImpl(concept);
-        throw new TypeDBDriverException(UNEXPECTED_NATIVE_VALUE);
+        int descriptor = concept_get_descriptor(concept);
+        ConceptImpl result;
+        switch (com.typedb.driver.jni.ConceptKind.swigToEnum(descriptor & DESCRIPTOR_KIND_MASK)) {
+            case EntityTypeKind:
+                result = new EntityTypeImpl(concept);
+                break;
+            case RelationTypeKind:
+                result = new RelationTypeImpl(concept);
+                break;
+            case AttributeTypeKind:
+                result = new AttributeTypeImpl(concept);
+                break;
+            case RoleTypeKind:
+                result = new RoleTypeImpl(concept);
+                break;
+            case EntityKind:
+                result = new EntityImpl(concept);
+                break;
+            case RelationKind:
+                result = new RelationImpl(concept);
+                break;
+            case AttributeKind:
+                result = new AttributeImpl(concept);
+                break;
+            case ValueKind:
+                result = new ValueImpl(concept);
+                break;
+            default:
+                throw new TypeDBDriverException(UNEXPECTED_NATIVE_VALUE);
+        }
+        result.descriptor = descriptor;
+        return result;
+    }
+
+    /**
+     * Wraps a native concept borrowed from the native memory of another object, such as a row.
+     * The owner is held by the native proxy, which is passed to every native call made with it, so the native
+     * memory stays valid for as long as the concept is reachable, including during those calls.
+     */
+    public static ConceptImpl of(com.typedb.driver.jni.Concept concept, Object owner) {
+        concept.setOwner(owner);
+        return of(concept);
+    }
+
+    /**
+     * The native descriptor of this concept, packing its kind and the kind of its value type,
+     * fetched with a single native call and then kept.
+     */
+    private int descriptor() {
+        if (descriptor == UNKNOWN_DESCRIPTOR) descriptor = concept_get_descriptor(nativeObject);
+        return descriptor;
+    }
+
+    protected final com.typedb.driver.jni.ConceptValueKind valueKind() {
+        return com.typedb.driver.jni.ConceptValueKind.swigToEnum(descriptor() >>> DESCRIPTOR_VALUE_KIND_SHIFT);
     }
 
     @Override
     public String getLabel() {
+        Optional<String> label = tryGetLabel();
+        if (label.isPresent()) return label.get();
         return concept_get_label(nativeObject);
     }
 
     @Override
     public Optional<String> tryGetLabel() {
-        return Optional.ofNullable(concept_try_get_label(nativeObject));
+        if (label == null) label = Optional.ofNullable(fetchLabel());
+        return label;
+    }
+
+    @Override
+    public Utf8View getLabelUTF8() {
+        return new Utf8View(concept_get_label_utf8(nativeObject));
+    }
+
+    /**
+     * Looks the label up by its native id first, so that each distinct label is only copied across JNI once,
+     * and the labels retained from many concepts of the same type share one <code>String</code>.
+     */
+    private String fetchLabel() {
+        long id = concept_try_get_label_id(nativeObject);
+        if (id == NO_LABEL_ID) return null;
+        if (id == UNREGISTERED_LABEL_ID) return concept_try_get_label(nativeObject);
+        String label = labels.get((int) id);
+        if (label != null) return label;
+        labels.compareAndSet((int) id, null, concept_try_get_label(nativeObject));
+        return labels.get((int) id);
     }
 
     @Override
     public final Optional<String> tryGetIID() {
-        return Optional.ofNullable(concept_try_get_iid(nativeObject));
+        if (iid == null) iid = Optional.ofNullable(concept_try_get_iid(nativeObject));
+        return iid;
+    }
+
+    @Override
+    public final Optional<Utf8View> tryGetIIDUTF8() {
+        byte[] bytes = concept_try_get_iid_utf8(nativeObject);
+        return bytes == null ? Optional.empty() : Optional.of(new Utf8View(bytes));
     }
 
     @Override
     public final Optional<String> tryGetValueType() {
-        return Optional.ofNullable(concept_try_get_value_type(nativeObject));
+        if (valueType == null) valueType = Optional.ofNullable(concept_try_get_value_type(nativeObject));
+        return valueType;
     }
 
     @Override
     public final Optional<Value> tryGetValue() {
-        com.typedb.driver.jni.Concept nativeValue = concept_try_get_value(nativeObject);
-        return nativeValue == null ? Optional.empty() : Optional.of(new ValueImpl(nativeValue));
+        if (value == null) {
+            com.typedb.driver.jni.Concept nativeValue = concept_try_get_value(nativeObject);
+            value = nativeValue == null ? Optional.empty() : Optional.of(new ValueImpl(nativeValue));
+        }
+        return value;
     }
 
     @Override
     public boolean isBoolean() {
-        return concept_is_boolean(nativeObject);
+        return valueKind() == com.typedb.driver.jni.ConceptValueKind.BooleanValue;
     }
 
     @Override
     public boolean isInteger() {
-        return concept_is_integer(nativeObject);
+        return valueKind() == com.typedb.driver.jni.ConceptValueKind.IntegerValue;
     }
 
     @Override
     public boolean isDouble() {
-        return concept_is_double(nativeObject);
+        return valueKind() == com.typedb.driver.jni.ConceptValueKind.DoubleValue;
     }
 
     @Override
     public boolean isDecimal() {
-        return concept_is_decimal(nativeObject);
+        return valueKind() == com.typedb.driver.jni.ConceptValueKind.DecimalValue;
     }
 
     @Override
     public boolean isString() {
-        return concept_is_string(nativeObject);
+        return valueKind() == com.typedb.driver.jni.ConceptValueKind.StringValue;
     }
 
     @Override
     public boolean isDate() {
-        return concept_is_date(nativeObject);
+        return valueKind() == com.typedb.driver.jni.ConceptValueKind.DateValue;
     }
 
     @Override
     public boolean isDatetime() {
-        return concept_is_datetime(nativeObject);
+        return valueKind() == com.typedb.driver.jni.ConceptValueKind.DatetimeValue;
     }
 
     @Override
     public boolean isDatetimeTZ() {
-        return concept_is_datetime_tz(nativeObject);
+        return valueKind() == com.typedb.driver.jni.ConceptValueKind.DatetimeTZValue;
     }
 
     @Override
     public boolean isDuration() {
-        return concept_is_duration(nativeObject);
+        return valueKind() == com.typedb.driver.jni.ConceptValueKind.DurationValue;
     }
 
     @Override
     public boolean isStruct() {
-        return concept_is_struct(nativeObject);
+        return valueKind() == com.typedb.driver.jni.ConceptValueKind.StructValue;
     }
 
     @Override
     public Optional<Boolean> tryGetBoolean() {
         if (isType() || !isBoolean()) return Optional.empty();
-        return Optional.of(concept_get_boolean(nativeObject));
+        if (decodedValue == null) decodedValue = concept_get_boolean(nativeObject);
+        return Optional.of((Boolean) decodedValue);
     }
 
     @Override
     public Optional<Long> tryGetInteger() {
         if (isType() || !isInteger()) return Optional.empty();
-        return Optional.of(concept_get_integer(nativeObject));
+        if (decodedValue == null) decodedValue = concept_get_integer(nativeObject);
+        return Optional.of((Long) decodedValue);
     }
 
     @Override
     public Optional<Double> tryGetDouble() {
         if (isType() || !isDouble()) return Optional.empty();
-        return Optional.of(concept_get_double(nativeObject));
+        if (decodedValue == null) decodedValue = concept_get_double(nativeObject);
+        return Optional.of((Double) decodedValue);
     }
 
     @Override
     public Optional<BigDecimal> tryGetDecimal() {
         if (isType() || !isDecimal()) return Optional.empty();
-        com.typedb.driver.jni.Decimal nativeDecimal = concept_get_decimal(nativeObject);
-        BigInteger nativeFractional = nativeDecimal.getFractional();
-        BigDecimal integerPart = new BigDecimal(nativeDecimal.getInteger());
-        BigDecimal fractionalPart = new BigDecimal(nativeFractional)
-                .setScale(DECIMAL_SCALE, RoundingMode.UNNECESSARY)
-                .divide(BigDecimal.TEN.pow(DECIMAL_SCALE), RoundingMode.UNNECESSARY);
-        return Optional.of(integerPart.add(fractionalPart));
+        if (decodedValue == null) decodedValue = ValueParts.decimal(valueParts());
+        return Optional.of((BigDecimal) decodedValue);
     }
 
     @Override
     public Optional<String> tryGetString() {
         if (isType() || !isString()) return Optional.empty();
-        return Optional.of(concept_get_string(nativeObject));
+        if (decodedValue == null) decodedValue = concept_get_string(nativeObject);
+        return Optional.of((String) decodedValue);
+    }
+
+    @Override
+    public Optional<Utf8View> tryGetStringUTF8() {
+        if (isType() || !isString()) return Optional.empty();
+        return Optional.of(new Utf8View(concept_get_string_utf8(nativeObject)));
     }
 
     @Override
     public Optional<LocalDate> tryGetDate() {
         if (isType() || !isDate()) return Optional.empty();
-        return Optional.of(LocalDateTime.ofInstant(Instant.ofEpochSecond(concept_get_date_as_seconds(nativeObject)), ZoneOffset.UTC).toLocalDate());
+        if (decodedValue == null) decodedValue = ValueParts.date(concept_get_date_as_seconds(nativeObject));
+        return Optional.of((LocalDate) decodedValue);
     }
 
     @Override
     public Optional<LocalDateTime> tryGetDatetime() {
         if (isType() || !isDatetime()) return Optional.empty();
-        return Optional.of(LocalDateTime.ofInstant(instantFromNativeDatetime(concept_get_datetime(nativeObject)), ZoneOffset.UTC));
+        if (decodedValue == null) decodedValue = ValueParts.datetime(valueParts());
+        return Optional.of((LocalDateTime) decodedValue);
     }
 
     @Override
     public Optional<ZonedDateTime> tryGetDatetimeTZ() {
         if (isType() || !isDatetimeTZ()) return Optional.empty();
-        com.typedb.driver.jni.DatetimeAndTimeZone nativeDatetime = concept_get_datetime_tz(nativeObject);
-        Instant naiveDatetime = instantFromNativeDatetime(nativeDatetime.getDatetime_in_nanos());
-        if (nativeDatetime.getIs_fixed_offset()) {
-            return Optional.of(naiveDatetime.atZone(ZoneOffset.ofTotalSeconds(nativeDatetime.getLocal_minus_utc_offset())));
-        } else {
-            assert nativeDatetime.getZone_name() != null;
-            return Optional.of(naiveDatetime.atZone(ZoneId.of(nativeDatetime.getZone_name())));
+        if (decodedValue == null) decodedValue = ValueParts.datetimeTZ(valueParts());
+        return Optional.of((ZonedDateTime) decodedValue);
+    }
+
+    private long[] valueParts() {
+        long[] parts = new long[ValueParts.LENGTH];
+        concept_get_value_parts(nativeObject, parts);
+        return parts;
+    }
+
+    @Override
+    public OptionalLong tryGetEpochSeconds() {
+        if (isType() || !(isDate() || isDatetime() || isDatetimeTZ())) return OptionalLong.empty();
+        return OptionalLong.of(concept_get_epoch_seconds(nativeObject));
+    }
+
+    @Override
+    public OptionalLong tryGetEpochNanos() {
+        if (isType() || !(isDate() || isDatetime() || isDatetimeTZ())) return OptionalLong.empty();
+        try {
+            return OptionalLong.of(concept_get_epoch_nanos(nativeObject));
+        } catch (com.typedb.driver.jni.Error e) {
+            throw new TypeDBDriverException(e);
         }
     }
 
     @Override
     public Optional<Duration> tryGetDuration() {
         if (isType() || !isDuration()) return Optional.empty();
-        return Optional.of(new Duration(concept_get_duration(nativeObject)));
+        if (decodedValue == null) decodedValue = new Duration(concept_get_duration(nativeObject));
+        return Optional.of((Duration) decodedValue);
     }
 
     @Override
     public Optional<Map<String, Optional<Value>>> tryGetStruct() {
         if (isType() || !isStruct()) return Optional.empty();
+        // the returned map is mutable, so it is decoded afresh for every call
         return Optional.of(new NativeIterator<>(concept_get_struct(nativeObject)).stream().map(fieldAndValue -> {
             String fieldName = fieldAndValue.getString();
             com.typedb.driver.jni.Concept nativeValue = fieldAndValue.getValue();
@@ -264,10 +371,6 @@ public abstract class ConceptImpl extends NativeObject<com.typedb.driver.jni.Con
         }).collect(Collectors.toMap(Pair::first, Pair::second)));
     }
 
-    private Instant instantFromNativeDatetime(com.typedb.driver.jni.DatetimeInNanos nativeDatetime) {
-        return Instant.ofEpochSecond(nativeDatetime.getSeconds(), nativeDatetime.getSubsec_nanos());
-    }
-
     @Override
     public String toString() {
         return concept_to_string(nativeObject);
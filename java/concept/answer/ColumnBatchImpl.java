@@ -0,0 +1,182 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.typedb.driver.concept.answer;
+
+import com.typedb.driver.api.answer.ColumnBatch;
+import com.typedb.driver.common.exception.TypeDBDriverException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.typedb.driver.api.answer.ColumnBatch.ColumnType.BOOLEAN;
+import static com.typedb.driver.api.answer.ColumnBatch.ColumnType.DOUBLE;
+import static com.typedb.driver.api.answer.ColumnBatch.ColumnType.EMPTY;
+import static com.typedb.driver.api.answer.ColumnBatch.ColumnType.INTEGER;
+import static com.typedb.driver.api.answer.ColumnBatch.ColumnType.OTHER;
+import static com.typedb.driver.api.answer.ColumnBatch.ColumnType.STRING;
+import static com.typedb.driver.common.exception.ErrorMessage.Concept.INVALID_VALUE_RETRIEVAL;
+
+public class ColumnBatchImpl implements ColumnBatch {
+    private final int rowCount;
+    private final int columnCount;
+    private final ColumnType[] columnTypes;
+    private final long[][] nullBitmaps;
+    private final boolean[][] booleans;
+    private final long[][] longs;
+    private final double[][] doubles;
+    private final int[][] stringCodes;
+    private final String[][] stringDictionaries;
+    private final int[][] labelCodes;
+    private final List<String> labelDictionary;
+
+    /**
+     * Transposes all remaining rows of the reader in a single pass.
+     */
+    ColumnBatchImpl(RowBatchReaderImpl rows) {
+        rowCount = rows.rowCount();
+        columnCount = rows.columnCount();
+        columnTypes = new ColumnType[columnCount];
+        Arrays.fill(columnTypes, EMPTY);
+        nullBitmaps = new long[columnCount][(rowCount + Long.SIZE - 1) / Long.SIZE];
+        booleans = new boolean[columnCount][];
+        longs = new long[columnCount][];
+        doubles = new double[columnCount][];
+        stringCodes = new int[columnCount][];
+        stringDictionaries = new String[columnCount][];
+        labelCodes = new int[columnCount][rowCount];
+        labelDictionary = rows.labels();
+
+        List<Map<String, Integer>> stringIndices = new ArrayList<>(Collections.nCopies(columnCount, null));
+        for (int row = 0; rows.nextRow(); row++) {
+            for (int column = 0; column < columnCount; column++) {
+                ColumnType cellType = rows.columnType(column);
+                labelCodes[column][row] = rows.labelId(column);
+                if (cellType == EMPTY) {
+                    nullBitmaps[column][row / Long.SIZE] |= 1L << (row % Long.SIZE);
+                    continue;
+                }
+                ColumnType columnType = columnTypes[column];
+                if (columnType == EMPTY) columnType = cellType;
+                else if (columnType != cellType) columnType = OTHER;
+                columnTypes[column] = columnType;
+                switch (columnType) {
+                    case BOOLEAN:
+                        if (booleans[column] == null) booleans[column] = new boolean[rowCount];
+                        booleans[column][row] = rows.getBoolean(column);
+                        break;
+                    case INTEGER:
+                        if (longs[column] == null) longs[column] = new long[rowCount];
+                        longs[column][row] = rows.getLong(column);
+                        break;
+                    case DOUBLE:
+                        if (doubles[column] == null) doubles[column] = new double[rowCount];
+                        doubles[column][row] = rows.getDouble(column);
+                        break;
+                    case STRING:
+                        if (stringCodes[column] == null) {
+                            stringCodes[column] = new int[rowCount];
+                            Arrays.fill(stringCodes[column], -1);
+                            stringIndices.set(column, new HashMap<>());
+                        }
+                        Map<String, Integer> index = stringIndices.get(column);
+                        stringCodes[column][row] = index.computeIfAbsent(rows.getString(column), s -> index.size());
+                        break;
+                    default:
+                        break;
+                }
+            }
+        }
+        for (int column = 0; column < columnCount; column++) {
+            if (columnTypes[column] != STRING) continue;
+            String[] dictionary = new String[stringIndices.get(column).size()];
+            stringIndices.get(column).forEach((string, code) -> dictionary[code] = string);
+            stringDictionaries[column] = dictionary;
+        }
+    }
+
+    @Override
+    public int rowCount() {
+        return rowCount;
+    }
+
+    @Override
+    public int columnCount() {
+        return columnCount;
+    }
+
+    @Override
+    public ColumnType columnType(int column) {
+        return columnTypes[column];
+    }
+
+    @Override
+    public boolean isNull(int column, int row) {
+        return (nullBitmaps[column][row / Long.SIZE] & (1L << (row % Long.SIZE))) != 0;
+    }
+
+    @Override
+    public long[] nullBitmap(int column) {
+        return nullBitmaps[column];
+    }
+
+    @Override
+    public boolean[] booleans(int column) {
+        if (columnTypes[column] != BOOLEAN) throw new TypeDBDriverException(INVALID_VALUE_RETRIEVAL, "boolean");
+        return booleans[column];
+    }
+
+    @Override
+    public long[] longs(int column) {
+        if (columnTypes[column] != INTEGER) throw new TypeDBDriverException(INVALID_VALUE_RETRIEVAL, "integer");
+        return longs[column];
+    }
+
+    @Override
+    public double[] doubles(int column) {
+        if (columnTypes[column] != DOUBLE) throw new TypeDBDriverException(INVALID_VALUE_RETRIEVAL, "double");
+        return doubles[column];
+    }
+
+    @Override
+    public int[] stringCodes(int column) {
+        if (columnTypes[column] != STRING) throw new TypeDBDriverException(INVALID_VALUE_RETRIEVAL, "string");
+        return stringCodes[column];
+    }
+
+    @Override
+    public String[] stringDictionary(int column) {
+        if (columnTypes[column] != STRING) throw new TypeDBDriverException(INVALID_VALUE_RETRIEVAL, "string");
+        return stringDictionaries[column];
+    }
+
+    @Override
+    public int[] labelCodes(int column) {
+        return labelCodes[column];
+    }
+
+    @Override
+    public List<String> labelDictionary() {
+        return labelDictionary;
+    }
+}
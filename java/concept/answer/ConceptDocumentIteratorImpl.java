@@ -22,15 +22,20 @@ package com.typedb.driver.concept.answer;
 import com.typedb.driver.api.answer.ConceptDocumentIterator;
 import com.typedb.driver.api.answer.JSON;
 import com.typedb.driver.common.NativeIterator;
+import com.typedb.driver.common.Utf8View;
+import com.typedb.driver.common.exception.TypeDBDriverException;
 
+import java.util.Iterator;
 import java.util.stream.Stream;
 
+import static com.typedb.driver.jni.typedb_driver.string_iterator_next_utf8;
+
 public class ConceptDocumentIteratorImpl extends QueryAnswerImpl implements ConceptDocumentIterator {
-    NativeIterator<String> nativeIterator;
+    NativeIterator<Utf8View> nativeIterator;
 
     public ConceptDocumentIteratorImpl(com.typedb.driver.jni.QueryAnswer answer) {
         super(answer);
-        nativeIterator = new NativeIterator<>(answer.intoDocuments());
+        nativeIterator = new NativeIterator<>(new Utf8Documents(answer.intoDocuments()));
     }
 
     @Override
@@ -40,11 +45,50 @@ public class ConceptDocumentIteratorImpl extends QueryAnswerImpl implements Conc
 
     @Override
     public JSON next() {
-        return JSON.parse(nativeIterator.next());
+        Utf8View document = nativeIterator.next();
+        return document == null ? null : JSON.parse(document.toString());
     }
 
     @Override
     public Stream<JSON> stream() {
-        return nativeIterator.stream().map(JSON::parse);
+        return nativeIterator.stream().map(document -> JSON.parse(document.toString()));
+    }
+
+    @Override
+    public Stream<Utf8View> streamUTF8() {
+        return nativeIterator.stream();
+    }
+
+    /**
+     * Fetches the documents as UTF-8 bytes, so that they are never converted through modified UTF-8 by JNI.
+     */
+    private static class Utf8Documents implements Iterator<Utf8View> {
+        private final com.typedb.driver.jni.StringIterator documents;
+        private Utf8View next;
+
+        private Utf8Documents(com.typedb.driver.jni.StringIterator documents) {
+            this.documents = documents;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (next == null) {
+                try {
+                    byte[] bytes = string_iterator_next_utf8(documents);
+                    if (bytes != null) next = new Utf8View(bytes);
+                } catch (com.typedb.driver.jni.Error e) {
+                    throw new TypeDBDriverException(e);
+                }
+            }
+            return next != null;
+        }
+
+        @Override
+        public Utf8View next() {
+            if (!hasNext()) return null;
+            Utf8View ret = next;
+            next = null;
+            return ret;
+        }
     }
 }
@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.typedb.driver.concept.answer;
+
+import com.typedb.driver.api.QueryType;
+import com.typedb.driver.api.answer.ColumnRef;
+import com.typedb.driver.api.answer.ConceptRowHeader;
+import com.typedb.driver.common.NativeIterator;
+import com.typedb.driver.common.exception.TypeDBDriverException;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static com.typedb.driver.common.exception.ErrorMessage.Concept.MISSING_VARIABLE;
+import static com.typedb.driver.common.exception.ErrorMessage.Query.VARIABLE_DOES_NOT_EXIST;
+import static com.typedb.driver.jni.typedb_driver.query_answer_get_column_names;
+
+public class ConceptRowHeaderImpl implements ConceptRowHeader {
+    private final List<String> columnNames;
+    private final QueryType queryType;
+    private final Map<String, Column> columns;
+
+    ConceptRowHeaderImpl(com.typedb.driver.jni.QueryAnswer answer, QueryType queryType) {
+        this.columnNames = new NativeIterator<>(query_answer_get_column_names(answer)).stream()
+                .collect(Collectors.toUnmodifiableList());
+        this.queryType = queryType;
+        this.columns = new HashMap<>();
+        for (int i = 0; i < columnNames.size(); i++) {
+            columns.put(columnNames.get(i), new Column(this, columnNames.get(i), i));
+        }
+    }
+
+    @Override
+    public Stream<String> columnNames() {
+        return columnNames.stream();
+    }
+
+    @Override
+    public QueryType getQueryType() {
+        return queryType;
+    }
+
+    @Override
+    public ColumnRef column(String columnName) {
+        if (columnName == null || columnName.isEmpty()) throw new TypeDBDriverException(MISSING_VARIABLE);
+        Column column = columns.get(columnName);
+        if (column == null) throw new TypeDBDriverException(VARIABLE_DOES_NOT_EXIST, columnName);
+        return column;
+    }
+
+    boolean owns(ColumnRef column) {
+        return column instanceof Column && ((Column) column).header == this;
+    }
+
+    @Override
+    public String toString() {
+        return "ConceptRowHeader" + columnNames;
+    }
+
+    private static class Column implements ColumnRef {
+        private final ConceptRowHeaderImpl header;
+        private final String name;
+        private final long index;
+
+        private Column(ConceptRowHeaderImpl header, String name, long index) {
+            this.header = header;
+            this.name = name;
+            this.index = index;
+        }
+
+        @Override
+        public String name() {
+            return name;
+        }
+
+        @Override
+        public long index() {
+            return index;
+        }
+
+        @Override
+        public String toString() {
+            return name + "@" + index;
+        }
+    }
+}
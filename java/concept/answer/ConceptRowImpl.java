@@ -20,6 +20,7 @@
 package com.typedb.driver.concept.answer;
 
 import com.typedb.driver.api.QueryType;
+import com.typedb.driver.api.answer.ColumnRef;
 import com.typedb.driver.api.answer.ConceptRow;
 import com.typedb.driver.api.concept.Concept;
 import com.typedb.driver.common.NativeIterator;
@@ -27,32 +28,54 @@ import com.typedb.driver.common.NativeObject;
 import com.typedb.driver.common.exception.TypeDBDriverException;
 import com.typedb.driver.concept.ConceptImpl;
 
+import java.util.Objects;
+import java.util.stream.LongStream;
 import java.util.stream.Stream;
 
 import static com.typedb.driver.common.exception.ErrorMessage.Concept.MISSING_VARIABLE;
 import static com.typedb.driver.common.exception.ErrorMessage.Query.VARIABLE_DOES_NOT_EXIST;
 import static com.typedb.driver.jni.typedb_driver.concept_row_equals;
-import static com.typedb.driver.jni.typedb_driver.concept_row_get;
+import static com.typedb.driver.jni.typedb_driver.concept_row_get_boolean;
+import static com.typedb.driver.jni.typedb_driver.concept_row_get_boolean_index;
+import static com.typedb.driver.jni.typedb_driver.concept_row_get_column_count;
 import static com.typedb.driver.jni.typedb_driver.concept_row_get_column_names;
-import static com.typedb.driver.jni.typedb_driver.concept_row_get_concepts;
-import static com.typedb.driver.jni.typedb_driver.concept_row_get_index;
+import static com.typedb.driver.jni.typedb_driver.concept_row_get_double;
+import static com.typedb.driver.jni.typedb_driver.concept_row_get_double_index;
+import static com.typedb.driver.jni.typedb_driver.concept_row_get_epoch_nanos;
+import static com.typedb.driver.jni.typedb_driver.concept_row_get_epoch_nanos_index;
+import static com.typedb.driver.jni.typedb_driver.concept_row_get_iid;
+import static com.typedb.driver.jni.typedb_driver.concept_row_get_iid_index;
+import static com.typedb.driver.jni.typedb_driver.concept_row_get_index_view;
+import static com.typedb.driver.jni.typedb_driver.concept_row_get_integer;
+import static com.typedb.driver.jni.typedb_driver.concept_row_get_integer_index;
 import static com.typedb.driver.jni.typedb_driver.concept_row_get_query_type;
+import static com.typedb.driver.jni.typedb_driver.concept_row_get_string;
+import static com.typedb.driver.jni.typedb_driver.concept_row_get_string_index;
+import static com.typedb.driver.jni.typedb_driver.concept_row_get_view;
 import static com.typedb.driver.jni.typedb_driver.concept_row_to_string;
 
 public class ConceptRowImpl extends NativeObject<com.typedb.driver.jni.ConceptRow> implements ConceptRow {
+    private final ConceptRowHeaderImpl header;
     private int hash = 0;
 
     public ConceptRowImpl(com.typedb.driver.jni.ConceptRow conceptRow) {
+        this(conceptRow, null);
+    }
+
+    ConceptRowImpl(com.typedb.driver.jni.ConceptRow conceptRow, ConceptRowHeaderImpl header) {
         super(conceptRow);
+        this.header = header;
     }
 
     @Override
     public Stream<String> columnNames() {
+        if (header != null) return header.columnNames();
         return new NativeIterator<>(concept_row_get_column_names(nativeObject)).stream();
     }
 
     @Override
     public QueryType getQueryType() {
+        if (header != null) return header.getQueryType();
         return QueryType.of(concept_row_get_query_type(nativeObject));
     }
 
@@ -60,22 +83,103 @@ public class ConceptRowImpl extends NativeObject<com.typedb.driver.jni.ConceptRo
     public Concept get(String columnName) {
         if (columnName == null || columnName.isEmpty())
             throw new TypeDBDriverException(MISSING_VARIABLE); // TODO: Revisit errors
-        com.typedb.driver.jni.Concept concept = concept_row_get(nativeObject, columnName);
+        com.typedb.driver.jni.Concept concept = read(() -> concept_row_get_view(nativeObject, columnName));
         if (concept == null) throw new TypeDBDriverException(VARIABLE_DOES_NOT_EXIST, columnName);
-        return ConceptImpl.of(concept);
+        return ConceptImpl.of(concept, this);
     }
 
     @Override
     public Concept getIndex(long columnIndex) {
         if (columnIndex < 0) throw new TypeDBDriverException(MISSING_VARIABLE); // TODO: Revisit errors
-        com.typedb.driver.jni.Concept concept = concept_row_get_index(nativeObject, columnIndex);
+        com.typedb.driver.jni.Concept concept = read(() -> concept_row_get_index_view(nativeObject, columnIndex));
         if (concept == null) throw new TypeDBDriverException(VARIABLE_DOES_NOT_EXIST, columnIndex);
-        return ConceptImpl.of(concept);
+        return ConceptImpl.of(concept, this);
+    }
+
+    @Override
+    public Concept get(ColumnRef column) {
+        if (header != null && header.owns(column)) return getIndex(column.index());
+        return get(column.name());
+    }
+
+    @Override
+    public long getLong(String columnName) {
+        checkColumn(columnName);
+        return read(() -> concept_row_get_integer(nativeObject, columnName));
+    }
+
+    @Override
+    public long getLong(long columnIndex) {
+        checkColumn(columnIndex);
+        return read(() -> concept_row_get_integer_index(nativeObject, columnIndex));
+    }
+
+    @Override
+    public double getDouble(String columnName) {
+        checkColumn(columnName);
+        return read(() -> concept_row_get_double(nativeObject, columnName));
+    }
+
+    @Override
+    public double getDouble(long columnIndex) {
+        checkColumn(columnIndex);
+        return read(() -> concept_row_get_double_index(nativeObject, columnIndex));
+    }
+
+    @Override
+    public boolean getBoolean(String columnName) {
+        checkColumn(columnName);
+        return read(() -> concept_row_get_boolean(nativeObject, columnName));
+    }
+
+    @Override
+    public boolean getBoolean(long columnIndex) {
+        checkColumn(columnIndex);
+        return read(() -> concept_row_get_boolean_index(nativeObject, columnIndex));
+    }
+
+    @Override
+    public String getString(String columnName) {
+        checkColumn(columnName);
+        return read(() -> concept_row_get_string(nativeObject, columnName));
+    }
+
+    @Override
+    public String getString(long columnIndex) {
+        checkColumn(columnIndex);
+        return read(() -> concept_row_get_string_index(nativeObject, columnIndex));
+    }
+
+    @Override
+    public long getEpochNanos(String columnName) {
+        checkColumn(columnName);
+        return read(() -> concept_row_get_epoch_nanos(nativeObject, columnName));
+    }
+
+    @Override
+    public long getEpochNanos(long columnIndex) {
+        checkColumn(columnIndex);
+        return read(() -> concept_row_get_epoch_nanos_index(nativeObject, columnIndex));
+    }
+
+    @Override
+    public String getIID(String columnName) {
+        checkColumn(columnName);
+        return read(() -> concept_row_get_iid(nativeObject, columnName));
+    }
+
+    @Override
+    public String getIID(long columnIndex) {
+        checkColumn(columnIndex);
+        return read(() -> concept_row_get_iid_index(nativeObject, columnIndex));
     }
 
     @Override
     public Stream<Concept> concepts() {
-        return new NativeIterator<>(concept_row_get_concepts(nativeObject)).stream().map(ConceptImpl::of);
+        return LongStream.range(0, concept_row_get_column_count(nativeObject)).mapToObj(columnIndex -> {
+            com.typedb.driver.jni.Concept concept = read(() -> concept_row_get_index_view(nativeObject, columnIndex));
+            return concept == null ? null : (Concept) ConceptImpl.of(concept, this);
+        }).filter(Objects::nonNull);
     }
 
     @Override
@@ -100,4 +204,25 @@ public class ConceptRowImpl extends NativeObject<com.typedb.driver.jni.ConceptRo
     private int computeHash() {
         return concepts().hashCode(); // TODO: Will be the same for rows with empty cells and without ones
     }
+
+    private static void checkColumn(String columnName) {
+        if (columnName == null || columnName.isEmpty()) throw new TypeDBDriverException(MISSING_VARIABLE);
+    }
+
+    private static void checkColumn(long columnIndex) {
+        if (columnIndex < 0) throw new TypeDBDriverException(MISSING_VARIABLE);
+    }
+
+    private static <T> T read(NativeGetter<T> getter) {
+        try {
+            return getter.get();
+        } catch (com.typedb.driver.jni.Error e) {
+            throw new TypeDBDriverException(e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface NativeGetter<T> {
+        T get() throws com.typedb.driver.jni.Error;
+    }
 }
@@ -19,19 +19,61 @@
 
 package com.typedb.driver.concept.answer;
 
+import com.typedb.driver.api.answer.ColumnBatch;
 import com.typedb.driver.api.answer.ConceptRow;
+import com.typedb.driver.api.answer.ConceptRowHeader;
 import com.typedb.driver.api.answer.ConceptRowIterator;
-import com.typedb.driver.common.NativeIterator;
+import com.typedb.driver.api.answer.RowBatchReader;
+import com.typedb.driver.common.BlockingMode;
+import com.typedb.driver.common.IteratorPublisher;
+import com.typedb.driver.common.exception.TypeDBDriverException;
 
 import javax.annotation.CheckReturnValue;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static com.typedb.driver.common.exception.ErrorMessage.Driver.POSITIVE_VALUE_REQUIRED;
+import static com.typedb.driver.common.exception.ErrorMessage.Query.DIRECT_BUFFER_REQUIRED;
+import static com.typedb.driver.common.exception.ErrorMessage.Query.ROWS_ALREADY_FETCHED;
+import static com.typedb.driver.jni.typedb_driver.concept_row_encoder_new;
+import static com.typedb.driver.jni.typedb_driver.concept_row_encoder_pending_size;
+import static com.typedb.driver.jni.typedb_driver.concept_row_iterator_next;
+import static com.typedb.driver.jni.typedb_driver.concept_row_iterator_next_batch;
+import static com.typedb.driver.jni.typedb_driver.concept_row_iterator_next_encoded;
+import static java.util.Spliterator.IMMUTABLE;
+import static java.util.Spliterator.NONNULL;
+import static java.util.Spliterator.ORDERED;
+import static java.util.Spliterators.spliteratorUnknownSize;
 
 public class ConceptRowIteratorImpl extends QueryAnswerImpl implements ConceptRowIterator {
-    NativeIterator<com.typedb.driver.jni.ConceptRow> nativeIterator;
+    private static final int STREAM_BATCH_SIZE = 256;
+    private static final int COLUMNAR_BUFFER_SIZE = 1 << 20;
+    private static final com.typedb.driver.jni.ConceptRow[] NO_ROWS = new com.typedb.driver.jni.ConceptRow[0];
+
+    private final com.typedb.driver.jni.ConceptRowIterator nativeIterator;
+    private final ConceptRowHeaderImpl header;
+    private final com.typedb.driver.jni.ConceptRow[] singleRow;
+    private com.typedb.driver.jni.ConceptRow[] buffer;
+    private int bufferPosition;
+    private boolean isFinished;
+    private com.typedb.driver.jni.ConceptRowEncoder encoder;
+    private RowBatchReaderImpl reader;
+    private ByteBuffer columnarBuffer;
 
     protected ConceptRowIteratorImpl(com.typedb.driver.jni.QueryAnswer answer) {
         super(answer);
-        nativeIterator = new NativeIterator<>(answer.intoRows());
+        header = new ConceptRowHeaderImpl(answer, queryType);
+        nativeIterator = answer.intoRows();
+        singleRow = new com.typedb.driver.jni.ConceptRow[1];
+        buffer = NO_ROWS;
+        bufferPosition = 0;
+        isFinished = false;
     }
 
     @Override
@@ -40,18 +82,199 @@ public class ConceptRowIteratorImpl extends QueryAnswerImpl implements ConceptRo
         return this;
     }
 
+    @Override
+    public ConceptRowHeader header() {
+        return header;
+    }
+
     @Override
     public boolean hasNext() {
-        return nativeIterator.hasNext();
+        if (bufferPosition < buffer.length) return true;
+        if (isFinished) return false;
+        // a single row is fetched, so that iteration never waits for more rows than it consumes
+        com.typedb.driver.jni.ConceptRow row = fetchNext();
+        if (row == null) {
+            isFinished = true;
+            return false;
+        }
+        singleRow[0] = row;
+        buffer = singleRow;
+        bufferPosition = 0;
+        return true;
     }
 
     @Override
     public ConceptRow next() {
-        return new ConceptRowImpl(nativeIterator.next());
+        if (!hasNext()) return null;
+        return takeBuffered();
+    }
+
+    @Override
+    public List<ConceptRow> nextBatch(int maxRows) {
+        if (maxRows < 1) throw new TypeDBDriverException(POSITIVE_VALUE_REQUIRED, maxRows);
+        if (!hasNext(maxRows)) return List.of();
+        List<ConceptRow> rows = new ArrayList<>(Math.min(maxRows, buffer.length - bufferPosition));
+        while (rows.size() < maxRows && bufferPosition < buffer.length) rows.add(takeBuffered());
+        return rows;
+    }
+
+    @Override
+    public RowBatchReader nextEncodedBatch(ByteBuffer encoded) {
+        if (!encoded.isDirect()) throw new TypeDBDriverException(DIRECT_BUFFER_REQUIRED);
+        if (bufferPosition < buffer.length) throw new TypeDBDriverException(ROWS_ALREADY_FETCHED);
+        return encodeNext(Integer.MAX_VALUE, encoded);
+    }
+
+    @Override
+    public RowBatchReader nextEncodedBatch(ByteBuffer encoded, int maxRows) {
+        if (maxRows < 1) throw new TypeDBDriverException(POSITIVE_VALUE_REQUIRED, maxRows);
+        if (!encoded.isDirect()) throw new TypeDBDriverException(DIRECT_BUFFER_REQUIRED);
+        if (bufferPosition < buffer.length) throw new TypeDBDriverException(ROWS_ALREADY_FETCHED);
+        return encodeNext(maxRows, encoded);
+    }
+
+    @Override
+    public long pendingEncodedSize() {
+        return encoder == null ? 0 : concept_row_encoder_pending_size(encoder);
+    }
+
+    @Override
+    public Stream<ColumnBatch> columnar(int batchSize) {
+        if (batchSize < 1) throw new TypeDBDriverException(POSITIVE_VALUE_REQUIRED, batchSize);
+        if (bufferPosition < buffer.length) throw new TypeDBDriverException(ROWS_ALREADY_FETCHED);
+        Iterator<ColumnBatch> batches = new Iterator<>() {
+            private ColumnBatch next;
+
+            @Override
+            public boolean hasNext() {
+                if (next == null && !isFinished) {
+                    RowBatchReaderImpl rows = encodeColumnar(batchSize);
+                    if (rows.rowCount() > 0) next = new ColumnBatchImpl(rows);
+                }
+                return next != null;
+            }
+
+            @Override
+            public ColumnBatch next() {
+                if (!hasNext()) return null;
+                ColumnBatch batch = next;
+                next = null;
+                return batch;
+            }
+        };
+        return StreamSupport.stream(spliteratorUnknownSize(batches, NONNULL | IMMUTABLE | ORDERED), false);
     }
 
     @Override
     public Stream<ConceptRow> stream() {
-        return nativeIterator.stream().map(ConceptRowImpl::new);
+        Iterator<ConceptRow> batched = new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return ConceptRowIteratorImpl.this.hasNext(STREAM_BATCH_SIZE);
+            }
+
+            @Override
+            public ConceptRow next() {
+                if (!hasNext()) return null;
+                return takeBuffered();
+            }
+        };
+        return StreamSupport.stream(spliteratorUnknownSize(batched, NONNULL | IMMUTABLE | ORDERED), false);
+    }
+
+    @Override
+    public Flow.Publisher<ConceptRow> publisher() {
+        return new IteratorPublisher<>(this, this::release);
+    }
+
+    @Override
+    public Flow.Publisher<ConceptRow> publisher(Executor executor) {
+        return new IteratorPublisher<>(this, executor, this::release);
+    }
+
+    /**
+     * Frees the native iterator and encoder, once the rows are no longer wanted.
+     */
+    private void release() {
+        isFinished = true;
+        buffer = NO_ROWS;
+        bufferPosition = 0;
+        nativeIterator.delete();
+        if (encoder != null) encoder.delete();
+    }
+
+    private boolean hasNext(int maxRows) {
+        if (bufferPosition < buffer.length) return true;
+        if (isFinished) return false;
+        buffer = fetchBatch(maxRows);
+        bufferPosition = 0;
+        if (buffer.length == 0) isFinished = true;
+        return !isFinished;
+    }
+
+    private ConceptRow takeBuffered() {
+        com.typedb.driver.jni.ConceptRow row = buffer[bufferPosition];
+        buffer[bufferPosition++] = null;
+        return new ConceptRowImpl(row, header);
+    }
+
+    private RowBatchReaderImpl encodeColumnar(int maxRows) {
+        if (columnarBuffer == null) columnarBuffer = ByteBuffer.allocateDirect(COLUMNAR_BUFFER_SIZE);
+        while (true) {
+            try {
+                return encodeNext(maxRows, columnarBuffer);
+            } catch (TypeDBDriverException e) {
+                // the row which did not fit is kept by the encoder, so it is retried with a larger buffer
+                long required = pendingEncodedSize();
+                if (required <= columnarBuffer.capacity()) throw e;
+                long capacity = Math.max(required, 2L * columnarBuffer.capacity());
+                columnarBuffer = ByteBuffer.allocateDirect(Math.toIntExact(capacity));
+            }
+        }
+    }
+
+    private RowBatchReaderImpl encodeNext(int maxRows, ByteBuffer encoded) {
+        if (encoder == null) {
+            encoder = concept_row_encoder_new();
+            reader = new RowBatchReaderImpl();
+        }
+        reader.skipRemainingRows();
+        long size = isFinished ? 0 : encodeBatch(maxRows, encoded);
+        if (size == 0) isFinished = true;
+        reader.reset(encoded, (int) size);
+        return reader;
+    }
+
+    private long encodeBatch(int maxRows, ByteBuffer encoded) {
+        com.typedb.driver.jni.ConceptRowEncoder encoder = this.encoder;
+        // a single wait per batch, which happens on the Java side if required by the blocking mode
+        return BlockingMode.call(() -> {
+            try {
+                return concept_row_iterator_next_encoded(nativeIterator, encoder, maxRows, encoded);
+            } catch (com.typedb.driver.jni.Error e) {
+                throw new TypeDBDriverException(e);
+            }
+        });
+    }
+
+    private com.typedb.driver.jni.ConceptRow fetchNext() {
+        return BlockingMode.call(() -> {
+            try {
+                return concept_row_iterator_next(nativeIterator);
+            } catch (com.typedb.driver.jni.Error e) {
+                throw new TypeDBDriverException(e);
+            }
+        });
+    }
+
+    private com.typedb.driver.jni.ConceptRow[] fetchBatch(int maxRows) {
+        // a single wait per batch, which happens on the Java side if required by the blocking mode
+        return BlockingMode.call(() -> {
+            try {
+                return concept_row_iterator_next_batch(nativeIterator, maxRows);
+            } catch (com.typedb.driver.jni.Error e) {
+                throw new TypeDBDriverException(e);
+            }
+        });
     }
 }
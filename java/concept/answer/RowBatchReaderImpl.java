@@ -0,0 +1,376 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.typedb.driver.concept.answer;
+
+import com.typedb.driver.api.answer.ColumnBatch;
+import com.typedb.driver.api.answer.RowBatchReader;
+import com.typedb.driver.common.Duration;
+import com.typedb.driver.common.exception.TypeDBDriverException;
+import com.typedb.driver.concept.value.ValueParts;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.Period;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static com.typedb.driver.common.exception.ErrorMessage.Concept.INVALID_VALUE_RETRIEVAL;
+
+/**
+ * Decodes the layout written by the native <code>ConceptRowEncoder</code>. A reader is reused for all batches of
+ * an answer, since labels are only sent the first time they occur, and are kept in the reader's dictionary.
+ */
+public class RowBatchReaderImpl implements RowBatchReader {
+    private static final int BATCH_HEADER_SIZE = 8;
+    private static final int EMPTY_CELL = 0xFF;
+    private static final int NO_LABEL = -1;
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+    private static final long NANOS_PER_DAY = 86_400L * NANOS_PER_SECOND;
+
+    private static final int ENTITY_TYPE = com.typedb.driver.jni.ConceptKind.EntityTypeKind.swigValue();
+    private static final int ROLE_TYPE = com.typedb.driver.jni.ConceptKind.RoleTypeKind.swigValue();
+    private static final int ENTITY = com.typedb.driver.jni.ConceptKind.EntityKind.swigValue();
+    private static final int RELATION = com.typedb.driver.jni.ConceptKind.RelationKind.swigValue();
+    private static final int ATTRIBUTE = com.typedb.driver.jni.ConceptKind.AttributeKind.swigValue();
+    private static final int VALUE = com.typedb.driver.jni.ConceptKind.ValueKind.swigValue();
+
+    private static final int BOOLEAN = com.typedb.driver.jni.ConceptValueKind.BooleanValue.swigValue();
+    private static final int INTEGER = com.typedb.driver.jni.ConceptValueKind.IntegerValue.swigValue();
+    private static final int DOUBLE = com.typedb.driver.jni.ConceptValueKind.DoubleValue.swigValue();
+    private static final int DECIMAL = com.typedb.driver.jni.ConceptValueKind.DecimalValue.swigValue();
+    private static final int STRING = com.typedb.driver.jni.ConceptValueKind.StringValue.swigValue();
+    private static final int DATE = com.typedb.driver.jni.ConceptValueKind.DateValue.swigValue();
+    private static final int DATETIME = com.typedb.driver.jni.ConceptValueKind.DatetimeValue.swigValue();
+    private static final int DATETIME_TZ = com.typedb.driver.jni.ConceptValueKind.DatetimeTZValue.swigValue();
+    private static final int DURATION = com.typedb.driver.jni.ConceptValueKind.DurationValue.swigValue();
+    private static final int STRUCT = com.typedb.driver.jni.ConceptValueKind.StructValue.swigValue();
+    private static final String[] VALUE_TYPE_NAMES = {
+            "none", "boolean", "integer", "double", "decimal", "string", "date", "datetime", "datetime-tz",
+            "duration", "struct"
+    };
+
+    private final List<String> labels;
+    private ByteBuffer buffer;
+    private int rowCount;
+    private int columnCount;
+    private int rowIndex;
+    private int nextRowOffset;
+    private int[] cellOffsets;
+    private int[] payloadOffsets;
+    private byte[] bytes;
+    private byte[] lastZoneName;
+    private ZoneId lastZone;
+
+    RowBatchReaderImpl() {
+        labels = new ArrayList<>();
+        buffer = ByteBuffer.allocate(0);
+        cellOffsets = new int[0];
+        payloadOffsets = new int[0];
+        bytes = new byte[64];
+    }
+
+    void reset(ByteBuffer encoded, int size) {
+        buffer = encoded.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+        rowCount = size == 0 ? 0 : buffer.getInt(0);
+        columnCount = size == 0 ? 0 : buffer.getInt(4);
+        rowIndex = -1;
+        nextRowOffset = BATCH_HEADER_SIZE;
+        if (cellOffsets.length < columnCount) {
+            cellOffsets = new int[columnCount];
+            payloadOffsets = new int[columnCount];
+        }
+    }
+
+    /**
+     * Labels are defined by the rows in which they first occur, so rows which were not read still have to be
+     * walked through, before the buffer is overwritten, to keep the dictionary in sync with the encoder.
+     */
+    void skipRemainingRows() {
+        while (nextRow()) {
+            // reading the row registers the labels it defines
+        }
+    }
+
+    @Override
+    public int rowCount() {
+        return rowCount;
+    }
+
+    @Override
+    public int columnCount() {
+        return columnCount;
+    }
+
+    @Override
+    public boolean nextRow() {
+        if (rowIndex + 1 >= rowCount) return false;
+        rowIndex++;
+        int offset = nextRowOffset;
+        for (int column = 0; column < columnCount; column++) {
+            cellOffsets[column] = offset;
+            int kind = buffer.get(offset++) & 0xFF;
+            if (kind != EMPTY_CELL && kind != VALUE) offset = readLabel(offset);
+            payloadOffsets[column] = offset;
+            if (kind == ENTITY || kind == RELATION) offset += Short.BYTES + (buffer.getShort(offset) & 0xFFFF);
+            else if (kind == ATTRIBUTE || kind == VALUE) offset = skipValue(offset);
+        }
+        nextRowOffset = offset;
+        return true;
+    }
+
+    private int readLabel(int offset) {
+        int id = buffer.getInt(offset);
+        offset += Integer.BYTES;
+        if (id != NO_LABEL && id == labels.size()) {
+            labels.add(readString(offset));
+            offset += Integer.BYTES + buffer.getInt(offset);
+        }
+        return offset;
+    }
+
+    private int skipValue(int offset) {
+        int valueKind = buffer.get(offset++);
+        if (valueKind == BOOLEAN) return offset + 1;
+        else if (valueKind == INTEGER || valueKind == DOUBLE) return offset + Long.BYTES;
+        else if (valueKind == DECIMAL) return offset + 2 * Long.BYTES;
+        else if (valueKind == STRING || valueKind == STRUCT) return offset + Integer.BYTES + buffer.getInt(offset);
+        else if (valueKind == DATE) return offset + Integer.BYTES;
+        else if (valueKind == DATETIME) return offset + Long.BYTES + Integer.BYTES;
+        else if (valueKind == DATETIME_TZ) {
+            offset += Long.BYTES + 2 * Integer.BYTES;
+            return offset + Integer.BYTES + buffer.getInt(offset);
+        } else if (valueKind == DURATION) return offset + 2 * Integer.BYTES + Long.BYTES;
+        return offset;
+    }
+
+    private String readString(int offset) {
+        int length = buffer.getInt(offset);
+        if (bytes.length < length) bytes = new byte[Math.max(length, 2 * bytes.length)];
+        buffer.position(offset + Integer.BYTES);
+        buffer.get(bytes, 0, length);
+        return new String(bytes, 0, length, StandardCharsets.UTF_8);
+    }
+
+    private int kind(int column) {
+        if (rowIndex < 0 || rowIndex >= rowCount) throw new IndexOutOfBoundsException("No current row.");
+        return buffer.get(cellOffsets[column]) & 0xFF;
+    }
+
+    ColumnBatch.ColumnType columnType(int column) {
+        int kind = kind(column);
+        if (kind == EMPTY_CELL) return ColumnBatch.ColumnType.EMPTY;
+        if (kind != ATTRIBUTE && kind != VALUE) return ColumnBatch.ColumnType.OTHER;
+        int valueKind = buffer.get(payloadOffsets[column]);
+        if (valueKind == BOOLEAN) return ColumnBatch.ColumnType.BOOLEAN;
+        else if (valueKind == INTEGER) return ColumnBatch.ColumnType.INTEGER;
+        else if (valueKind == DOUBLE) return ColumnBatch.ColumnType.DOUBLE;
+        else if (valueKind == STRING) return ColumnBatch.ColumnType.STRING;
+        return ColumnBatch.ColumnType.OTHER;
+    }
+
+    int labelId(int column) {
+        int kind = kind(column);
+        if (kind == EMPTY_CELL || kind == VALUE) return NO_LABEL;
+        return buffer.getInt(cellOffsets[column] + 1);
+    }
+
+    List<String> labels() {
+        return Collections.unmodifiableList(labels);
+    }
+
+    @Override
+    public boolean isEmpty(int column) {
+        return kind(column) == EMPTY_CELL;
+    }
+
+    @Override
+    public boolean isType(int column) {
+        int kind = kind(column);
+        return kind >= ENTITY_TYPE && kind <= ROLE_TYPE;
+    }
+
+    @Override
+    public boolean isEntity(int column) {
+        return kind(column) == ENTITY;
+    }
+
+    @Override
+    public boolean isRelation(int column) {
+        return kind(column) == RELATION;
+    }
+
+    @Override
+    public boolean isAttribute(int column) {
+        return kind(column) == ATTRIBUTE;
+    }
+
+    @Override
+    public boolean isValue(int column) {
+        return kind(column) == VALUE;
+    }
+
+    @Override
+    public String getLabel(int column) {
+        int kind = kind(column);
+        if (kind == EMPTY_CELL) throw new TypeDBDriverException(INVALID_VALUE_RETRIEVAL, "label");
+        if (kind == VALUE) return getValueType(column);
+        int id = buffer.getInt(cellOffsets[column] + 1);
+        return id == NO_LABEL ? "unknown" : labels.get(id);
+    }
+
+    @Override
+    public String getIID(int column) {
+        int kind = kind(column);
+        if (kind != ENTITY && kind != RELATION) throw new TypeDBDriverException(INVALID_VALUE_RETRIEVAL, "iid");
+        int offset = payloadOffsets[column];
+        int length = buffer.getShort(offset) & 0xFFFF;
+        StringBuilder iid = new StringBuilder(2 + 2 * length).append("0x");
+        for (int i = 0; i < length; i++) {
+            int octet = buffer.get(offset + Short.BYTES + i) & 0xFF;
+            iid.append(Character.forDigit(octet >> 4, 16)).append(Character.forDigit(octet & 0xF, 16));
+        }
+        return iid.toString();
+    }
+
+    @Override
+    public int getIIDBytes(int column, byte[] target) {
+        int kind = kind(column);
+        if (kind != ENTITY && kind != RELATION) throw new TypeDBDriverException(INVALID_VALUE_RETRIEVAL, "iid");
+        int offset = payloadOffsets[column];
+        int length = buffer.getShort(offset) & 0xFFFF;
+        buffer.position(offset + Short.BYTES);
+        buffer.get(target, 0, length);
+        return length;
+    }
+
+    @Override
+    public String getValueType(int column) {
+        int kind = kind(column);
+        if (kind != ATTRIBUTE && kind != VALUE) throw new TypeDBDriverException(INVALID_VALUE_RETRIEVAL, "value type");
+        return VALUE_TYPE_NAMES[buffer.get(payloadOffsets[column])];
+    }
+
+    private int valueOffset(int column, int valueKind, String valueName) {
+        int kind = kind(column);
+        if ((kind != ATTRIBUTE && kind != VALUE) || buffer.get(payloadOffsets[column]) != valueKind) {
+            throw new TypeDBDriverException(INVALID_VALUE_RETRIEVAL, valueName);
+        }
+        return payloadOffsets[column] + 1;
+    }
+
+    @Override
+    public boolean getBoolean(int column) {
+        return buffer.get(valueOffset(column, BOOLEAN, "boolean")) != 0;
+    }
+
+    @Override
+    public long getLong(int column) {
+        return buffer.getLong(valueOffset(column, INTEGER, "integer"));
+    }
+
+    @Override
+    public double getDouble(int column) {
+        return buffer.getDouble(valueOffset(column, DOUBLE, "double"));
+    }
+
+    @Override
+    public BigDecimal getDecimal(int column) {
+        int offset = valueOffset(column, DECIMAL, "decimal");
+        return ValueParts.decimal(buffer.getLong(offset), buffer.getLong(offset + Long.BYTES));
+    }
+
+    @Override
+    public String getString(int column) {
+        return readString(valueOffset(column, STRING, "string"));
+    }
+
+    @Override
+    public LocalDate getDate(int column) {
+        return LocalDate.ofEpochDay(buffer.getInt(valueOffset(column, DATE, "date")));
+    }
+
+    @Override
+    public LocalDateTime getDatetime(int column) {
+        int offset = valueOffset(column, DATETIME, "datetime");
+        return LocalDateTime.ofEpochSecond(buffer.getLong(offset), buffer.getInt(offset + Long.BYTES), ZoneOffset.UTC);
+    }
+
+    @Override
+    public ZonedDateTime getDatetimeTZ(int column) {
+        int offset = valueOffset(column, DATETIME_TZ, "datetime-tz");
+        Instant instant = Instant.ofEpochSecond(buffer.getLong(offset), buffer.getInt(offset + Long.BYTES));
+        int offsetSeconds = buffer.getInt(offset + Long.BYTES + Integer.BYTES);
+        int zoneNameOffset = offset + Long.BYTES + 2 * Integer.BYTES;
+        if (buffer.getInt(zoneNameOffset) == 0) return instant.atZone(ZoneOffset.ofTotalSeconds(offsetSeconds));
+        return instant.atZone(readZone(zoneNameOffset));
+    }
+
+    /**
+     * Values of a column tend to share their time zone, so the last zone read is kept with its name,
+     * and reused without decoding the name again while it stays the same.
+     */
+    private ZoneId readZone(int offset) {
+        int length = buffer.getInt(offset);
+        if (lastZone != null && lastZoneName.length == length && zoneNameEquals(offset + Integer.BYTES)) {
+            return lastZone;
+        }
+        String zoneName = readString(offset);
+        lastZone = ValueParts.zone(zoneName);
+        lastZoneName = Arrays.copyOf(bytes, length);
+        return lastZone;
+    }
+
+    private boolean zoneNameEquals(int offset) {
+        for (int i = 0; i < lastZoneName.length; i++) {
+            if (buffer.get(offset + i) != lastZoneName[i]) return false;
+        }
+        return true;
+    }
+
+    @Override
+    public Duration getDuration(int column) {
+        int offset = valueOffset(column, DURATION, "duration");
+        Period datePart = Period.of(0, buffer.getInt(offset), buffer.getInt(offset + Integer.BYTES));
+        return new Duration(datePart, java.time.Duration.ofNanos(buffer.getLong(offset + 2 * Integer.BYTES)));
+    }
+
+    @Override
+    public long getEpochNanos(int column) {
+        int kind = kind(column);
+        int valueKind = kind == ATTRIBUTE || kind == VALUE ? buffer.get(payloadOffsets[column]) : -1;
+        int offset = payloadOffsets[column] + 1;
+        if (valueKind == DATE) return Math.multiplyExact(buffer.getInt(offset), NANOS_PER_DAY);
+        if (valueKind == DATETIME || valueKind == DATETIME_TZ) {
+            long seconds = buffer.getLong(offset);
+            return Math.addExact(Math.multiplyExact(seconds, NANOS_PER_SECOND), buffer.getInt(offset + Long.BYTES));
+        }
+        throw new TypeDBDriverException(INVALID_VALUE_RETRIEVAL, "datetime");
+    }
+}
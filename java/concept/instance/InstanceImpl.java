@@ -25,9 +25,6 @@ import com.typedb.driver.concept.ConceptImpl;
 import com.typedb.driver.concept.type.TypeImpl;
 
 import static com.typedb.driver.common.exception.ErrorMessage.Internal.UNEXPECTED_NATIVE_VALUE;
-import static com.typedb.driver.jni.typedb_driver.concept_is_attribute;
-import static com.typedb.driver.jni.typedb_driver.concept_is_entity;
-import static com.typedb.driver.jni.typedb_driver.concept_is_relation;
 
 public abstract class InstanceImpl extends ConceptImpl implements Instance {
     protected int hash = 0;
@@ -37,10 +34,9 @@ public abstract class InstanceImpl extends ConceptImpl implements Instance {
     }
 
     public static InstanceImpl of(com.typedb.driver.jni.Concept concept) {
-        if (concept_is_entity(concept)) return new EntityImpl(concept);
-        else if (concept_is_relation(concept)) return new RelationImpl(concept);
-        else if (concept_is_attribute(concept)) return new AttributeImpl(concept);
-        throw new TypeDBDriverException(UNEXPECTED_NATIVE_VALUE);
+        ConceptImpl instance = ConceptImpl.of(concept);
+        if (!(instance instanceof InstanceImpl)) throw new TypeDBDriverException(UNEXPECTED_NATIVE_VALUE);
+        return (InstanceImpl) instance;
     }
 
     @Override
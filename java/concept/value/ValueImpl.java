@@ -50,17 +50,30 @@ public class ValueImpl extends ConceptImpl implements Value {
 
     @Override
     public Object get() {
-        if (isBoolean()) return getBoolean();
-        else if (isInteger()) return getInteger();
-        else if (isDouble()) return getDouble();
-        else if (isDecimal()) return getDecimal();
-        else if (isString()) return getString();
-        else if (isDate()) return getDate();
-        else if (isDatetime()) return getDatetime();
-        else if (isDatetimeTZ()) return getDatetimeTZ();
-        else if (isDuration()) return getDuration();
-        else if (isStruct()) return getStruct();
-        throw new TypeDBDriverException(UNEXPECTED_NATIVE_VALUE);
+        switch (valueKind()) {
+            case BooleanValue:
+                return getBoolean();
+            case IntegerValue:
+                return getInteger();
+            case DoubleValue:
+                return getDouble();
+            case DecimalValue:
+                return getDecimal();
+            case StringValue:
+                return getString();
+            case DateValue:
+                return getDate();
+            case DatetimeValue:
+                return getDatetime();
+            case DatetimeTZValue:
+                return getDatetimeTZ();
+            case DurationValue:
+                return getDuration();
+            case StructValue:
+                return getStruct();
+            default:
+                throw new TypeDBDriverException(UNEXPECTED_NATIVE_VALUE);
+        }
     }
 
     @Override
@@ -115,17 +128,25 @@ public class ValueImpl extends ConceptImpl implements Value {
 
     @Override
     public String toString() {
-        if (isBoolean()) return Boolean.toString(getBoolean());
-        else if (isInteger()) return Long.toString(getInteger());
-        else if (isDouble()) return Double.toString(getDouble());
-        else if (isDecimal()) return getDecimal().toString();
-        else if (isString()) return getString();
-        else if (isDate()) return getDate().toString();
-        else if (isDatetime()) return getDatetime().toString();
-        else if (isDatetimeTZ()) return getDatetimeTZ().toString();
-        else if (isDuration()) return getDuration().toString();
-        else if (isStruct()) return getStruct().toString();
-        throw new TypeDBDriverException(UNEXPECTED_NATIVE_VALUE);
+        switch (valueKind()) {
+            case BooleanValue:
+                return Boolean.toString(getBoolean());
+            case IntegerValue:
+                return Long.toString(getInteger());
+            case DoubleValue:
+                return Double.toString(getDouble());
+            case StringValue:
+                return getString();
+            case DecimalValue:
+            case DateValue:
+            case DatetimeValue:
+            case DatetimeTZValue:
+            case DurationValue:
+            case StructValue:
+                return get().toString();
+            default:
+                throw new TypeDBDriverException(UNEXPECTED_NATIVE_VALUE);
+        }
     }
 
     @Override
@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.typedb.driver.concept.value;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import static com.typedb.driver.api.concept.Concept.DECIMAL_SCALE;
+import static com.typedb.driver.jni.typedb_driver.time_zone_name;
+
+/**
+ * Builds decimal and temporal values from the primitive parts they are read in from the native side,
+ * as laid out by <code>concept_get_value_parts</code>.
+ *
+ * @hidden
+ */
+public final class ValueParts {
+    public static final int LENGTH = 4;
+    public static final int INTEGER_PART = 0;
+    public static final int FRACTIONAL_PART = 1;
+    public static final int EPOCH_SECONDS = 0;
+    public static final int NANOS = 1;
+    public static final int OFFSET_SECONDS = 2;
+    public static final int ZONE_ID = 3;
+
+    private static final long NO_TIME_ZONE_ID = -1;
+    private static final int MAX_CACHED_ZONE_IDS = 1024;
+    private static final long SECONDS_PER_DAY = 86_400;
+    private static final BigInteger FRACTIONAL_PART_DENOMINATOR = BigInteger.TEN.pow(DECIMAL_SCALE);
+    // zones by their native id, and by name for zones read from row batches
+    private static final AtomicReferenceArray<ZoneId> zonesById = new AtomicReferenceArray<>(MAX_CACHED_ZONE_IDS);
+    private static final ConcurrentHashMap<String, ZoneId> zonesByName = new ConcurrentHashMap<>();
+
+    private ValueParts() {
+    }
+
+    public static BigDecimal decimal(long[] parts) {
+        return decimal(parts[INTEGER_PART], parts[FRACTIONAL_PART]);
+    }
+
+    /**
+     * Combines the integer part of a decimal with its fractional part, which is unsigned and counts multiples of
+     * 10<sup>-19</sup>, into a <code>BigDecimal</code> of that scale.
+     */
+    public static BigDecimal decimal(long integer, long fractional) {
+        if (integer == 0 && fractional >= 0) return BigDecimal.valueOf(fractional, DECIMAL_SCALE);
+        BigInteger unsignedFractional = fractional >= 0 ? BigInteger.valueOf(fractional)
+                : BigInteger.valueOf(fractional >>> 1).shiftLeft(1).or(BigInteger.valueOf(fractional & 1));
+        BigInteger unscaled = BigInteger.valueOf(integer).multiply(FRACTIONAL_PART_DENOMINATOR).add(unsignedFractional);
+        return new BigDecimal(unscaled, DECIMAL_SCALE);
+    }
+
+    public static LocalDate date(long epochSeconds) {
+        return LocalDate.ofEpochDay(Math.floorDiv(epochSeconds, SECONDS_PER_DAY));
+    }
+
+    public static LocalDateTime datetime(long[] parts) {
+        return LocalDateTime.ofEpochSecond(parts[EPOCH_SECONDS], (int) parts[NANOS], ZoneOffset.UTC);
+    }
+
+    public static ZonedDateTime datetimeTZ(long[] parts) {
+        Instant instant = Instant.ofEpochSecond(parts[EPOCH_SECONDS], parts[NANOS]);
+        return instant.atZone(zone(parts[ZONE_ID], (int) parts[OFFSET_SECONDS]));
+    }
+
+    /**
+     * Resolves a time zone by its native id, or as a fixed offset if there is none. The name of each zone
+     * is fetched and parsed only the first time its id is seen.
+     */
+    public static ZoneId zone(long zoneId, int offsetSeconds) {
+        if (zoneId == NO_TIME_ZONE_ID) return ZoneOffset.ofTotalSeconds(offsetSeconds);
+        if (zoneId >= MAX_CACHED_ZONE_IDS) return zone(time_zone_name(zoneId));
+        ZoneId zone = zonesById.get((int) zoneId);
+        if (zone == null) {
+            zone = zone(time_zone_name(zoneId));
+            zonesById.set((int) zoneId, zone);
+        }
+        return zone;
+    }
+
+    /**
+     * Resolves a time zone by its IANA name, parsing each name only once.
+     */
+    public static ZoneId zone(String zoneName) {
+        return zonesByName.computeIfAbsent(zoneName, ZoneId::of);
+    }
+}
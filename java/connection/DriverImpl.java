@@ -22,6 +22,7 @@ package com.typedb.driver.connection;
 import com.typedb.driver.api.DriverOptions;
 import com.typedb.driver.api.Credentials;
 import com.typedb.driver.api.Driver;
+import com.typedb.driver.api.Options;
 import com.typedb.driver.api.Transaction;
 import com.typedb.driver.api.database.DatabaseManager;
 import com.typedb.driver.api.user.UserManager;
@@ -33,6 +34,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Executor;
 
 import static com.typedb.driver.jni.typedb_driver.driver_force_close;
 import static com.typedb.driver.jni.typedb_driver.driver_is_open;
@@ -41,21 +43,33 @@ import static com.typedb.driver.jni.typedb_driver.driver_open_cloud_translated;
 import static com.typedb.driver.jni.typedb_driver.driver_open_core;
 
 public class DriverImpl extends NativeObject<com.typedb.driver.jni.TypeDBDriver> implements Driver {
+    private final Executor callbackExecutor;
+    private final Executor futureExecutor;
 
     public DriverImpl(String address, Credentials credentials, DriverOptions driverOptions) throws TypeDBDriverException {
-        this(openCore(address, credentials, driverOptions));
+        this(openCore(address, credentials, driverOptions), driverOptions.callbackExecutor(), driverOptions.futureExecutor());
     }
 
     public DriverImpl(Set<String> initAddresses, Credentials credentials, DriverOptions driverOptions) throws TypeDBDriverException {
-        this(openCloud(initAddresses, credentials, driverOptions));
+        this(openCloud(initAddresses, credentials, driverOptions), driverOptions.callbackExecutor(), driverOptions.futureExecutor());
     }
 
     public DriverImpl(Map<String, String> addressTranslation, Credentials credentials, DriverOptions driverOptions) throws TypeDBDriverException {
-        this(openCloud(addressTranslation, credentials, driverOptions));
+        this(openCloud(addressTranslation, credentials, driverOptions), driverOptions.callbackExecutor(), driverOptions.futureExecutor());
     }
 
-    private DriverImpl(com.typedb.driver.jni.TypeDBDriver connection) {
+    private DriverImpl(com.typedb.driver.jni.TypeDBDriver connection, Executor callbackExecutor, Executor futureExecutor) {
         super(connection);
+        this.callbackExecutor = callbackExecutor;
+        this.futureExecutor = futureExecutor;
+    }
+
+    Executor callbackExecutor() {
+        return callbackExecutor;
+    }
+
+    Executor futureExecutor() {
+        return futureExecutor;
     }
 
     private static com.typedb.driver.jni.TypeDBDriver openCore(String address, Credentials credentials, DriverOptions driverOptions) {
@@ -111,7 +125,12 @@ public class DriverImpl extends NativeObject<com.typedb.driver.jni.TypeDBDriver>
 
     @Override
     public Transaction transaction(String database, Transaction.Type type) throws TypeDBDriverException {
-        return new TransactionImpl(this, database, type/*, options*/);
+        return transaction(database, type, new Options());
+    }
+
+    @Override
+    public Transaction transaction(String database, Transaction.Type type, Options options) throws TypeDBDriverException {
+        return new TransactionImpl(this, database, type, options);
     }
 
     @Override
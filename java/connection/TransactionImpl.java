@@ -20,44 +20,65 @@
 package com.typedb.driver.connection;
 
 import com.typedb.driver.api.Driver;
+import com.typedb.driver.api.Options;
 import com.typedb.driver.api.Transaction;
 import com.typedb.driver.api.answer.QueryAnswer;
+import com.typedb.driver.common.BlockingMode;
 import com.typedb.driver.common.NativeObject;
 import com.typedb.driver.common.Promise;
 import com.typedb.driver.common.exception.TypeDBDriverException;
 import com.typedb.driver.concept.answer.QueryAnswerImpl;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.function.Consumer;
 
 import static com.typedb.driver.common.exception.ErrorMessage.Driver.TRANSACTION_CLOSED;
 import static com.typedb.driver.common.exception.ErrorMessage.Query.MISSING_QUERY;
+import static com.typedb.driver.jni.typedb_driver.transaction_buffered_bytes;
+import static com.typedb.driver.jni.typedb_driver.transaction_buffered_rows;
 import static com.typedb.driver.jni.typedb_driver.transaction_commit;
+import static com.typedb.driver.jni.typedb_driver.transaction_commit_with_callback;
 import static com.typedb.driver.jni.typedb_driver.transaction_force_close;
 import static com.typedb.driver.jni.typedb_driver.transaction_is_open;
 import static com.typedb.driver.jni.typedb_driver.transaction_new;
 import static com.typedb.driver.jni.typedb_driver.transaction_on_close;
+import static com.typedb.driver.jni.typedb_driver.query_buffer_data;
+import static com.typedb.driver.jni.typedb_driver.query_buffer_new;
 import static com.typedb.driver.jni.typedb_driver.transaction_query;
+import static com.typedb.driver.jni.typedb_driver.transaction_query_buffer;
+import static com.typedb.driver.jni.typedb_driver.transaction_query_buffer_with_callback;
+import static com.typedb.driver.jni.typedb_driver.transaction_query_with_callback;
 import static com.typedb.driver.jni.typedb_driver.transaction_rollback;
+import static com.typedb.driver.jni.typedb_driver.transaction_rollback_with_callback;
 
 public class TransactionImpl extends NativeObject<com.typedb.driver.jni.Transaction> implements Transaction {
     private final Transaction.Type type;
-//    private final Options options;
+    private final Options options;
 
-    private final List<TransactionOnClose> callbacks;
+    private final Executor callbackExecutor;
+    private final Executor futureExecutor;
 
-    TransactionImpl(Driver driver, String database, Type type/*, Options options*/) throws TypeDBDriverException {
-        super(newNative(driver, database, type/*, options*/));
+    TransactionImpl(Driver driver, String database, Type type, Options options) throws TypeDBDriverException {
+        super(newNative(driver, database, type, options));
         this.type = type;
-//        this.options = options;
+        this.options = options;
 
-        callbacks = new ArrayList<>();
+        this.callbackExecutor = ((DriverImpl) driver).callbackExecutor();
+        this.futureExecutor = ((DriverImpl) driver).futureExecutor();
     }
 
-    private static com.typedb.driver.jni.Transaction newNative(Driver driver, String database, Type type/*, Options options*/) {
+    private static com.typedb.driver.jni.Transaction newNative(Driver driver, String database, Type type, Options options) {
         try {
-            return transaction_new(((DriverImpl) driver).nativeObject, database, type.nativeObject/*, options.nativeObject*/);
+            return transaction_new(((DriverImpl) driver).nativeObject, database, type.nativeObject, options.nativeObject);
         } catch (com.typedb.driver.jni.Error e) {
             throw new TypeDBDriverException(e);
         }
@@ -68,10 +89,10 @@ public class TransactionImpl extends NativeObject<com.typedb.driver.jni.Transact
         return type;
     }
 
-//    @Override
-//    public Options options() {
-//        return options;
-//    }
+    @Override
+    public Options options() {
+        return options;
+    }
 
     @Override
     public boolean isOpen() {
@@ -79,24 +100,139 @@ public class TransactionImpl extends NativeObject<com.typedb.driver.jni.Transact
         else return transaction_is_open(nativeObject);
     }
 
+    @Override
+    public long bufferedRows() {
+        if (!nativeObject.isOwned()) return 0;
+        return transaction_buffered_rows(nativeObject);
+    }
+
+    @Override
+    public long bufferedBytes() {
+        if (!nativeObject.isOwned()) return 0;
+        return transaction_buffered_bytes(nativeObject);
+    }
+
     @Override
     public Promise<? extends QueryAnswer> query(String query) throws TypeDBDriverException {
+        return query(query, new Options());
+    }
+
+    @Override
+    public Promise<? extends QueryAnswer> query(String query, Options options) throws TypeDBDriverException {
+        if (query == null || query.isBlank()) throw new TypeDBDriverException(MISSING_QUERY);
+        if (BlockingMode.waitsInJava()) return Promise.of(queryAsync(query, options));
+        try {
+            return Promise.map(transaction_query(nativeObject, query, options.nativeObject), QueryAnswerImpl::of);
+        } catch (com.typedb.driver.jni.Error e) {
+            throw new TypeDBDriverException(e);
+        }
+    }
+
+    @Override
+    public CompletableFuture<? extends QueryAnswer> queryAsync(String query) throws TypeDBDriverException {
+        return queryAsync(query, new Options());
+    }
+
+    @Override
+    public CompletableFuture<? extends QueryAnswer> queryAsync(String query, Options options) throws TypeDBDriverException {
         if (query == null || query.isBlank()) throw new TypeDBDriverException(MISSING_QUERY);
+        if (!nativeObject.isOwned()) throw new TypeDBDriverException(TRANSACTION_CLOSED);
+        QueryAnswerCallback callback = new QueryAnswerCallback(futureExecutor);
+        try {
+            transaction_query_with_callback(nativeObject, query, options.nativeObject, callback.released());
+        } catch (com.typedb.driver.jni.Error e) {
+            callback.cancel();
+            throw new TypeDBDriverException(e);
+        }
+        return callback.future;
+    }
+
+    @Override
+    public Promise<? extends QueryAnswer> query(CharSequence query) throws TypeDBDriverException {
+        return query(query, new Options());
+    }
+
+    @Override
+    public Promise<? extends QueryAnswer> query(CharSequence query, Options options) throws TypeDBDriverException {
+        if (query == null || isBlank(query)) throw new TypeDBDriverException(MISSING_QUERY);
+        return query(new QueryPayload(query), options);
+    }
+
+    @Override
+    public Promise<? extends QueryAnswer> query(ByteBuffer utf8) throws TypeDBDriverException {
+        return query(utf8, new Options());
+    }
+
+    @Override
+    public Promise<? extends QueryAnswer> query(ByteBuffer utf8, Options options) throws TypeDBDriverException {
+        if (utf8 == null || !utf8.hasRemaining()) throw new TypeDBDriverException(MISSING_QUERY);
+        return query(new QueryPayload(utf8), options);
+    }
+
+    private Promise<? extends QueryAnswer> query(QueryPayload query, Options options) {
+        if (BlockingMode.waitsInJava()) return Promise.of(queryAsync(query, options));
+        try {
+            return Promise.map(
+                    transaction_query_buffer(nativeObject, query.buffer.released(), query.length, options.nativeObject),
+                    QueryAnswerImpl::of
+            );
+        } catch (com.typedb.driver.jni.Error e) {
+            throw new TypeDBDriverException(e);
+        }
+    }
+
+    @Override
+    public CompletableFuture<? extends QueryAnswer> queryAsync(CharSequence query) throws TypeDBDriverException {
+        return queryAsync(query, new Options());
+    }
+
+    @Override
+    public CompletableFuture<? extends QueryAnswer> queryAsync(CharSequence query, Options options) throws TypeDBDriverException {
+        if (query == null || isBlank(query)) throw new TypeDBDriverException(MISSING_QUERY);
+        if (!nativeObject.isOwned()) throw new TypeDBDriverException(TRANSACTION_CLOSED);
+        return queryAsync(new QueryPayload(query), options);
+    }
+
+    @Override
+    public CompletableFuture<? extends QueryAnswer> queryAsync(ByteBuffer utf8) throws TypeDBDriverException {
+        return queryAsync(utf8, new Options());
+    }
+
+    @Override
+    public CompletableFuture<? extends QueryAnswer> queryAsync(ByteBuffer utf8, Options options) throws TypeDBDriverException {
+        if (utf8 == null || !utf8.hasRemaining()) throw new TypeDBDriverException(MISSING_QUERY);
+        if (!nativeObject.isOwned()) throw new TypeDBDriverException(TRANSACTION_CLOSED);
+        return queryAsync(new QueryPayload(utf8), options);
+    }
+
+    private CompletableFuture<? extends QueryAnswer> queryAsync(QueryPayload query, Options options) {
+        QueryAnswerCallback callback = new QueryAnswerCallback(futureExecutor);
         try {
-            return Promise.map(transaction_query(nativeObject, query/*, options.nativeObject*/), QueryAnswerImpl::of);
+            transaction_query_buffer_with_callback(
+                    nativeObject, query.buffer.released(), query.length, options.nativeObject, callback.released()
+            );
         } catch (com.typedb.driver.jni.Error e) {
+            callback.cancel();
             throw new TypeDBDriverException(e);
         }
+        return callback.future;
+    }
+
+    private static boolean isBlank(CharSequence query) {
+        for (int i = 0; i < query.length(); i++) {
+            if (!Character.isWhitespace(query.charAt(i))) return false;
+        }
+        return true;
     }
 
     @Override
     public void onClose(Consumer<Throwable> function) throws TypeDBDriverException {
         if (!nativeObject.isOwned()) throw new TypeDBDriverException(TRANSACTION_CLOSED);
+        TransactionOnClose callback = new TransactionOnClose(function, callbackExecutor);
         try {
-            TransactionOnClose callback = new TransactionOnClose(function);
-            callbacks.add(callback);
             transaction_on_close(nativeObject, callback.released());
         } catch (com.typedb.driver.jni.Error error) {
+            callback.cancel();
             throw new TypeDBDriverException(error);
         }
     }
@@ -104,6 +240,10 @@ public class TransactionImpl extends NativeObject<com.typedb.driver.jni.Transact
     @Override
     public void commit() throws TypeDBDriverException {
         if (!nativeObject.isOwned()) throw new TypeDBDriverException(TRANSACTION_CLOSED);
+        if (BlockingMode.waitsInJava()) {
+            BlockingMode.join(commitAsync());
+            return;
+        }
         try {
             // NOTE: .released() relinquishes ownership of the native object to the Rust side
             transaction_commit(nativeObject.released()).get();
@@ -115,6 +255,10 @@ public class TransactionImpl extends NativeObject<com.typedb.driver.jni.Transact
     @Override
     public void rollback() throws TypeDBDriverException {
         if (!nativeObject.isOwned()) throw new TypeDBDriverException(TRANSACTION_CLOSED);
+        if (BlockingMode.waitsInJava()) {
+            BlockingMode.join(rollbackAsync());
+            return;
+        }
         try {
             transaction_rollback(nativeObject).get();
         } catch (com.typedb.driver.jni.Error.Unchecked e) {
@@ -122,6 +266,33 @@ public class TransactionImpl extends NativeObject<com.typedb.driver.jni.Transact
         }
     }
 
+    @Override
+    public CompletableFuture<Void> commitAsync() throws TypeDBDriverException {
+        if (!nativeObject.isOwned()) throw new TypeDBDriverException(TRANSACTION_CLOSED);
+        VoidCallback callback = new VoidCallback(futureExecutor);
+        try {
+            // NOTE: .released() relinquishes ownership of the native object to the Rust side
+            transaction_commit_with_callback(nativeObject.released(), callback.released());
+        } catch (com.typedb.driver.jni.Error e) {
+            callback.cancel();
+            throw new TypeDBDriverException(e);
+        }
+        return callback.future;
+    }
+
+    @Override
+    public CompletableFuture<Void> rollbackAsync() throws TypeDBDriverException {
+        if (!nativeObject.isOwned()) throw new TypeDBDriverException(TRANSACTION_CLOSED);
+        VoidCallback callback = new VoidCallback(futureExecutor);
+        try {
+            transaction_rollback_with_callback(nativeObject, callback.released());
+        } catch (com.typedb.driver.jni.Error e) {
+            callback.cancel();
+            throw new TypeDBDriverException(e);
+        }
+        return callback.future;
+    }
+
     @Override
     public void close() throws TypeDBDriverException {
         if (nativeObject.isOwned()) {
@@ -129,22 +300,140 @@ public class TransactionImpl extends NativeObject<com.typedb.driver.jni.Transact
                 transaction_force_close(nativeObject);
             } catch (com.typedb.driver.jni.Error error) {
                 throw new TypeDBDriverException(error);
-            } finally {
-                callbacks.clear();
             }
         }
     }
 
+    // Native callbacks only hold weak references to their Java directors, so pending callbacks are kept reachable here
+    // until the native side has executed them.
+    private static final Set<Object> pendingCallbacks = ConcurrentHashMap.newKeySet();
+
     static class TransactionOnClose extends com.typedb.driver.jni.TransactionCallbackDirector {
         private final Consumer<Throwable> function;
+        private final Executor executor;
 
-        public TransactionOnClose(Consumer<Throwable> function) {
+        TransactionOnClose(Consumer<Throwable> function, Executor executor) {
             this.function = function;
+            this.executor = executor;
+            pendingCallbacks.add(this);
+        }
+
+        void cancel() {
+            pendingCallbacks.remove(this);
         }
 
         @Override
         public void callback(com.typedb.driver.jni.Error e) {
-            function.accept(e);
+            pendingCallbacks.remove(this);
+            executor.execute(() -> function.accept(e));
+        }
+    }
+
+    /**
+     * Completes a future on the given executor rather than on the native callback thread, so that the stages attached
+     * to it cannot hold up, or wait on, the callbacks of other operations.
+     */
+    private static <T> void complete(CompletableFuture<T> future, Executor executor, T value, Throwable error) {
+        Runnable completion = () -> {
+            if (error != null) future.completeExceptionally(error);
+            else future.complete(value);
+        };
+        try {
+            executor.execute(completion);
+        } catch (RejectedExecutionException e) {
+            completion.run();
+        }
+    }
+
+    static class QueryAnswerCallback extends com.typedb.driver.jni.QueryAnswerCallbackDirector {
+        private final CompletableFuture<QueryAnswer> future = new CompletableFuture<>();
+        private final Executor executor;
+
+        QueryAnswerCallback(Executor executor) {
+            this.executor = executor;
+            pendingCallbacks.add(this);
+        }
+
+        void cancel() {
+            pendingCallbacks.remove(this);
+        }
+
+        @Override
+        public void callback(com.typedb.driver.jni.QueryAnswer answer, com.typedb.driver.jni.Error error) {
+            pendingCallbacks.remove(this);
+            if (error != null) complete(future, executor, null, new TypeDBDriverException(error));
+            else {
+                try {
+                    complete(future, executor, QueryAnswerImpl.of(answer), null);
+                } catch (TypeDBDriverException e) {
+                    complete(future, executor, null, e);
+                }
+            }
+        }
+    }
+
+    static class VoidCallback extends com.typedb.driver.jni.VoidCallbackDirector {
+        private final CompletableFuture<Void> future = new CompletableFuture<>();
+        private final Executor executor;
+
+        VoidCallback(Executor executor) {
+            this.executor = executor;
+            pendingCallbacks.add(this);
+        }
+
+        void cancel() {
+            pendingCallbacks.remove(this);
+        }
+
+        @Override
+        public void callback(com.typedb.driver.jni.Error error) {
+            pendingCallbacks.remove(this);
+            complete(future, executor, null, error == null ? null : new TypeDBDriverException(error));
+        }
+    }
+
+    /**
+     * The UTF-8 text of a query, written once into a native <code>QueryBuffer</code>,
+     * which is then consumed by the query without being copied.
+     */
+    private static class QueryPayload {
+        private final com.typedb.driver.jni.QueryBuffer buffer;
+        private final long length;
+
+        private QueryPayload(CharSequence query) {
+            buffer = query_buffer_new(utf8Length(query));
+            ByteBuffer target = query_buffer_data(buffer);
+            // lone surrogates are replaced rather than failing the query on the client
+            CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder()
+                    .onMalformedInput(CodingErrorAction.REPLACE)
+                    .onUnmappableCharacter(CodingErrorAction.REPLACE);
+            encoder.encode(CharBuffer.wrap(query), target, true);
+            encoder.flush(target);
+            length = target.position();
+        }
+
+        private QueryPayload(ByteBuffer utf8) {
+            buffer = query_buffer_new(utf8.remaining());
+            query_buffer_data(buffer).put(utf8.duplicate());
+            length = utf8.remaining();
+        }
+
+        /**
+         * The number of bytes that a query encodes to, or an upper bound if it holds lone surrogates.
+         */
+        private static long utf8Length(CharSequence query) {
+            long length = 0;
+            for (int i = 0; i < query.length(); i++) {
+                char c = query.charAt(i);
+                if (c < 0x80) length += 1;
+                else if (c < 0x800) length += 2;
+                else if (Character.isHighSurrogate(c) && i + 1 < query.length()
+                        && Character.isLowSurrogate(query.charAt(i + 1))) {
+                    length += 4;
+                    i++;
+                } else length += 3;
+            }
+            return length;
         }
     }
 }
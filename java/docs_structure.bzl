@@ -17,6 +17,10 @@
 
 dir_mapping = {
     "ConceptRow.adoc": "answer",
+    "ConceptRowHeader.adoc": "answer",
+    "ColumnRef.adoc": "answer",
+    "RowBatchReader.adoc": "answer",
+    "ColumnBatch.adoc": "answer",
     "ConceptRowIterator.adoc": "answer",
     "ConceptDocumentIterator.adoc": "answer",
     "JSON.adoc": "answer",
@@ -24,9 +28,11 @@ dir_mapping = {
     "QueryAnswer.adoc": "answer",
     "QueryType.adoc": "answer",
     "Promise_T_.adoc": "answer",
+    "BlockingMode.adoc": "answer",
     "Concept.adoc": "concept",
     "TypeDB.adoc": "connection",
     "DriverOptions.adoc": "connection",
+    "DriverRuntime.adoc": "connection",
     "Credentials.adoc": "connection",
     "Driver.adoc": "connection",
     "User.adoc": "connection",
@@ -47,7 +53,8 @@ dir_mapping = {
     "Type.adoc": "schema",
     "Transaction.adoc": "transaction",
     "Transaction.Type.adoc": "transaction",
-#    "Options.adoc": "transaction",
+    "Options.adoc": "transaction",
     "Duration.adoc": "value",
+    "Utf8View.adoc": "value",
     "TypeDBDriverException.adoc": "errors",
 }
@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.typedb.driver.reactor;
+
+import com.typedb.driver.api.Transaction;
+import com.typedb.driver.api.answer.ConceptRow;
+import com.typedb.driver.api.answer.ConceptRowIterator;
+import com.typedb.driver.api.answer.QueryAnswer;
+import reactor.adapter.JdkFlowAdapter;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import javax.annotation.CheckReturnValue;
+
+/**
+ * Adapters exposing TypeDB transactions and answers as Project Reactor publishers.
+ */
+public final class TypeDBReactor {
+    private TypeDBReactor() {
+    }
+
+    /**
+     * Executes a TypeQL query when subscribed to, without blocking the subscribing thread.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * TypeDBReactor.query(transaction, "match $x isa person;")
+     * </pre>
+     *
+     * @param transaction The transaction in which to execute the query
+     * @param query The query to execute
+     */
+    @CheckReturnValue
+    public static Mono<QueryAnswer> query(Transaction transaction, String query) {
+        return Mono.fromFuture(() -> transaction.queryAsync(query));
+    }
+
+    /**
+     * Executes a TypeQL query when subscribed to, and streams the resulting <code>ConceptRow</code>s.
+     * Rows are only fetched from the server as the downstream requests them.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * TypeDBReactor.rows(transaction, "match $x isa person;")
+     * </pre>
+     *
+     * @param transaction The transaction in which to execute the query
+     * @param query The query to execute
+     */
+    @CheckReturnValue
+    public static Flux<ConceptRow> rows(Transaction transaction, String query) {
+        return query(transaction, query).flatMapMany(answer -> rows(answer.asConceptRows()));
+    }
+
+    /**
+     * Streams the <code>ConceptRow</code>s of an answer. Rows are only fetched from the server as the downstream
+     * requests them.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * TypeDBReactor.rows(answer.asConceptRows())
+     * </pre>
+     *
+     * @param rows The row iterator to stream
+     */
+    @CheckReturnValue
+    public static Flux<ConceptRow> rows(ConceptRowIterator rows) {
+        return JdkFlowAdapter.flowPublisherToFlux(rows.publisher());
+    }
+
+    /**
+     * Commits the transaction when subscribed to, without blocking the subscribing thread.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * TypeDBReactor.commit(transaction)
+     * </pre>
+     *
+     * @param transaction The transaction to commit
+     */
+    @CheckReturnValue
+    public static Mono<Void> commit(Transaction transaction) {
+        return Mono.fromFuture(transaction::commitAsync);
+    }
+
+    /**
+     * Rolls back the transaction when subscribed to, without blocking the subscribing thread.
+     *
+     * <h3>Examples</h3>
+     * <pre>
+     * TypeDBReactor.rollback(transaction)
+     * </pre>
+     *
+     * @param transaction The transaction to roll back
+     */
+    @CheckReturnValue
+    public static Mono<Void> rollback(Transaction transaction) {
+        return Mono.fromFuture(transaction::rollbackAsync);
+    }
+}
@@ -0,0 +1,207 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.typedb.driver.test.integration.core;
+
+import com.typedb.driver.TypeDB;
+import com.typedb.driver.api.Credentials;
+import com.typedb.driver.api.Driver;
+import com.typedb.driver.api.DriverOptions;
+import com.typedb.driver.api.Transaction;
+import com.typedb.driver.api.answer.ConceptRowIterator;
+import com.typedb.driver.arrow.ArrowBatches;
+import com.typedb.driver.arrow.TypeDBArrow;
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.RootAllocator;
+import org.apache.arrow.vector.VarCharVector;
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.arrow.vector.ipc.ArrowStreamReader;
+import org.apache.arrow.vector.types.pojo.ArrowType;
+import org.apache.arrow.vector.types.pojo.Field;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+@SuppressWarnings("Duplicates")
+public class ArrowTest {
+    private static final String DB_NAME = "typedb-arrow";
+    private static final String ADDRESS = "0.0.0.0:1729";
+    private static final int PEOPLE = 10;
+    private static final int COMPANIES = 3;
+    private static Driver typedbDriver;
+
+    @BeforeClass
+    public static void setUpClass() {
+        typedbDriver = TypeDB.coreDriver(ADDRESS, new Credentials("admin", "password"), new DriverOptions(false, null));
+        if (typedbDriver.databases().contains(DB_NAME)) typedbDriver.databases().get(DB_NAME).delete();
+        typedbDriver.databases().create(DB_NAME);
+        localhostTypeDBTX(tx -> {
+            tx.query("define attribute name, value string; attribute age, value integer; attribute bio, value string;" +
+                    "entity person, owns name, owns age, owns bio; entity company, owns name;").resolve();
+            tx.commit();
+        }, Transaction.Type.SCHEMA);
+        localhostTypeDBTX(tx -> {
+            for (int i = 0; i < PEOPLE; i++) {
+                tx.query(String.format("insert $p isa person, has name \"person-%d\", has age %d;", i, i)).resolve();
+            }
+            for (int i = 0; i < COMPANIES; i++) {
+                tx.query(String.format("insert $c isa company, has name \"company-%d\";", i)).resolve();
+            }
+            tx.commit();
+        }, Transaction.Type.WRITE);
+    }
+
+    @AfterClass
+    public static void close() {
+        typedbDriver.close();
+    }
+
+    @Test
+    public void writesTypedColumns() throws IOException {
+        try (BufferAllocator allocator = new RootAllocator()) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            localhostTypeDBTX(tx -> TypeDBArrow.writeStream(
+                    tx.query("match $p isa person, has name $n, has age $a;").resolve().asConceptRows(),
+                    allocator, 4, out
+            ), Transaction.Type.READ);
+
+            try (ArrowStreamReader reader = reader(out.toByteArray(), allocator)) {
+                VectorSchemaRoot root = reader.getVectorSchemaRoot();
+                assertTrue(type(root, "p") instanceof ArrowType.FixedSizeBinary);
+                assertEquals(ArrowType.Utf8.INSTANCE, type(root, "n"));
+                assertEquals(new ArrowType.Int(64, true), type(root, "a"));
+                int rows = 0;
+                while (reader.loadNextBatch()) {
+                    assertTrue(root.getRowCount() <= 4);
+                    rows += root.getRowCount();
+                }
+                assertEquals(PEOPLE, rows);
+            }
+        }
+    }
+
+    @Test
+    public void promotesColumnsEmptyInEarlierBatches() {
+        try (BufferAllocator allocator = new RootAllocator()) {
+            localhostTypeDBTX(tx -> {
+                String query = "match { $p isa person; } or { $c isa company; };";
+                ConceptRowIterator answer = tx.query(query).resolve().asConceptRows();
+                try (ArrowBatches batches = TypeDBArrow.batches(answer, allocator, 1)) {
+                    int rows = 0;
+                    while (batches.loadNextBatch()) rows += batches.getVectorSchemaRoot().getRowCount();
+                    assertEquals(PEOPLE + COMPANIES, rows);
+                    VectorSchemaRoot root = batches.getVectorSchemaRoot();
+                    assertNotEquals(ArrowType.Null.INSTANCE, type(root, "p"));
+                    assertNotEquals(ArrowType.Null.INSTANCE, type(root, "c"));
+                }
+            }, Transaction.Type.READ);
+        }
+    }
+
+    @Test
+    public void holdsBackBatchesUntilEveryColumnIsTyped() throws IOException {
+        try (BufferAllocator allocator = new RootAllocator()) {
+            UnclosableOutputStream out = new UnclosableOutputStream();
+            localhostTypeDBTX(tx -> TypeDBArrow.writeStream(
+                    tx.query("match { $p isa person; } or { $c isa company; };").resolve().asConceptRows(),
+                    allocator, 1, out
+            ), Transaction.Type.READ);
+            assertFalse(out.closed);
+
+            try (ArrowStreamReader reader = reader(out.bytes(), allocator)) {
+                VectorSchemaRoot root = reader.getVectorSchemaRoot();
+                assertTrue(type(root, "p") instanceof ArrowType.FixedSizeBinary);
+                assertTrue(type(root, "c") instanceof ArrowType.FixedSizeBinary);
+                int rows = 0;
+                while (reader.loadNextBatch()) rows += root.getRowCount();
+                assertEquals(PEOPLE + COMPANIES, rows);
+            }
+        }
+    }
+
+    @Test
+    public void growsTheEncodingBufferForLargeRows() throws IOException {
+        String bio = "a".repeat(3 << 19);
+        localhostTypeDBTX(tx -> {
+            String query = "match $p isa person, has name \"person-0\"; insert $p has bio \"%s\";";
+            tx.query(String.format(query, bio)).resolve();
+            tx.commit();
+        }, Transaction.Type.WRITE);
+
+        try (BufferAllocator allocator = new RootAllocator()) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            localhostTypeDBTX(tx -> TypeDBArrow.writeStream(
+                    tx.query("match $p isa person, has bio $b;").resolve().asConceptRows(), allocator, 4, out
+            ), Transaction.Type.READ);
+
+            try (ArrowStreamReader reader = reader(out.toByteArray(), allocator)) {
+                assertTrue(reader.loadNextBatch());
+                VarCharVector bios = (VarCharVector) reader.getVectorSchemaRoot().getVector("b");
+                assertEquals(bio, new String(bios.get(0), StandardCharsets.UTF_8));
+                assertFalse(reader.loadNextBatch());
+            }
+        }
+    }
+
+    private static ArrowStreamReader reader(byte[] bytes, BufferAllocator allocator) {
+        return new ArrowStreamReader(new ByteArrayInputStream(bytes), allocator);
+    }
+
+    private static ArrowType type(VectorSchemaRoot root, String column) {
+        List<Field> fields = root.getSchema().getFields();
+        return fields.stream().filter(field -> field.getName().equals(column)).findFirst().orElseThrow().getType();
+    }
+
+    private static void localhostTypeDBTX(Consumer<Transaction> fn, Transaction.Type type) {
+        try (Transaction transaction = typedbDriver.transaction(DB_NAME, type)) {
+            fn.accept(transaction);
+        }
+    }
+
+    private static class UnclosableOutputStream extends FilterOutputStream {
+        private boolean closed = false;
+
+        private UnclosableOutputStream() {
+            super(new ByteArrayOutputStream());
+        }
+
+        private byte[] bytes() {
+            return ((ByteArrayOutputStream) out).toByteArray();
+        }
+
+        @Override
+        public void close() throws IOException {
+            closed = true;
+            super.close();
+        }
+    }
+}
@@ -0,0 +1,233 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.typedb.driver.test.integration.core;
+
+import com.typedb.driver.TypeDB;
+import com.typedb.driver.api.Credentials;
+import com.typedb.driver.api.Driver;
+import com.typedb.driver.api.DriverOptions;
+import com.typedb.driver.api.Transaction;
+import com.typedb.driver.api.answer.ColumnRef;
+import com.typedb.driver.api.answer.ConceptRow;
+import com.typedb.driver.api.answer.ConceptRowHeader;
+import com.typedb.driver.api.answer.ConceptRowIterator;
+import com.typedb.driver.common.exception.TypeDBDriverException;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import static com.typedb.driver.common.exception.ErrorMessage.Driver.POSITIVE_VALUE_REQUIRED;
+import static com.typedb.driver.common.exception.ErrorMessage.Query.VARIABLE_DOES_NOT_EXIST;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class ConceptRowIteratorTest {
+    private static final String DB_NAME = "typedb";
+    private static final String ADDRESS = "0.0.0.0:1729";
+    // more than two batches of the batched stream, which fetches 256 rows at a time
+    private static final int PEOPLE = 600;
+    private static final String AGES_IN_ORDER = "match $p isa person, has age $a, has name $n; sort $a;";
+    private static Driver typedbDriver;
+
+    @BeforeClass
+    public static void setUpClass() {
+        typedbDriver = TypeDB.coreDriver(ADDRESS, new Credentials("admin", "password"), new DriverOptions(false, null));
+        if (typedbDriver.databases().contains(DB_NAME)) typedbDriver.databases().get(DB_NAME).delete();
+        typedbDriver.databases().create(DB_NAME);
+        try (Transaction transaction = typedbDriver.transaction(DB_NAME, Transaction.Type.SCHEMA)) {
+            transaction.query("define attribute age, value integer; attribute name, value string; "
+                    + "entity person, owns age, owns name;").resolve();
+            transaction.commit();
+        }
+        try (Transaction transaction = typedbDriver.transaction(DB_NAME, Transaction.Type.WRITE)) {
+            for (int age = 0; age < PEOPLE; age++) {
+                transaction.query("insert $p isa person, has age " + age + ", has name \"person " + age + "\";")
+                        .resolve();
+            }
+            transaction.commit();
+        }
+    }
+
+    @AfterClass
+    public static void close() {
+        typedbDriver.close();
+    }
+
+    @Test
+    public void nextBatchReturnsEveryRowOnceAcrossBatches() {
+        for (int maxRows : new int[]{1, 7, 256, PEOPLE - 1, PEOPLE, PEOPLE + 1}) {
+            readAgesInOrder(rows -> {
+                List<Long> ages = new ArrayList<>();
+                List<ConceptRow> batch;
+                while (!(batch = rows.nextBatch(maxRows)).isEmpty()) {
+                    assertTrue(batch.size() <= maxRows);
+                    for (ConceptRow row : batch) ages.add(row.getLong("a"));
+                }
+                assertAgesInOrder(ages);
+                // an exhausted iterator keeps returning empty batches
+                assertTrue(rows.nextBatch(maxRows).isEmpty());
+                assertFalse(rows.hasNext());
+            });
+        }
+    }
+
+    @Test
+    public void nextBatchContinuesFromSingleRows() {
+        readAgesInOrder(rows -> {
+            List<Long> ages = new ArrayList<>();
+            ages.add(rows.next().getLong("a"));
+            // a row fetched for hasNext is returned by the next batch
+            assertTrue(rows.hasNext());
+            rows.nextBatch(100).forEach(row -> ages.add(row.getLong("a")));
+            while (rows.hasNext()) ages.add(rows.next().getLong("a"));
+            assertAgesInOrder(ages);
+        });
+    }
+
+    @Test
+    public void nextBatchRejectsNonPositiveSizes() {
+        readAgesInOrder(rows -> {
+            try {
+                rows.nextBatch(0);
+                fail();
+            } catch (TypeDBDriverException e) {
+                assertEquals(POSITIVE_VALUE_REQUIRED, e.getErrorMessage());
+            }
+        });
+    }
+
+    @Test
+    public void batchedStreamReturnsEveryRowOnce() {
+        readAgesInOrder(rows -> assertAgesInOrder(
+                rows.stream().map(row -> row.getLong("a")).collect(Collectors.toList())
+        ));
+        readAgesInOrder(rows -> {
+            // the stream continues from the rows already taken by the iterator
+            List<Long> ages = new ArrayList<>();
+            ages.add(rows.next().getLong("a"));
+            rows.nextBatch(300).forEach(row -> ages.add(row.getLong("a")));
+            rows.stream().forEach(row -> ages.add(row.getLong("a")));
+            assertAgesInOrder(ages);
+        });
+    }
+
+    @Test
+    public void rowsBeforeAnErrorAreReturnedFirst() {
+        try (Transaction transaction = typedbDriver.transaction(DB_NAME, Transaction.Type.READ)) {
+            // the addition overflows on the row with age 11, after the rows with smaller ages were produced
+            ConceptRowIterator rows = transaction.query("match $p isa person, has age $a; $a < 20; sort $a; "
+                    + "match let $q = $a + " + (Long.MAX_VALUE - 10) + ";").resolve().asConceptRows();
+            List<Long> ages = new ArrayList<>();
+            try {
+                List<ConceptRow> batch;
+                while (!(batch = rows.nextBatch(4)).isEmpty()) {
+                    for (ConceptRow row : batch) ages.add(row.getLong("a"));
+                }
+                fail();
+            } catch (TypeDBDriverException e) {
+                List<Long> expected = new ArrayList<>();
+                for (long age = 0; age <= 10; age++) expected.add(age);
+                assertEquals(expected, ages);
+            }
+        }
+    }
+
+    @Test
+    public void typedGettersRejectColumnsOfAnotherType() {
+        readAgesInOrder(rows -> {
+            ConceptRow row = rows.next();
+            assertFailsToRead(() -> row.getLong("n"));
+            assertFailsToRead(() -> row.getDouble("a"));
+            assertFailsToRead(() -> row.getBoolean("a"));
+            assertFailsToRead(() -> row.getString("a"));
+            assertFailsToRead(() -> row.getEpochNanos("a"));
+            assertFailsToRead(() -> row.getLong("p"));
+            assertFailsToRead(() -> row.getLong("missing"));
+            // a failed read leaves the row usable
+            assertEquals(0, row.getLong("a"));
+            assertEquals("person 0", row.getString("n"));
+            ConceptRowHeader header = rows.header();
+            assertFailsToRead(() -> row.getString(header.column("a").index()));
+            assertEquals(0, row.getLong(header.column("a").index()));
+        });
+    }
+
+    @Test
+    public void columnsOfAnotherHeaderAreLookedUpByName() {
+        try (Transaction transaction = typedbDriver.transaction(DB_NAME, Transaction.Type.READ)) {
+            ConceptRowHeader otherHeader = transaction.query("match $p isa person, has name $n; limit 1;")
+                    .resolve().asConceptRows().header();
+            ConceptRowIterator rows = transaction.query(AGES_IN_ORDER).resolve().asConceptRows();
+            ConceptRow row = rows.next();
+            assertEquals(row.get("n"), row.get(otherHeader.column("n")));
+            assertEquals(row.getIID("p"), row.get(otherHeader.column("p")).asEntity().getIID());
+
+            // a reference of another implementation is looked up by its name, not by its index
+            ColumnRef misplaced = new ColumnRef() {
+                @Override
+                public String name() {
+                    return "n";
+                }
+
+                @Override
+                public long index() {
+                    return rows.header().column("a").index();
+                }
+            };
+            assertEquals("person 0", row.get(misplaced).asAttribute().getString());
+
+            ColumnRef absent = transaction.query("match $x isa person; limit 1;").resolve().asConceptRows()
+                    .header().column("x");
+            try {
+                row.get(absent);
+                fail();
+            } catch (TypeDBDriverException e) {
+                assertEquals(VARIABLE_DOES_NOT_EXIST, e.getErrorMessage());
+            }
+        }
+    }
+
+    private static void readAgesInOrder(Consumer<ConceptRowIterator> reader) {
+        try (Transaction transaction = typedbDriver.transaction(DB_NAME, Transaction.Type.READ)) {
+            reader.accept(transaction.query(AGES_IN_ORDER).resolve().asConceptRows());
+        }
+    }
+
+    private static void assertAgesInOrder(List<Long> ages) {
+        assertEquals(PEOPLE, ages.size());
+        for (int i = 0; i < PEOPLE; i++) assertEquals(i, (long) ages.get(i));
+    }
+
+    private static void assertFailsToRead(Runnable read) {
+        try {
+            read.run();
+            fail();
+        } catch (TypeDBDriverException e) {
+            // expected
+        }
+    }
+}
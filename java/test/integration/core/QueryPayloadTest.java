@@ -0,0 +1,191 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.typedb.driver.test.integration.core;
+
+import com.typedb.driver.TypeDB;
+import com.typedb.driver.api.Credentials;
+import com.typedb.driver.api.Driver;
+import com.typedb.driver.api.DriverOptions;
+import com.typedb.driver.api.Transaction;
+import com.typedb.driver.api.answer.QueryAnswer;
+import com.typedb.driver.common.exception.TypeDBDriverException;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static com.typedb.driver.common.exception.ErrorMessage.Query.MISSING_QUERY;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class QueryPayloadTest {
+    private static final String DB_NAME = "typedb";
+    private static final String ADDRESS = "0.0.0.0:1729";
+    private static final long TIMEOUT_SECONDS = 30;
+    private static final String INVALID_UTF8_CODE = "[CXN31]";
+    private static Driver typedbDriver;
+
+    @BeforeClass
+    public static void setUpClass() {
+        typedbDriver = TypeDB.coreDriver(ADDRESS, new Credentials("admin", "password"), new DriverOptions(false, null));
+    }
+
+    @AfterClass
+    public static void close() {
+        typedbDriver.close();
+    }
+
+    @Before
+    public void resetDatabase() {
+        if (typedbDriver.databases().contains(DB_NAME)) typedbDriver.databases().get(DB_NAME).delete();
+        typedbDriver.databases().create(DB_NAME);
+        try (Transaction transaction = typedbDriver.transaction(DB_NAME, Transaction.Type.SCHEMA)) {
+            transaction.query("define attribute name, value string; entity person, owns name;").resolve();
+            transaction.commit();
+        }
+    }
+
+    @Test
+    public void charSequenceQueriesKeepNonAsciiText() {
+        String name = "Zo\u00EB \u0141ukasz \u65E5\u672C \uD83D\uDE00";
+        try (Transaction transaction = typedbDriver.transaction(DB_NAME, Transaction.Type.WRITE)) {
+            transaction.query(new StringBuilder(insertPerson(name))).resolve();
+            transaction.commit();
+        }
+        assertEquals(name, readName());
+    }
+
+    @Test
+    public void loneSurrogatesAreReplaced() {
+        try (Transaction transaction = typedbDriver.transaction(DB_NAME, Transaction.Type.WRITE)) {
+            transaction.query(new StringBuilder(insertPerson("a\uD800b\uDC00c"))).resolve();
+            transaction.commit();
+        }
+        assertEquals("a?b?c", readName());
+    }
+
+    @Test
+    public void byteBufferQueriesKeepNonAsciiText() {
+        String name = "Zo\u00EB \u65E5\u672C \uD83D\uDE00";
+        byte[] query = insertPerson(name).getBytes(StandardCharsets.UTF_8);
+        // only the remaining bytes of the buffer are the query
+        ByteBuffer padded = ByteBuffer.allocate(query.length + 8);
+        padded.put(new byte[4]).put(query).put(new byte[4]);
+        padded.position(4).limit(4 + query.length);
+        try (Transaction transaction = typedbDriver.transaction(DB_NAME, Transaction.Type.WRITE)) {
+            transaction.query(padded).resolve();
+            assertEquals(4, padded.position());
+            transaction.commit();
+        }
+        assertEquals(name, readName());
+    }
+
+    @Test
+    public void invalidUtf8IsRejected() {
+        try (Transaction transaction = typedbDriver.transaction(DB_NAME, Transaction.Type.WRITE)) {
+            try {
+                transaction.query(invalidUtf8Query()).resolve();
+                fail();
+            } catch (TypeDBDriverException e) {
+                assertTrue(e.getMessage().contains(INVALID_UTF8_CODE));
+            }
+        }
+    }
+
+    @Test
+    public void invalidUtf8CompletesAsyncQueriesExceptionally() throws Exception {
+        try (Transaction transaction = typedbDriver.transaction(DB_NAME, Transaction.Type.WRITE)) {
+            CompletableFuture<? extends QueryAnswer> answer = transaction.queryAsync(invalidUtf8Query());
+            try {
+                answer.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+                fail();
+            } catch (ExecutionException e) {
+                assertTrue(e.getCause() instanceof TypeDBDriverException);
+                assertTrue(e.getCause().getMessage().contains(INVALID_UTF8_CODE));
+            }
+            // the transaction remains usable
+            transaction.queryAsync(ByteBuffer.wrap(insertPerson("Ada").getBytes(StandardCharsets.UTF_8)))
+                    .get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            transaction.commit();
+        }
+        assertEquals("Ada", readName());
+    }
+
+    @Test
+    public void failedAsyncCharSequenceQueriesCompleteExceptionally() throws Exception {
+        try (Transaction transaction = typedbDriver.transaction(DB_NAME, Transaction.Type.WRITE)) {
+            CompletableFuture<? extends QueryAnswer> answer =
+                    transaction.queryAsync(new StringBuilder("insert $c isa company;"));
+            try {
+                answer.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+                fail();
+            } catch (ExecutionException e) {
+                assertTrue(e.getCause() instanceof TypeDBDriverException);
+            }
+        }
+    }
+
+    @Test
+    public void emptyQueriesAreRejected() {
+        try (Transaction transaction = typedbDriver.transaction(DB_NAME, Transaction.Type.WRITE)) {
+            try {
+                transaction.query(new StringBuilder(" \n\t"));
+                fail();
+            } catch (TypeDBDriverException e) {
+                assertEquals(MISSING_QUERY, e.getErrorMessage());
+            }
+            try {
+                transaction.queryAsync(ByteBuffer.allocate(0));
+                fail();
+            } catch (TypeDBDriverException e) {
+                assertEquals(MISSING_QUERY, e.getErrorMessage());
+            }
+        }
+    }
+
+    private static String insertPerson(String name) {
+        return "insert $p isa person, has name \"" + name + "\";";
+    }
+
+    private static ByteBuffer invalidUtf8Query() {
+        ByteArrayOutputStream query = new ByteArrayOutputStream();
+        byte[] prefix = "insert $p isa person, has name \"".getBytes(StandardCharsets.UTF_8);
+        query.write(prefix, 0, prefix.length);
+        query.write(0xC3); // a lead byte without its continuation byte
+        query.write('"');
+        query.write(';');
+        return ByteBuffer.wrap(query.toByteArray());
+    }
+
+    private static String readName() {
+        try (Transaction transaction = typedbDriver.transaction(DB_NAME, Transaction.Type.READ)) {
+            return transaction.query("match $p isa person, has name $n;").resolve()
+                    .asConceptRows().next().get("n").asAttribute().getString();
+        }
+    }
+}
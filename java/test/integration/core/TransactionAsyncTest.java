@@ -0,0 +1,197 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.typedb.driver.test.integration.core;
+
+import com.typedb.driver.TypeDB;
+import com.typedb.driver.api.Credentials;
+import com.typedb.driver.api.Driver;
+import com.typedb.driver.api.DriverOptions;
+import com.typedb.driver.api.Transaction;
+import com.typedb.driver.api.answer.QueryAnswer;
+import com.typedb.driver.common.exception.TypeDBDriverException;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static com.typedb.driver.common.exception.ErrorMessage.Driver.TRANSACTION_CLOSED;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class TransactionAsyncTest {
+    private static final String DB_NAME = "typedb";
+    private static final String ADDRESS = "0.0.0.0:1729";
+    private static final long TIMEOUT_SECONDS = 30;
+    private static Driver typedbDriver;
+
+    @BeforeClass
+    public static void setUpClass() {
+        typedbDriver = TypeDB.coreDriver(ADDRESS, new Credentials("admin", "password"), new DriverOptions(false, null));
+    }
+
+    @AfterClass
+    public static void close() {
+        typedbDriver.close();
+    }
+
+    @Before
+    public void resetDatabase() throws Exception {
+        if (typedbDriver.databases().contains(DB_NAME)) typedbDriver.databases().get(DB_NAME).delete();
+        typedbDriver.databases().create(DB_NAME);
+        Transaction transaction = typedbDriver.transaction(DB_NAME, Transaction.Type.SCHEMA);
+        transaction.query("define entity person;").resolve();
+        await(transaction.commitAsync());
+    }
+
+    @Test
+    public void commitAsyncPersistsChangesAndClosesTheTransaction() throws Exception {
+        Transaction transaction = typedbDriver.transaction(DB_NAME, Transaction.Type.WRITE);
+        transaction.query("insert $p isa person;").resolve();
+        await(transaction.commitAsync());
+        assertFalse(transaction.isOpen());
+        assertEquals(1, countPeople());
+    }
+
+    @Test
+    public void rollbackAsyncDiscardsChangesAndKeepsTheTransactionOpen() throws Exception {
+        try (Transaction transaction = typedbDriver.transaction(DB_NAME, Transaction.Type.WRITE)) {
+            transaction.query("insert $p isa person;").resolve();
+            await(transaction.rollbackAsync());
+            transaction.query("insert $p isa person; $q isa person;").resolve();
+            await(transaction.commitAsync());
+        }
+        assertEquals(2, countPeople());
+    }
+
+    @Test
+    public void failedCommitAsyncCompletesExceptionally() throws Exception {
+        Transaction transaction = typedbDriver.transaction(DB_NAME, Transaction.Type.READ);
+        try {
+            await(transaction.commitAsync());
+            fail();
+        } catch (ExecutionException e) {
+            assertEquals(TypeDBDriverException.class, e.getCause().getClass());
+        }
+        assertFalse(transaction.isOpen());
+    }
+
+    @Test
+    public void concurrentCommitsAsyncAllComplete() throws Exception {
+        List<CompletableFuture<Void>> commits = new ArrayList<>();
+        for (int i = 0; i < 32; i++) {
+            Transaction transaction = typedbDriver.transaction(DB_NAME, Transaction.Type.WRITE);
+            transaction.query("insert $p isa person;").resolve();
+            commits.add(transaction.commitAsync());
+        }
+        await(CompletableFuture.allOf(commits.toArray(new CompletableFuture[0])));
+        assertEquals(32, countPeople());
+    }
+
+    @Test
+    public void queryAsyncAcceptsEachQueryForm() throws Exception {
+        Transaction transaction = typedbDriver.transaction(DB_NAME, Transaction.Type.WRITE);
+        assertTrue(await(transaction.queryAsync("insert $p isa person;")).isConceptRows());
+        assertTrue(await(transaction.queryAsync(new StringBuilder("insert $p isa person;"))).isConceptRows());
+        ByteBuffer utf8 = ByteBuffer.wrap("insert $p isa person;".getBytes(StandardCharsets.UTF_8));
+        assertTrue(await(transaction.queryAsync(utf8)).isConceptRows());
+        await(transaction.commitAsync());
+        assertEquals(3, countPeople());
+    }
+
+    @Test
+    public void failedQueryAsyncCompletesExceptionally() throws Exception {
+        Transaction transaction = typedbDriver.transaction(DB_NAME, Transaction.Type.WRITE);
+        CompletableFuture<? extends QueryAnswer> answer = transaction.queryAsync("insert $c isa company;");
+        try {
+            await(answer);
+            fail();
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof TypeDBDriverException);
+        }
+        assertTrue(answer.isCompletedExceptionally());
+        transaction.close();
+    }
+
+    @Test
+    public void concurrentQueriesAsyncAllComplete() throws Exception {
+        Transaction transaction = typedbDriver.transaction(DB_NAME, Transaction.Type.WRITE);
+        List<CompletableFuture<? extends QueryAnswer>> answers = new ArrayList<>();
+        for (int i = 0; i < 64; i++) {
+            answers.add(transaction.queryAsync("insert $p isa person;"));
+        }
+        await(CompletableFuture.allOf(answers.toArray(new CompletableFuture[0])));
+        for (CompletableFuture<? extends QueryAnswer> answer : answers) {
+            assertEquals(1, answer.join().asConceptRows().stream().count());
+        }
+        await(transaction.commitAsync());
+        assertEquals(64, countPeople());
+    }
+
+    @Test
+    public void stagesMayWaitOnOtherAsyncOperations() throws Exception {
+        // the stages run off the native callback thread, which must stay free to complete the operations they wait on
+        Transaction transaction = typedbDriver.transaction(DB_NAME, Transaction.Type.WRITE);
+        CompletableFuture<Void> chained = transaction.queryAsync("insert $p isa person;")
+                .thenApply(answer -> transaction.queryAsync("insert $p isa person;").join())
+                .thenAccept(answer -> transaction.commitAsync().join());
+        await(chained);
+        assertFalse(transaction.isOpen());
+        assertEquals(2, countPeople());
+    }
+
+    @Test
+    public void asyncOperationsOnAClosedTransactionThrow() {
+        Transaction transaction = typedbDriver.transaction(DB_NAME, Transaction.Type.WRITE);
+        transaction.close();
+        try {
+            transaction.commitAsync();
+            fail();
+        } catch (TypeDBDriverException e) {
+            assertEquals(TRANSACTION_CLOSED, e.getErrorMessage());
+        }
+        try {
+            transaction.rollbackAsync();
+            fail();
+        } catch (TypeDBDriverException e) {
+            assertEquals(TRANSACTION_CLOSED, e.getErrorMessage());
+        }
+    }
+
+    private static <T> T await(CompletableFuture<T> future)
+            throws ExecutionException, InterruptedException, TimeoutException {
+        return future.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+    }
+
+    private static long countPeople() {
+        try (Transaction transaction = typedbDriver.transaction(DB_NAME, Transaction.Type.READ)) {
+            return transaction.query("match $p isa person;").resolve().asConceptRows().stream().count();
+        }
+    }
+}
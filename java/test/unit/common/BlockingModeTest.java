@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.typedb.driver.common;
+
+import com.typedb.driver.common.exception.TypeDBDriverException;
+import org.junit.Test;
+
+import static com.typedb.driver.common.exception.ErrorMessage.Driver.UNRECOGNISED_BLOCKING_MODE;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class BlockingModeTest {
+    @Test
+    public void testParseIgnoresCase() {
+        assertSame(BlockingMode.JAVA, BlockingMode.parse("java"));
+        assertSame(BlockingMode.NATIVE, BlockingMode.parse("Native"));
+        assertSame(BlockingMode.AUTO, BlockingMode.parse(" AUTO "));
+    }
+
+    @Test
+    public void testParseRejectsUnknownModes() {
+        try {
+            BlockingMode.parse("virtual");
+            fail();
+        } catch (TypeDBDriverException e) {
+            assertSame(UNRECOGNISED_BLOCKING_MODE, e.getErrorMessage());
+            assertTrue(e.getMessage().contains("'virtual'"));
+        }
+    }
+
+    @Test
+    public void testNativeWaitsAreBounded() {
+        assertTrue(BlockingMode.NATIVE_WAIT_PARALLELISM >= 1);
+        BlockingMode previous = BlockingMode.get();
+        try {
+            BlockingMode.set(BlockingMode.JAVA);
+            assertEquals("answer", BlockingMode.call(() -> "answer"));
+        } finally {
+            BlockingMode.set(previous);
+        }
+    }
+}
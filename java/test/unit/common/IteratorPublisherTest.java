@@ -0,0 +1,239 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.typedb.driver.common;
+
+import org.junit.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class IteratorPublisherTest {
+    private static final Executor DIRECT = Runnable::run;
+
+    private static class Recorder implements Flow.Subscriber<Integer> {
+        private final List<Integer> received = new ArrayList<>();
+        private Flow.Subscription subscription;
+        private Throwable error;
+        private boolean completed;
+        private int terminalSignals;
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(Integer item) {
+            received.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+            terminalSignals++;
+        }
+
+        @Override
+        public void onComplete() {
+            completed = true;
+            terminalSignals++;
+        }
+    }
+
+    private static class CountingIterator implements Iterator<Integer> {
+        private final int size;
+        private int position;
+
+        private CountingIterator(int size) {
+            this.size = size;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return position < size;
+        }
+
+        @Override
+        public Integer next() {
+            if (!hasNext()) throw new NoSuchElementException();
+            return position++;
+        }
+    }
+
+    private static List<Integer> range(int from, int to) {
+        return IntStream.range(from, to).boxed().collect(Collectors.toList());
+    }
+
+    @Test
+    public void emitsOnlyRequestedElements() {
+        CountingIterator iterator = new CountingIterator(5);
+        AtomicInteger releases = new AtomicInteger();
+        Recorder recorder = new Recorder();
+        new IteratorPublisher<>(iterator, DIRECT, releases::incrementAndGet).subscribe(recorder);
+        assertEquals(0, iterator.position);
+
+        recorder.subscription.request(2);
+        assertEquals(range(0, 2), recorder.received);
+        assertEquals(2, iterator.position);
+        assertFalse(recorder.completed);
+
+        recorder.subscription.request(3);
+        assertEquals(range(0, 5), recorder.received);
+        assertFalse(recorder.completed);
+
+        recorder.subscription.request(1);
+        assertTrue(recorder.completed);
+        assertEquals(1, recorder.terminalSignals);
+        assertEquals(1, releases.get());
+    }
+
+    @Test
+    public void accumulatesDemandRequestedFromOnNext() {
+        AtomicInteger releases = new AtomicInteger();
+        Recorder recorder = new Recorder() {
+            @Override
+            public void onNext(Integer item) {
+                super.onNext(item);
+                if (item < 2) super.subscription.request(1);
+            }
+        };
+        new IteratorPublisher<>(new CountingIterator(10), DIRECT, releases::incrementAndGet).subscribe(recorder);
+        recorder.subscription.request(1);
+        assertEquals(range(0, 3), recorder.received);
+        assertEquals(0, releases.get());
+    }
+
+    @Test
+    public void cancelReleasesTheIteratorAndStopsEmission() {
+        CountingIterator iterator = new CountingIterator(10);
+        AtomicInteger releases = new AtomicInteger();
+        Recorder recorder = new Recorder();
+        new IteratorPublisher<>(iterator, DIRECT, releases::incrementAndGet).subscribe(recorder);
+
+        recorder.subscription.request(1);
+        recorder.subscription.cancel();
+        assertEquals(1, releases.get());
+
+        recorder.subscription.request(5);
+        recorder.subscription.cancel();
+        assertEquals(range(0, 1), recorder.received);
+        assertEquals(1, iterator.position);
+        assertEquals(0, recorder.terminalSignals);
+        assertEquals(1, releases.get());
+    }
+
+    @Test
+    public void failingOnNextCancelsWithoutSignals() {
+        RuntimeException failure = new RuntimeException("subscriber failure");
+        CountingIterator iterator = new CountingIterator(10);
+        AtomicInteger releases = new AtomicInteger();
+        Recorder recorder = new Recorder() {
+            @Override
+            public void onNext(Integer item) {
+                super.onNext(item);
+                throw failure;
+            }
+        };
+        new IteratorPublisher<>(iterator, DIRECT, releases::incrementAndGet).subscribe(recorder);
+
+        recorder.subscription.request(5);
+        assertNull(recorder.error);
+        assertEquals(range(0, 1), recorder.received);
+        assertEquals(1, releases.get());
+
+        // the drain was accounted for, so later signals are still processed, and ignored
+        recorder.subscription.request(5);
+        assertEquals(range(0, 1), recorder.received);
+        assertEquals(0, recorder.terminalSignals);
+    }
+
+    @Test
+    public void failingIteratorSignalsError() {
+        RuntimeException failure = new RuntimeException("iterator failure");
+        AtomicInteger releases = new AtomicInteger();
+        Iterator<Integer> iterator = new CountingIterator(10) {
+            @Override
+            public Integer next() {
+                throw failure;
+            }
+        };
+        Recorder recorder = new Recorder();
+        new IteratorPublisher<>(iterator, DIRECT, releases::incrementAndGet).subscribe(recorder);
+        recorder.subscription.request(1);
+        assertSame(failure, recorder.error);
+        assertEquals(1, releases.get());
+    }
+
+    @Test
+    public void nonPositiveRequestSignalsError() {
+        AtomicInteger releases = new AtomicInteger();
+        Recorder recorder = new Recorder();
+        new IteratorPublisher<>(new CountingIterator(10), DIRECT, releases::incrementAndGet).subscribe(recorder);
+        recorder.subscription.request(0);
+        assertTrue(recorder.error instanceof IllegalArgumentException);
+        assertTrue(recorder.received.isEmpty());
+        assertEquals(1, releases.get());
+    }
+
+    @Test
+    public void rejectsSecondSubscriber() {
+        IteratorPublisher<Integer> publisher = new IteratorPublisher<>(new CountingIterator(1), DIRECT, () -> {
+        });
+        Recorder first = new Recorder();
+        Recorder second = new Recorder();
+        publisher.subscribe(first);
+        publisher.subscribe(second);
+        assertNull(first.error);
+        assertTrue(second.error != null);
+    }
+
+    @Test
+    public void yieldsTheThreadUnderUnboundedDemand() {
+        Queue<Runnable> tasks = new ArrayDeque<>();
+        Recorder recorder = new Recorder();
+        new IteratorPublisher<>(new CountingIterator(600), tasks::add, () -> {
+        }).subscribe(recorder);
+        recorder.subscription.request(Long.MAX_VALUE);
+
+        tasks.remove().run();
+        assertEquals(256, recorder.received.size());
+        tasks.remove().run();
+        assertEquals(512, recorder.received.size());
+        tasks.remove().run();
+        assertEquals(range(0, 600), recorder.received);
+        assertTrue(recorder.completed);
+        assertTrue(tasks.isEmpty());
+    }
+}
@@ -0,0 +1,282 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.typedb.driver.concept.answer;
+
+import com.typedb.driver.common.Duration;
+import com.typedb.driver.common.exception.TypeDBDriverException;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.Period;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class RowBatchReaderTest {
+    private static final int ENTITY_TYPE = com.typedb.driver.jni.ConceptKind.EntityTypeKind.swigValue();
+    private static final int ENTITY = com.typedb.driver.jni.ConceptKind.EntityKind.swigValue();
+    private static final int RELATION = com.typedb.driver.jni.ConceptKind.RelationKind.swigValue();
+    private static final int ATTRIBUTE = com.typedb.driver.jni.ConceptKind.AttributeKind.swigValue();
+    private static final int VALUE = com.typedb.driver.jni.ConceptKind.ValueKind.swigValue();
+
+    private static final LocalDateTime DATETIME = LocalDateTime.of(2024, 3, 1, 12, 30, 15, 123);
+    private static final long EPOCH_SECONDS = DATETIME.toEpochSecond(ZoneOffset.UTC);
+
+    /**
+     * Writes batches in the layout of the native <code>ConceptRowEncoder</code>.
+     */
+    private static class Batch {
+        private final ByteBuffer buffer = ByteBuffer.allocate(1024).order(ByteOrder.LITTLE_ENDIAN);
+
+        Batch(int rowCount, int columnCount) {
+            buffer.putInt(rowCount).putInt(columnCount);
+        }
+
+        Batch empty() {
+            buffer.put((byte) 0xFF);
+            return this;
+        }
+
+        Batch kind(int kind) {
+            buffer.put((byte) kind);
+            return this;
+        }
+
+        Batch newLabel(int id, String label) {
+            buffer.putInt(id);
+            return string(label);
+        }
+
+        Batch knownLabel(int id) {
+            buffer.putInt(id);
+            return this;
+        }
+
+        Batch iid(int... octets) {
+            buffer.putShort((short) octets.length);
+            for (int octet : octets) buffer.put((byte) octet);
+            return this;
+        }
+
+        Batch value(com.typedb.driver.jni.ConceptValueKind valueKind) {
+            buffer.put((byte) valueKind.swigValue());
+            return this;
+        }
+
+        Batch putByte(int value) {
+            buffer.put((byte) value);
+            return this;
+        }
+
+        Batch putInt(int value) {
+            buffer.putInt(value);
+            return this;
+        }
+
+        Batch putLong(long value) {
+            buffer.putLong(value);
+            return this;
+        }
+
+        Batch putDouble(double value) {
+            buffer.putDouble(value);
+            return this;
+        }
+
+        Batch string(String string) {
+            byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+            buffer.putInt(bytes.length).put(bytes);
+            return this;
+        }
+
+        void readInto(RowBatchReaderImpl reader) {
+            reader.reset(buffer, buffer.position());
+        }
+    }
+
+    private static void assertRetrievalFails(Runnable retrieval) {
+        try {
+            retrieval.run();
+            fail();
+        } catch (TypeDBDriverException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void decodesEveryConceptKindAndEmptyCells() {
+        RowBatchReaderImpl reader = new RowBatchReaderImpl();
+        new Batch(1, 5)
+                .kind(ENTITY_TYPE).newLabel(0, "person")
+                .kind(ENTITY).knownLabel(0).iid(0x01, 0xab)
+                .empty()
+                .kind(RELATION).knownLabel(-1).iid(0x04)
+                .kind(ATTRIBUTE).newLabel(1, "name")
+                .value(com.typedb.driver.jni.ConceptValueKind.StringValue).string("Alice")
+                .readInto(reader);
+
+        assertEquals(1, reader.rowCount());
+        assertEquals(5, reader.columnCount());
+        assertTrue(reader.nextRow());
+
+        assertTrue(reader.isType(0));
+        assertEquals("person", reader.getLabel(0));
+
+        assertTrue(reader.isEntity(1));
+        assertEquals("person", reader.getLabel(1));
+        assertEquals("0x01ab", reader.getIID(1));
+        byte[] iid = new byte[2];
+        assertEquals(2, reader.getIIDBytes(1, iid));
+        assertArrayEquals(new byte[]{0x01, (byte) 0xab}, iid);
+
+        assertTrue(reader.isEmpty(2));
+        assertRetrievalFails(() -> reader.getLabel(2));
+
+        assertTrue(reader.isRelation(3));
+        assertEquals("unknown", reader.getLabel(3));
+        assertEquals("0x04", reader.getIID(3));
+
+        assertTrue(reader.isAttribute(4));
+        assertEquals("name", reader.getLabel(4));
+        assertEquals("string", reader.getValueType(4));
+        assertEquals("Alice", reader.getString(4));
+        assertRetrievalFails(() -> reader.getLong(4));
+
+        assertFalse(reader.nextRow());
+    }
+
+    @Test
+    public void decodesEveryValueKind() {
+        RowBatchReaderImpl reader = new RowBatchReaderImpl();
+        new Batch(1, 10)
+                .kind(VALUE).value(com.typedb.driver.jni.ConceptValueKind.BooleanValue).putByte(1)
+                .kind(VALUE).value(com.typedb.driver.jni.ConceptValueKind.IntegerValue).putLong(-42)
+                .kind(VALUE).value(com.typedb.driver.jni.ConceptValueKind.DoubleValue).putDouble(2.5)
+                .kind(VALUE).value(com.typedb.driver.jni.ConceptValueKind.DecimalValue)
+                .putLong(-2).putLong(5_000_000_000_000_000_000L)
+                .kind(VALUE).value(com.typedb.driver.jni.ConceptValueKind.DateValue).putInt(19_783)
+                .kind(VALUE).value(com.typedb.driver.jni.ConceptValueKind.DatetimeValue)
+                .putLong(EPOCH_SECONDS).putInt(123)
+                .kind(VALUE).value(com.typedb.driver.jni.ConceptValueKind.DatetimeTZValue)
+                .putLong(EPOCH_SECONDS).putInt(123).putInt(0).string("Europe/London")
+                .kind(VALUE).value(com.typedb.driver.jni.ConceptValueKind.DatetimeTZValue)
+                .putLong(EPOCH_SECONDS).putInt(123).putInt(-3600).string("")
+                .kind(VALUE).value(com.typedb.driver.jni.ConceptValueKind.DurationValue)
+                .putInt(1).putInt(2).putLong(3)
+                .kind(VALUE).value(com.typedb.driver.jni.ConceptValueKind.StructValue).string("{}")
+                .readInto(reader);
+
+        assertTrue(reader.nextRow());
+        assertTrue(reader.isValue(0));
+        assertTrue(reader.getBoolean(0));
+        assertEquals(-42, reader.getLong(1));
+        assertEquals(2.5, reader.getDouble(2), 0);
+        assertEquals(new BigDecimal("-1.5"), reader.getDecimal(3).stripTrailingZeros());
+        assertEquals(LocalDate.of(2024, 3, 1), reader.getDate(4));
+        assertEquals(DATETIME, reader.getDatetime(5));
+        ZonedDateTime london = DATETIME.atZone(ZoneOffset.UTC).withZoneSameInstant(ZoneId.of("Europe/London"));
+        assertEquals(london, reader.getDatetimeTZ(6));
+        ZonedDateTime fixed = reader.getDatetimeTZ(7);
+        assertEquals(ZoneOffset.ofHours(-1), fixed.getZone());
+        assertEquals(DATETIME.toInstant(ZoneOffset.UTC), fixed.toInstant());
+        assertEquals(new Duration(Period.of(0, 1, 2), java.time.Duration.ofNanos(3)), reader.getDuration(8));
+        assertEquals("struct", reader.getValueType(9));
+        assertEquals(EPOCH_SECONDS * 1_000_000_000L + 123, reader.getEpochNanos(5));
+        assertFalse(reader.nextRow());
+    }
+
+    @Test
+    public void decodesEachZoneOfAColumn() {
+        RowBatchReaderImpl reader = new RowBatchReaderImpl();
+        Batch batch = new Batch(4, 1);
+        for (String zone : new String[]{"Europe/London", "Europe/London", "Europe/Paris", ""}) {
+            batch.kind(VALUE).value(com.typedb.driver.jni.ConceptValueKind.DatetimeTZValue)
+                    .putLong(EPOCH_SECONDS).putInt(0).putInt(3600).string(zone);
+        }
+        batch.readInto(reader);
+
+        for (String zone : new String[]{"Europe/London", "Europe/London", "Europe/Paris"}) {
+            assertTrue(reader.nextRow());
+            assertEquals(ZoneId.of(zone), reader.getDatetimeTZ(0).getZone());
+        }
+        assertTrue(reader.nextRow());
+        assertEquals(ZoneOffset.ofHours(1), reader.getDatetimeTZ(0).getZone());
+        assertFalse(reader.nextRow());
+    }
+
+    @Test
+    public void reusesLabelsAcrossBatches() {
+        RowBatchReaderImpl reader = new RowBatchReaderImpl();
+        new Batch(1, 1).kind(ENTITY_TYPE).newLabel(0, "person").readInto(reader);
+        assertTrue(reader.nextRow());
+        assertEquals("person", reader.getLabel(0));
+
+        // the next batch refers to the label by its id only
+        new Batch(1, 1).kind(ENTITY_TYPE).knownLabel(0).readInto(reader);
+        assertTrue(reader.nextRow());
+        assertEquals("person", reader.getLabel(0));
+    }
+
+    @Test
+    public void registersLabelsOfUnreadRows() {
+        RowBatchReaderImpl reader = new RowBatchReaderImpl();
+        new Batch(2, 1)
+                .kind(ENTITY_TYPE).newLabel(0, "person")
+                .kind(ENTITY_TYPE).newLabel(1, "company")
+                .readInto(reader);
+        assertTrue(reader.nextRow());
+        reader.skipRemainingRows();
+
+        new Batch(1, 1).kind(ENTITY_TYPE).knownLabel(1).readInto(reader);
+        assertTrue(reader.nextRow());
+        assertEquals("company", reader.getLabel(0));
+    }
+
+    @Test
+    public void decodesRowKeptFromPreviousBatch() {
+        // a row which did not fit into the previous buffer defines its labels in the batch it is written into
+        RowBatchReaderImpl reader = new RowBatchReaderImpl();
+        new Batch(1, 1).kind(ENTITY_TYPE).newLabel(0, "person").readInto(reader);
+        reader.skipRemainingRows();
+
+        new Batch(1, 2)
+                .kind(ENTITY_TYPE).newLabel(1, "company")
+                .kind(ENTITY_TYPE).knownLabel(0)
+                .readInto(reader);
+        assertTrue(reader.nextRow());
+        assertEquals("company", reader.getLabel(0));
+        assertEquals("person", reader.getLabel(1));
+
+        new Batch(0, 0).readInto(reader);
+        assertEquals(0, reader.rowCount());
+        assertFalse(reader.nextRow());
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.typedb.driver.concept.value;
+
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+public class ValuePartsTest {
+    private static final long NO_TIME_ZONE_ID = -1;
+    // the largest fractional part, 10^19 - 1, does not fit into a signed long
+    private static final long MAX_FRACTIONAL = Long.parseUnsignedLong("9999999999999999999");
+
+    @Test
+    public void decodesDecimalsAtTheScaleBoundary() {
+        assertEquals(new BigDecimal("0.0000000000000000001"), ValueParts.decimal(0, 1));
+        assertEquals(new BigDecimal("0.9999999999999999999"), ValueParts.decimal(0, MAX_FRACTIONAL));
+        assertEquals(new BigDecimal("1.9999999999999999999"), ValueParts.decimal(1, MAX_FRACTIONAL));
+        assertEquals(new BigDecimal("0E-19"), ValueParts.decimal(0, 0));
+        assertEquals(19, ValueParts.decimal(42, 0).scale());
+    }
+
+    @Test
+    public void decodesFractionalPartsWithTheSignBitSet() {
+        assertEquals(new BigDecimal("-0.0000000000000000001"), ValueParts.decimal(-1, MAX_FRACTIONAL));
+        assertEquals(new BigDecimal("-0.0776627963145224192"), ValueParts.decimal(-1, Long.MIN_VALUE));
+        assertEquals(new BigDecimal("9223372036854775807.9999999999999999999"),
+                ValueParts.decimal(Long.MAX_VALUE, MAX_FRACTIONAL));
+    }
+
+    @Test
+    public void decodesNegativeDecimals() {
+        assertEquals(new BigDecimal("-1.5000000000000000000"), ValueParts.decimal(-2, 5_000_000_000_000_000_000L));
+        assertEquals(new BigDecimal("-9223372036854775808.0000000000000000000"), ValueParts.decimal(Long.MIN_VALUE, 0));
+        long[] parts = {-1, 5_000_000_000_000_000_000L};
+        assertEquals(new BigDecimal("-0.5000000000000000000"), ValueParts.decimal(parts));
+    }
+
+    @Test
+    public void decodesTemporalValuesBeforeTheEpoch() {
+        assertEquals(LocalDate.of(1969, 12, 31), ValueParts.date(-86_400));
+        assertEquals(LocalDate.of(1969, 12, 31), ValueParts.date(-1));
+        assertEquals(LocalDate.of(1969, 12, 30), ValueParts.date(-86_401));
+        assertEquals(LocalDate.of(1970, 1, 1), ValueParts.date(0));
+
+        LocalDateTime halfSecondBeforeEpoch = LocalDateTime.of(1969, 12, 31, 23, 59, 59, 500_000_000);
+        assertEquals(halfSecondBeforeEpoch, ValueParts.datetime(new long[]{-1, 500_000_000, 0, NO_TIME_ZONE_ID}));
+        LocalDateTime lastNanosecond = LocalDateTime.of(1970, 1, 1, 0, 0, 0, 999_999_999);
+        assertEquals(lastNanosecond, ValueParts.datetime(new long[]{0, 999_999_999, 0, NO_TIME_ZONE_ID}));
+    }
+
+    @Test
+    public void decodesFixedOffsetDatetimes() {
+        ZonedDateTime datetime = ValueParts.datetimeTZ(new long[]{-1, 500_000_000, -3600, NO_TIME_ZONE_ID});
+        assertEquals(ZoneOffset.ofHours(-1), datetime.getZone());
+        assertEquals(LocalDateTime.of(1969, 12, 31, 22, 59, 59, 500_000_000), datetime.toLocalDateTime());
+    }
+
+    @Test
+    public void parsesEachZoneNameOnce() {
+        assertSame(ValueParts.zone("Europe/London"), ValueParts.zone("Europe/London"));
+    }
+}
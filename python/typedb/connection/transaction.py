@@ -28,7 +28,7 @@ from typedb.concept.answer.query_answer_factory import wrap_query_answer
 from typedb.native_driver_wrapper import error_code, error_message, transaction_new, transaction_query, \
     transaction_commit, \
     transaction_rollback, transaction_is_open, transaction_on_close, transaction_force_close, \
-    query_answer_promise_resolve, \
+    query_answer_promise_resolve, options_new, \
     Transaction as NativeTransaction, TransactionCallbackDirector, TypeDBDriverExceptionNative, void_promise_resolve
 
 if TYPE_CHECKING:
@@ -46,7 +46,7 @@ class _Transaction(Transaction, NativeWrapper[NativeTransaction]):
         # self._options = options
         try:
             super().__init__(
-                transaction_new(driver.native_object, database_name, transaction_type.value))  # , options.native_object
+                transaction_new(driver.native_object, database_name, transaction_type.value, options_new()))
         except TypeDBDriverExceptionNative as e:
             raise TypeDBDriverException.of(e) from None
 
@@ -66,7 +66,7 @@ class _Transaction(Transaction, NativeWrapper[NativeTransaction]):
         if not query or query.isspace():
             raise TypeDBDriverException(MISSING_QUERY)
 
-        promise = transaction_query(self.native_object, query)
+        promise = transaction_query(self.native_object, query, options_new())
         return Promise.map(wrap_query_answer, lambda: query_answer_promise_resolve(promise))
 
     def is_open(self) -> bool:
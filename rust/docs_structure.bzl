@@ -34,6 +34,7 @@ dir_mapping = {
     "Database.adoc": "connection",
     "DatabaseManager.adoc": "connection",
     "DriverOptions.adoc": "connection",
+    "DriverRuntime.adoc": "connection",
     "Credentials.adoc": "connection",
     "Kind.adoc": "concept",
     "ReplicaInfo.adoc": "connection",
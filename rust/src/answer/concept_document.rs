@@ -93,12 +93,14 @@ impl Leaf {
     fn into_json(self) -> JSON {
         match self {
             Self::Empty => JSON::Null,
-            Self::Concept(Concept::EntityType(EntityType { label, .. })) => json_type(Kind::Entity, Cow::Owned(label)),
+            Self::Concept(Concept::EntityType(EntityType { label, .. })) => {
+                json_type(Kind::Entity, Cow::Owned(label.to_string()))
+            }
             Self::Concept(Concept::RelationType(RelationType { label, .. })) => {
-                json_type(Kind::Relation, Cow::Owned(label))
+                json_type(Kind::Relation, Cow::Owned(label.to_string()))
             }
             Self::Concept(Concept::AttributeType(AttributeType { label, value_type, .. })) => {
-                json_attribute_type(Cow::Owned(label), value_type)
+                json_attribute_type(Cow::Owned(label.to_string()), value_type)
             }
             Self::Concept(Concept::RoleType(RoleType { label, .. })) => {
                 json_type(Kind::Role, Cow::Owned(label.to_string()))
@@ -20,12 +20,13 @@
 use std::{
     fmt,
     fmt::{Debug, Formatter},
-    sync::Arc,
+    sync::{Arc, Mutex, OnceLock},
 };
 
 use itertools::Itertools;
+use typedb_protocol::{ConceptRow as ConceptRowProto, RowEntry as RowEntryProto};
 
-use crate::{answer::QueryType, concept::Concept};
+use crate::{answer::QueryType, concept::{Concept, LabelInterner}, connection::decode_row_entry, Result};
 
 #[derive(Debug, PartialEq)]
 pub struct ConceptRowHeader {
@@ -39,18 +40,62 @@ impl ConceptRowHeader {
     }
 }
 
+/// A single cell of a row. Rows received from the server keep their cells encoded,
+/// and each cell is decoded the first time it is accessed.
+struct Cell {
+    encoded: Mutex<Option<RowEntryProto>>,
+    decoded: OnceLock<Result<Option<Concept>>>,
+}
+
+impl Cell {
+    fn decoded(concept: Option<Concept>) -> Self {
+        Self { encoded: Mutex::new(None), decoded: OnceLock::from(Ok(concept)) }
+    }
+
+    fn encoded(entry: RowEntryProto) -> Self {
+        Self { encoded: Mutex::new(Some(entry)), decoded: OnceLock::new() }
+    }
+
+    fn get(&self, labels: &LabelInterner) -> Result<Option<&Concept>> {
+        let decoded = self.decoded.get_or_init(|| {
+            let entry = self.encoded.lock().unwrap().take().expect("an encoded cell is decoded only once");
+            decode_row_entry(entry, labels)
+        });
+        match decoded {
+            Ok(concept) => Ok(concept.as_ref()),
+            Err(err) => Err(err.clone()),
+        }
+    }
+
+    fn decoded_clone(&self, labels: &LabelInterner) -> Self {
+        Self { encoded: Mutex::new(None), decoded: OnceLock::from(self.get(labels).map(|concept| concept.cloned())) }
+    }
+}
+
 /// A single row of concepts representing substitutions for variables in the query.
 /// Contains a Header (column names and query type), and the row of optional concepts.
 /// An empty concept in a column means the variable does not have a substitution in this answer.
-#[derive(Clone, PartialEq)]
+///
+/// Concepts are decoded from the server response only when they are first retrieved,
+/// so columns that are never read cost nothing to decode. Type labels are shared
+/// between all concepts of the same type decoded within a transaction.
 pub struct ConceptRow {
     header: Arc<ConceptRowHeader>,
-    pub row: Vec<Option<Concept>>,
+    row: Vec<Cell>,
+    labels: Arc<LabelInterner>,
 }
 
 impl ConceptRow {
     pub fn new(header: Arc<ConceptRowHeader>, row: Vec<Option<Concept>>) -> Self {
-        Self { header, row }
+        Self { header, row: row.into_iter().map(Cell::decoded).collect(), labels: Arc::default() }
+    }
+
+    pub(crate) fn new_encoded(
+        header: Arc<ConceptRowHeader>,
+        row: ConceptRowProto,
+        labels: Arc<LabelInterner>,
+    ) -> Self {
+        Self { header, row: row.row.into_iter().map(Cell::encoded).collect(), labels }
     }
 
     /// Retrieve the row column names (shared by all elements in this stream).
@@ -77,6 +122,7 @@ impl ConceptRow {
 
     /// Retrieves a concept for a given variable. Returns an empty optional if
     /// the variable name has an empty answer, or if the variable name is not present.
+    /// Fails if the concept cannot be decoded from the server response.
     ///
     /// # Arguments
     ///
@@ -87,12 +133,16 @@ impl ConceptRow {
     /// ```rust
     /// concept_row.get(var_name)
     /// ```
-    pub fn get(&self, column_name: &str) -> Option<&Concept> {
-        self.header.get_index(column_name).map(|index| self.get_index(index)).flatten()
+    pub fn get(&self, column_name: &str) -> Result<Option<&Concept>> {
+        match self.header.get_index(column_name) {
+            Some(index) => self.get_index(index),
+            None => Ok(None),
+        }
     }
 
     /// Retrieves a concept for a given column index. Returns an empty optional if
     /// the position has an empty answer, or if the index is not range for the row.
+    /// Fails if the concept cannot be decoded from the server response.
     ///
     /// # Arguments
     ///
@@ -103,8 +153,11 @@ impl ConceptRow {
     /// ```rust
     /// concept_row.get_position(column_index)
     /// ```
-    pub fn get_index(&self, column_index: usize) -> Option<&Concept> {
-        self.row.get(column_index).map(|inner| inner.as_ref()).flatten()
+    pub fn get_index(&self, column_index: usize) -> Result<Option<&Concept>> {
+        match self.row.get(column_index) {
+            Some(cell) => cell.get(&self.labels),
+            None => Ok(None),
+        }
     }
 
     /// Produces an iterator over all concepts in this `ConceptRow`, skipping empty results
@@ -114,8 +167,26 @@ impl ConceptRow {
     /// ```rust
     /// concept_row.concepts()
     /// ```
-    pub fn get_concepts(&self) -> impl Iterator<Item = &Concept> {
-        self.row.iter().filter_map(|concept| concept.as_ref())
+    pub fn get_concepts(&self) -> impl Iterator<Item = Result<&Concept>> {
+        self.row.iter().filter_map(|cell| cell.get(&self.labels).transpose())
+    }
+}
+
+impl Clone for ConceptRow {
+    fn clone(&self) -> Self {
+        Self {
+            header: self.header.clone(),
+            row: self.row.iter().map(|cell| cell.decoded_clone(&self.labels)).collect(),
+            labels: self.labels.clone(),
+        }
+    }
+}
+
+impl PartialEq for ConceptRow {
+    fn eq(&self, other: &Self) -> bool {
+        self.header == other.header
+            && self.row.len() == other.row.len()
+            && self.row.iter().zip(other.row.iter()).all(|(lhs, rhs)| lhs.get(&self.labels) == rhs.get(&other.labels))
     }
 }
 
@@ -128,12 +199,64 @@ impl fmt::Display for ConceptRow {
 impl fmt::Debug for ConceptRow {
     fn fmt(&self, f: &mut Formatter<'_>) -> fmt::Result {
         write!(f, "|")?;
-        for (concept, name) in self.row.iter().zip(self.header.column_names.iter()) {
-            match concept {
-                None => write!(f, "  ${}: empty  ", name)?,
-                Some(concept) => write!(f, "  ${}: {}  |", name, concept)?,
+        for (cell, name) in self.row.iter().zip(self.header.column_names.iter()) {
+            match cell.get(&self.labels) {
+                Ok(None) => write!(f, "  ${}: empty  ", name)?,
+                Ok(Some(concept)) => write!(f, "  ${}: {}  |", name, concept)?,
+                Err(err) => write!(f, "  ${}: {}  |", name, err)?,
             }
         }
         Ok(())
     }
 }
+
+#[cfg(test)]
+mod test {
+    use std::sync::Arc;
+
+    use typedb_protocol::{row_entry::Entry, ConceptRow as ConceptRowProto, RowEntry as RowEntryProto};
+
+    use super::{ConceptRow, ConceptRowHeader};
+    use crate::answer::QueryType;
+
+    fn encoded_row() -> ConceptRow {
+        let header = ConceptRowHeader {
+            column_names: vec!["empty".to_owned(), "broken".to_owned()],
+            query_type: QueryType::ReadQuery,
+        };
+        let row = ConceptRowProto {
+            row: vec![
+                RowEntryProto { entry: Some(Entry::Empty(Default::default())) },
+                // decoding fails on a missing entry, so the failure shows whether this cell was decoded
+                RowEntryProto { entry: None },
+            ],
+        };
+        ConceptRow::new_encoded(Arc::new(header), row, Arc::default())
+    }
+
+    fn is_encoded(row: &ConceptRow, index: usize) -> bool {
+        row.row[index].encoded.lock().unwrap().is_some()
+    }
+
+    #[test]
+    fn cells_are_decoded_only_when_read() {
+        let row = encoded_row();
+        assert!(is_encoded(&row, 0) && is_encoded(&row, 1));
+
+        assert_eq!(row.get("empty").unwrap(), None);
+        assert!(!is_encoded(&row, 0));
+        assert!(is_encoded(&row, 1));
+
+        assert!(row.get("broken").is_err());
+        assert!(!is_encoded(&row, 1));
+    }
+
+    #[test]
+    fn decoding_results_are_memoised() {
+        let row = encoded_row();
+        assert!(row.get_index(1).is_err());
+        assert!(row.get_index(1).is_err());
+        assert_eq!(row.get_index(0).unwrap(), None);
+        assert_eq!(row.get_index(0).unwrap(), None);
+    }
+}
@@ -178,6 +178,26 @@ error_messages! { ConnectionError
         29: "Unexpected kind in message received from server: {kind}. This is either a version compatibility issue or a bug.",
     UnexpectedConnectionClose =
         30: "Connection closed unexpectedly.",
+    QueryInvalidUtf8 { valid_up_to: usize } =
+        31: "The query is not valid UTF-8: the bytes following the first {valid_up_to} cannot be decoded.",
+    NegativeOptionValue { option: &'static str, value: i64 } =
+        32: "The option '{option}' cannot be negative, was: '{value}'.",
+}
+
+error_messages! { ConceptError
+    code: "CON", type: "Concept Error",
+    UnavailableRowVariable { variable: String } =
+        1: "Cannot get a concept from a concept row by variable '{variable}': it is absent or empty.",
+    UnavailableRowIndex { index: usize } =
+        2: "Cannot get a concept from a concept row by index '{index}': it is out of range or empty.",
+    UnexpectedValueType { expected: &'static str, found: String } =
+        3: "Expected a concept holding a value of type '{expected}', but found '{found}'.",
+    MissingIID { concept: String } =
+        4: "The concept '{concept}' does not have an IID.",
+    EpochNanosOutOfRange { value: String } =
+        5: "The value '{value}' cannot be represented as nanoseconds since the UNIX epoch.",
+    EncodingBufferTooSmall { required: usize, capacity: usize } =
+        6: "Cannot encode the next concept row: it requires {required} bytes, but the buffer only holds {capacity}.",
 }
 
 error_messages! { InternalError
@@ -239,9 +259,12 @@ impl fmt::Debug for ServerError {
 }
 
 /// Represents errors encountered during operation.
+/// New kinds of errors may be added, so matches on this enum need a wildcard arm.
 #[derive(Clone, Debug, PartialEq, Eq)]
+#[non_exhaustive]
 pub enum Error {
     Connection(ConnectionError),
+    Concept(ConceptError),
     Internal(InternalError),
     Server(ServerError),
     Other(String),
@@ -251,6 +274,7 @@ impl Error {
     pub fn code(&self) -> String {
         match self {
             Self::Connection(error) => error.format_code(),
+            Self::Concept(error) => error.format_code(),
             Self::Internal(error) => error.format_code(),
             Self::Server(error) => error.format_code().to_owned(),
             Self::Other(_error) => String::new(),
@@ -260,6 +284,7 @@ impl Error {
     pub fn message(&self) -> String {
         match self {
             Self::Connection(error) => error.message(),
+            Self::Concept(error) => error.message(),
             Self::Internal(error) => error.message(),
             Self::Server(error) => error.message(),
             Self::Other(error) => error.clone(),
@@ -298,6 +323,7 @@ impl fmt::Display for Error {
     fn fmt(&self, f: &mut fmt::Formatter<'_>) -> fmt::Result {
         match self {
             Self::Connection(error) => write!(f, "{error}"),
+            Self::Concept(error) => write!(f, "{error}"),
             Self::Internal(error) => write!(f, "{error}"),
             Self::Server(error) => write!(f, "{error}"),
             Self::Other(message) => write!(f, "{message}"),
@@ -309,6 +335,7 @@ impl StdError for Error {
     fn source(&self) -> Option<&(dyn StdError + 'static)> {
         match self {
             Self::Connection(error) => Some(error),
+            Self::Concept(error) => Some(error),
             Self::Internal(error) => Some(error),
             Self::Server(_) => None,
             Self::Other(_) => None,
@@ -322,6 +349,12 @@ impl From<ConnectionError> for Error {
     }
 }
 
+impl From<ConceptError> for Error {
+    fn from(error: ConceptError) -> Self {
+        Self::Concept(error)
+    }
+}
+
 impl From<InternalError> for Error {
     fn from(error: InternalError) -> Self {
         Self::Internal(error)
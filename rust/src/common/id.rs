@@ -30,6 +30,11 @@ impl ID {
     pub(crate) fn generate() -> Self {
         Uuid::new_v4().as_bytes().to_vec().into()
     }
+
+    /// Retrieves the raw bytes of this ID.
+    pub fn as_bytes(&self) -> &[u8] {
+        &self.0
+    }
 }
 
 impl From<ID> for Vec<u8> {
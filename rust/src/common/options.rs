@@ -42,6 +42,16 @@ pub struct Options {
     pub schema_lock_acquire_timeout: Option<Duration>,
     /// If set to `True`, enables reading data from any replica, potentially boosting read throughput. Only settable in TypeDB Cloud.
     pub read_any_replica: Option<bool>,
+    /// If set to `True`, the driver adapts the prefetch size of queries without an explicit `prefetch_size` to how fast answers are consumed, and requests further answers before the buffered ones run out. Not sent to the server.
+    pub adaptive_prefetch: Option<bool>,
+    /// If set, specifies how many answer rows (or documents) of a query the driver may buffer before the consumer takes them. A prefetch size above the limit is lowered to it. Not sent to the server.
+    pub stream_buffer_limit_rows: Option<u64>,
+    /// If set, specifies how many bytes of encoded answers of a query the driver may buffer before the consumer takes them. Not sent to the server.
+    pub stream_buffer_limit_bytes: Option<u64>,
+    /// If set, specifies how many answer rows (or documents) of all queries of a transaction the driver may buffer before their consumers take them. Not sent to the server.
+    pub transaction_buffer_limit_rows: Option<u64>,
+    /// If set, specifies how many bytes of encoded answers of all queries of a transaction the driver may buffer before their consumers take them. Not sent to the server.
+    pub transaction_buffer_limit_bytes: Option<u64>,
 }
 
 impl Options {
@@ -78,4 +88,29 @@ impl Options {
     pub fn read_any_replica(self, read_any_replica: bool) -> Self {
         Self { read_any_replica: Some(read_any_replica), ..self }
     }
+
+    /// If set to `True`, the driver adapts the prefetch size of queries without an explicit `prefetch_size` to how fast answers are consumed, and requests further answers before the buffered ones run out. Not sent to the server.
+    pub fn adaptive_prefetch(self, adaptive_prefetch: bool) -> Self {
+        Self { adaptive_prefetch: Some(adaptive_prefetch), ..self }
+    }
+
+    /// If set, specifies how many answer rows (or documents) of a query the driver may buffer before the consumer takes them. A prefetch size above the limit is lowered to it. Not sent to the server.
+    pub fn stream_buffer_limit_rows(self, rows: u64) -> Self {
+        Self { stream_buffer_limit_rows: Some(rows), ..self }
+    }
+
+    /// If set, specifies how many bytes of encoded answers of a query the driver may buffer before the consumer takes them. Not sent to the server.
+    pub fn stream_buffer_limit_bytes(self, bytes: u64) -> Self {
+        Self { stream_buffer_limit_bytes: Some(bytes), ..self }
+    }
+
+    /// If set, specifies how many answer rows (or documents) of all queries of a transaction the driver may buffer before their consumers take them. Not sent to the server.
+    pub fn transaction_buffer_limit_rows(self, rows: u64) -> Self {
+        Self { transaction_buffer_limit_rows: Some(rows), ..self }
+    }
+
+    /// If set, specifies how many bytes of encoded answers of all queries of a transaction the driver may buffer before their consumers take them. Not sent to the server.
+    pub fn transaction_buffer_limit_bytes(self, bytes: u64) -> Self {
+        Self { transaction_buffer_limit_bytes: Some(bytes), ..self }
+    }
 }
@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+use std::{
+    collections::HashSet,
+    sync::{Arc, RwLock},
+};
+
+/// Canonical copies of the type labels seen in a transaction, so that concepts of the same type
+/// share a single allocation of their label.
+#[derive(Debug, Default)]
+pub(crate) struct LabelInterner {
+    labels: RwLock<HashSet<Arc<str>>>,
+}
+
+impl LabelInterner {
+    pub(crate) fn intern(&self, label: String) -> Arc<str> {
+        if let Some(interned) = self.labels.read().unwrap().get(label.as_str()) {
+            return interned.clone();
+        }
+        let mut labels = self.labels.write().unwrap();
+        match labels.get(label.as_str()) {
+            Some(interned) => interned.clone(),
+            None => {
+                let interned: Arc<str> = Arc::from(label);
+                labels.insert(interned.clone());
+                interned
+            }
+        }
+    }
+}
+
+#[cfg(test)]
+mod test {
+    use std::sync::Arc;
+
+    use super::LabelInterner;
+
+    #[test]
+    fn repeated_labels_share_one_allocation() {
+        let interner = LabelInterner::default();
+        let first = interner.intern("person".to_owned());
+        let second = interner.intern("person".to_owned());
+        let other = interner.intern("company".to_owned());
+        assert!(Arc::ptr_eq(&first, &second));
+        assert!(!Arc::ptr_eq(&first, &other));
+        assert_eq!(interner.labels.read().unwrap().len(), 2);
+    }
+}
@@ -21,6 +21,7 @@ use std::fmt::{Debug, Display, Formatter};
 
 use chrono::{DateTime, NaiveDate, NaiveDateTime};
 
+pub(crate) use self::label::LabelInterner;
 pub use self::{
     instance::{Attribute, Entity, Relation},
     type_::{AttributeType, EntityType, RelationType, RoleType},
@@ -32,6 +33,7 @@ use crate::{
 };
 
 pub mod instance;
+mod label;
 pub mod type_;
 pub mod value;
 
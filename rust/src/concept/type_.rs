@@ -17,7 +17,10 @@
  * under the License.
  */
 
-use std::fmt::{Debug, Display, Formatter};
+use std::{
+    fmt::{Debug, Display, Formatter},
+    sync::Arc,
+};
 
 use super::ValueType;
 
@@ -25,7 +28,7 @@ use super::ValueType;
 /// of the business domain.
 #[derive(Clone, Debug, PartialEq, Eq)]
 pub struct EntityType {
-    pub label: String,
+    pub label: Arc<str>,
 }
 
 impl EntityType {
@@ -55,7 +58,7 @@ impl Display for EntityType {
 /// A relation type must specify at least one role.
 #[derive(Clone, Debug, PartialEq, Eq)]
 pub struct RelationType {
-    pub label: String,
+    pub label: Arc<str>,
 }
 
 impl RelationType {
@@ -90,7 +93,7 @@ impl Display for RelationType {
 /// or different types can share ownership of the same attribute instance.
 #[derive(Clone, Debug, PartialEq)]
 pub struct AttributeType {
-    pub label: String,
+    pub label: Arc<str>,
     pub value_type: Option<ValueType>,
 }
 
@@ -131,7 +134,7 @@ impl Display for AttributeType {
 /// Roles allow a schema to enforce logical constraints on types of role players.
 #[derive(Clone, Debug, PartialEq, Eq)]
 pub struct RoleType {
-    pub label: String,
+    pub label: Arc<str>,
 }
 
 impl RoleType {
@@ -17,18 +17,30 @@
  * under the License.
  */
 
-use std::{fs, path::Path};
+use std::{fs, path::Path, time::Duration};
 
 use tonic::transport::{Certificate, ClientTlsConfig};
 
+use super::runtime::DriverRuntime;
+
 /// User connection settings for connecting to TypeDB.
 #[derive(Debug, Clone)]
 pub struct DriverOptions {
     is_tls_enabled: bool,
     tls_config: Option<ClientTlsConfig>,
+    transaction_coalescing_window: Duration,
+    transaction_max_batch_size: usize,
+    worker_threads: usize,
+    callback_threads: usize,
+    runtime: Option<DriverRuntime>,
 }
 
 impl DriverOptions {
+    const DEFAULT_TRANSACTION_COALESCING_WINDOW: Duration = Duration::ZERO;
+    const DEFAULT_TRANSACTION_MAX_BATCH_SIZE: usize = 1_000_000;
+    const DEFAULT_WORKER_THREADS: usize = 1;
+    const DEFAULT_CALLBACK_THREADS: usize = 1;
+
     /// Creates a credentials with username and password. Specifies the connection must use TLS
     ///
     /// # Arguments
@@ -48,7 +60,39 @@ impl DriverOptions {
             ClientTlsConfig::new().with_native_roots()
         });
 
-        Ok(Self { is_tls_enabled, tls_config })
+        Ok(Self {
+            is_tls_enabled,
+            tls_config,
+            transaction_coalescing_window: Self::DEFAULT_TRANSACTION_COALESCING_WINDOW,
+            transaction_max_batch_size: Self::DEFAULT_TRANSACTION_MAX_BATCH_SIZE,
+            worker_threads: Self::DEFAULT_WORKER_THREADS,
+            callback_threads: Self::DEFAULT_CALLBACK_THREADS,
+            runtime: None,
+        })
+    }
+
+    /// Sets how long the driver waits for further requests of a transaction before sending them to the server
+    /// in a single message. Defaults to zero: the requests that are already queued are sent together, without waiting.
+    ///
+    /// # Examples
+    ///
+    /// ```rust
+    /// driver_options.transaction_coalescing_window(Duration::from_micros(50));
+    ///```
+    pub fn transaction_coalescing_window(self, transaction_coalescing_window: Duration) -> Self {
+        Self { transaction_coalescing_window, ..self }
+    }
+
+    /// Sets the maximum size, in bytes, of a message carrying the coalesced requests of a transaction.
+    /// Values above the gRPC message limit of 1 000 000 bytes are capped to it.
+    ///
+    /// # Examples
+    ///
+    /// ```rust
+    /// driver_options.transaction_max_batch_size(64 * 1024);
+    ///```
+    pub fn transaction_max_batch_size(self, transaction_max_batch_size: usize) -> Self {
+        Self { transaction_max_batch_size, ..self }
     }
 
     /// Retrieves whether TLS is enabled for the connection.
@@ -56,7 +100,71 @@ impl DriverOptions {
         self.is_tls_enabled
     }
 
+    /// Sets the number of threads running the network I/O and response processing of the driver. Defaults to 1,
+    /// in which case all transactions of the driver share a single thread; with more threads, the responses of
+    /// concurrent transactions are decoded in parallel. More than one thread needs the `multi-thread` feature,
+    /// enabled by default; without it, this setting is ignored.
+    ///
+    /// # Examples
+    ///
+    /// ```rust
+    /// driver_options.worker_threads(std::thread::available_parallelism()?.get());
+    ///```
+    pub fn worker_threads(self, worker_threads: usize) -> Self {
+        Self { worker_threads: worker_threads.max(1), ..self }
+    }
+
+    /// Sets the number of threads executing callbacks, such as transaction on-close callbacks, in parallel.
+    /// Defaults to 1, in which case callbacks are executed one after another.
+    ///
+    /// # Examples
+    ///
+    /// ```rust
+    /// driver_options.callback_threads(4);
+    ///```
+    pub fn callback_threads(self, callback_threads: usize) -> Self {
+        Self { callback_threads: callback_threads.max(1), ..self }
+    }
+
+    /// Sets a runtime shared with other drivers, instead of starting a dedicated one for the driver.
+    /// The <code>worker_threads</code> and <code>callback_threads</code> settings are then ignored in favour of those
+    /// of the shared runtime, and closing the driver leaves the runtime running for the other drivers using it.
+    ///
+    /// # Examples
+    ///
+    /// ```rust
+    /// driver_options.runtime(runtime.clone());
+    ///```
+    pub fn runtime(self, runtime: DriverRuntime) -> Self {
+        Self { runtime: Some(runtime), ..self }
+    }
+
     pub fn tls_config(&self) -> &Option<ClientTlsConfig> {
         &self.tls_config
     }
+
+    /// Retrieves how long the driver waits for further requests of a transaction before sending them.
+    pub fn get_transaction_coalescing_window(&self) -> Duration {
+        self.transaction_coalescing_window
+    }
+
+    /// Retrieves the maximum size, in bytes, of a message carrying the coalesced requests of a transaction.
+    pub fn get_transaction_max_batch_size(&self) -> usize {
+        self.transaction_max_batch_size
+    }
+
+    /// Retrieves the number of threads running the network I/O and response processing of the driver.
+    pub fn get_worker_threads(&self) -> usize {
+        self.worker_threads
+    }
+
+    /// Retrieves the number of threads executing callbacks.
+    pub fn get_callback_threads(&self) -> usize {
+        self.callback_threads
+    }
+
+    /// Retrieves the shared runtime set for the driver, if any.
+    pub fn get_runtime(&self) -> Option<&DriverRuntime> {
+        self.runtime.as_ref()
+    }
 }
@@ -26,12 +26,11 @@ use uuid::Uuid;
 
 use crate::{
     answer::{
-        concept_document::{ConceptDocumentHeader, Node},
+        concept_document::ConceptDocumentHeader,
         concept_row::ConceptRowHeader,
         QueryType,
     },
     common::{address::Address, info::DatabaseInfo, RequestID},
-    concept::Concept,
     error::ServerError,
     info::UserInfo,
     user::User,
@@ -147,8 +146,8 @@ pub(super) enum QueryResponse {
     Ok(QueryType),
     ConceptRowsHeader(ConceptRowHeader),
     ConceptDocumentsHeader(ConceptDocumentHeader),
-    StreamConceptRows(Vec<Vec<Option<Concept>>>),
-    StreamConceptDocuments(Vec<Option<Node>>),
+    StreamConceptRows(Vec<typedb_protocol::ConceptRow>),
+    StreamConceptDocuments(Vec<typedb_protocol::ConceptDocument>),
     Error(ServerError),
     // Define,
     // Undefine,
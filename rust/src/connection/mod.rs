@@ -17,8 +17,8 @@
  * under the License.
  */
 
-pub(crate) use self::transaction_stream::TransactionStream;
-pub use self::{credentials::Credentials, driver_options::DriverOptions};
+pub(crate) use self::{network::{decode_document, decode_row_entry}, transaction_stream::TransactionStream};
+pub use self::{credentials::Credentials, driver_options::DriverOptions, runtime::DriverRuntime};
 
 mod credentials;
 mod driver_options;
@@ -17,6 +17,8 @@
  * under the License.
  */
 
+pub(crate) use self::proto::{decode_document, decode_row_entry};
+
 mod channel;
 mod proto;
 mod stub;
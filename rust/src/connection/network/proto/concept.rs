@@ -17,7 +17,7 @@
  * under the License.
  */
 
-use std::{collections::HashMap, str::FromStr};
+use std::{collections::HashMap, str::FromStr, sync::Arc};
 
 use chrono::{DateTime, FixedOffset, NaiveDate, NaiveDateTime, TimeZone as ChronoTimeZone};
 use chrono_tz::Tz;
@@ -30,9 +30,9 @@ use typedb_protocol::{
     value::{datetime_tz::Timezone as TimezoneProto, Value as ValueProtoInner},
     value_type::ValueType as ValueTypeProto,
     Attribute as AttributeProto, AttributeType as AttributeTypeProto, Concept as ConceptProto,
-    ConceptDocument as ConceptDocumentProto, ConceptRow as ConceptRowProto, Entity as EntityProto,
+    ConceptDocument as ConceptDocumentProto, Entity as EntityProto,
     EntityType as EntityTypeProto, Relation as RelationProto, RelationType as RelationTypeProto,
-    RoleType as RoleTypeProto, Value as ValueProto, ValueType as ValueTypeStructProto,
+    RoleType as RoleTypeProto, RowEntry as RowEntryProto, Value as ValueProto, ValueType as ValueTypeStructProto,
 };
 
 use super::{FromProto, TryFromProto};
@@ -40,8 +40,8 @@ use crate::{
     answer::concept_document::{Leaf, Node},
     concept::{
         value::{Decimal, TimeZone},
-        Attribute, AttributeType, Concept, Entity, EntityType, Kind, Relation, RelationType, RoleType, Value,
-        ValueType,
+        Attribute, AttributeType, Concept, Entity, EntityType, Kind, LabelInterner, Relation, RelationType, RoleType,
+        Value, ValueType,
     },
     error::{
         ConnectionError,
@@ -53,47 +53,77 @@ use crate::{
     Error, Result,
 };
 
-impl TryFromProto<ConceptRowProto> for Vec<Option<Concept>> {
-    fn try_from_proto(proto: ConceptRowProto) -> Result<Self> {
-        let mut row = Vec::new();
-        for entry in proto.row {
-            match entry.entry.ok_or(Error::from(MissingResponseField { field: "ConceptRow.entry" }))? {
-                Entry::Empty(_) => row.push(None),
-                Entry::Concept(concept_proto) => row.push(Some(Concept::try_from_proto(concept_proto)?)),
-                Entry::Value(value_proto) => row.push(Some(Concept::Value(Value::try_from_proto(value_proto)?))),
-                Entry::ConceptList(_) | Entry::ValueList(_) => {
-                    return Err(ListsNotImplemented.into());
-                }
-            }
+/// Decodes a single cell of a row received from the server. Rows are passed on to the consumer
+/// undecoded, and each cell is only decoded when it is first accessed.
+pub(crate) fn decode_row_entry(proto: RowEntryProto, labels: &LabelInterner) -> Result<Option<Concept>> {
+    Option::try_from_proto_with_labels(proto, Some(labels))
+}
+
+/// Decodes a document received from the server. Documents are passed on to the consumer undecoded,
+/// and decoded as the consumer takes them from the stream.
+pub(crate) fn decode_document(proto: ConceptDocumentProto) -> Result<Option<Node>> {
+    Option::try_from_proto(proto)
+}
+
+/// Conversions of protos carrying type labels. Labels are shared through the `LabelInterner`, if one is given.
+trait FromProtoWithLabels<Proto> {
+    fn from_proto_with_labels(proto: Proto, labels: Option<&LabelInterner>) -> Self;
+}
+
+trait TryFromProtoWithLabels<Proto>: Sized {
+    fn try_from_proto_with_labels(proto: Proto, labels: Option<&LabelInterner>) -> Result<Self>;
+}
+
+fn label_from_proto(label: String, labels: Option<&LabelInterner>) -> Arc<str> {
+    match labels {
+        Some(labels) => labels.intern(label),
+        None => Arc::from(label),
+    }
+}
+
+impl TryFromProtoWithLabels<RowEntryProto> for Option<Concept> {
+    fn try_from_proto_with_labels(proto: RowEntryProto, labels: Option<&LabelInterner>) -> Result<Self> {
+        match proto.entry.ok_or(Error::from(MissingResponseField { field: "ConceptRow.entry" }))? {
+            Entry::Empty(_) => Ok(None),
+            Entry::Concept(concept_proto) => Ok(Some(Concept::try_from_proto_with_labels(concept_proto, labels)?)),
+            Entry::Value(value_proto) => Ok(Some(Concept::Value(Value::try_from_proto(value_proto)?))),
+            Entry::ConceptList(_) | Entry::ValueList(_) => Err(ListsNotImplemented.into()),
         }
-        Ok(row)
     }
 }
 
 impl TryFromProto<ConceptProto> for Concept {
     fn try_from_proto(proto: ConceptProto) -> Result<Self> {
+        Self::try_from_proto_with_labels(proto, None)
+    }
+}
+
+impl TryFromProtoWithLabels<ConceptProto> for Concept {
+    fn try_from_proto_with_labels(proto: ConceptProto, labels: Option<&LabelInterner>) -> Result<Self> {
         let ConceptProto { concept: concept_proto } = proto;
         match concept_proto {
             Some(concept::Concept::EntityType(entity_type_proto)) => {
-                Ok(Self::EntityType(EntityType::from_proto(entity_type_proto)))
+                Ok(Self::EntityType(EntityType::from_proto_with_labels(entity_type_proto, labels)))
             }
             Some(concept::Concept::RelationType(relation_type_proto)) => {
-                Ok(Self::RelationType(RelationType::from_proto(relation_type_proto)))
+                Ok(Self::RelationType(RelationType::from_proto_with_labels(relation_type_proto, labels)))
             }
             Some(concept::Concept::AttributeType(attribute_type_proto)) => {
-                Ok(Self::AttributeType(AttributeType::from_proto(attribute_type_proto)))
+                Ok(Self::AttributeType(AttributeType::from_proto_with_labels(attribute_type_proto, labels)))
             }
 
             Some(concept::Concept::RoleType(role_type_proto)) => {
-                Ok(Self::RoleType(RoleType::from_proto(role_type_proto)))
+                Ok(Self::RoleType(RoleType::from_proto_with_labels(role_type_proto, labels)))
             }
 
-            Some(concept::Concept::Entity(entity_proto)) => Entity::try_from_proto(entity_proto).map(Self::Entity),
+            Some(concept::Concept::Entity(entity_proto)) => {
+                Entity::try_from_proto_with_labels(entity_proto, labels).map(Self::Entity)
+            }
             Some(concept::Concept::Relation(relation_proto)) => {
-                Relation::try_from_proto(relation_proto).map(Self::Relation)
+                Relation::try_from_proto_with_labels(relation_proto, labels).map(Self::Relation)
             }
             Some(concept::Concept::Attribute(attribute_proto)) => {
-                Attribute::try_from_proto(attribute_proto).map(Self::Attribute)
+                Attribute::try_from_proto_with_labels(attribute_proto, labels).map(Self::Attribute)
             }
 
             // Some(concept::Concept::Value(value_proto)) => Value::try_from_proto(value_proto).map(Self::Value),
@@ -173,33 +203,57 @@ impl TryFromProto<concept_document::node::Leaf> for Option<Leaf> {
 
 impl FromProto<EntityTypeProto> for EntityType {
     fn from_proto(proto: EntityTypeProto) -> Self {
+        Self::from_proto_with_labels(proto, None)
+    }
+}
+
+impl FromProtoWithLabels<EntityTypeProto> for EntityType {
+    fn from_proto_with_labels(proto: EntityTypeProto, labels: Option<&LabelInterner>) -> Self {
         let EntityTypeProto { label } = proto;
-        Self { label }
+        Self { label: label_from_proto(label, labels) }
     }
 }
 
 impl FromProto<RelationTypeProto> for RelationType {
     fn from_proto(proto: RelationTypeProto) -> Self {
+        Self::from_proto_with_labels(proto, None)
+    }
+}
+
+impl FromProtoWithLabels<RelationTypeProto> for RelationType {
+    fn from_proto_with_labels(proto: RelationTypeProto, labels: Option<&LabelInterner>) -> Self {
         let RelationTypeProto { label } = proto;
-        Self { label }
+        Self { label: label_from_proto(label, labels) }
     }
 }
 
 impl FromProto<AttributeTypeProto> for AttributeType {
     fn from_proto(proto: AttributeTypeProto) -> Self {
+        Self::from_proto_with_labels(proto, None)
+    }
+}
+
+impl FromProtoWithLabels<AttributeTypeProto> for AttributeType {
+    fn from_proto_with_labels(proto: AttributeTypeProto, labels: Option<&LabelInterner>) -> Self {
         let AttributeTypeProto { label, value_type } = proto;
         let value_type = match value_type {
             None => None,
             Some(proto) => Some(ValueType::from_proto(proto.value_type.unwrap())),
         };
-        Self { label, value_type }
+        Self { label: label_from_proto(label, labels), value_type }
     }
 }
 
 impl FromProto<RoleTypeProto> for RoleType {
     fn from_proto(proto: RoleTypeProto) -> Self {
+        Self::from_proto_with_labels(proto, None)
+    }
+}
+
+impl FromProtoWithLabels<RoleTypeProto> for RoleType {
+    fn from_proto_with_labels(proto: RoleTypeProto, labels: Option<&LabelInterner>) -> Self {
         let RoleTypeProto { label } = proto;
-        Self { label }
+        Self { label: label_from_proto(label, labels) }
     }
 }
 
@@ -229,24 +283,48 @@ impl TryFromProto<ValueTypeStructProto> for ValueType {
 
 impl TryFromProto<EntityProto> for Entity {
     fn try_from_proto(proto: EntityProto) -> Result<Self> {
+        Self::try_from_proto_with_labels(proto, None)
+    }
+}
+
+impl TryFromProtoWithLabels<EntityProto> for Entity {
+    fn try_from_proto_with_labels(proto: EntityProto, labels: Option<&LabelInterner>) -> Result<Self> {
         let EntityProto { iid, entity_type } = proto;
-        Ok(Self { iid: iid.into(), type_: entity_type.map(|type_| EntityType::from_proto(type_)) })
+        Ok(Self {
+            iid: iid.into(),
+            type_: entity_type.map(|type_| EntityType::from_proto_with_labels(type_, labels)),
+        })
     }
 }
 
 impl TryFromProto<RelationProto> for Relation {
     fn try_from_proto(proto: RelationProto) -> Result<Self> {
+        Self::try_from_proto_with_labels(proto, None)
+    }
+}
+
+impl TryFromProtoWithLabels<RelationProto> for Relation {
+    fn try_from_proto_with_labels(proto: RelationProto, labels: Option<&LabelInterner>) -> Result<Self> {
         let RelationProto { iid, relation_type } = proto;
-        Ok(Self { iid: iid.into(), type_: relation_type.map(|type_| RelationType::from_proto(type_)) })
+        Ok(Self {
+            iid: iid.into(),
+            type_: relation_type.map(|type_| RelationType::from_proto_with_labels(type_, labels)),
+        })
     }
 }
 
 impl TryFromProto<AttributeProto> for Attribute {
     fn try_from_proto(proto: AttributeProto) -> Result<Self> {
+        Self::try_from_proto_with_labels(proto, None)
+    }
+}
+
+impl TryFromProtoWithLabels<AttributeProto> for Attribute {
+    fn try_from_proto_with_labels(proto: AttributeProto, labels: Option<&LabelInterner>) -> Result<Self> {
         let AttributeProto { iid, attribute_type, value } = proto;
         let type_ = match attribute_type {
             None => None,
-            Some(attribute_type) => Some(AttributeType::from_proto(attribute_type)),
+            Some(attribute_type) => Some(AttributeType::from_proto_with_labels(attribute_type, labels)),
         };
         Ok(Self {
             iid: iid.into(),
@@ -356,19 +356,9 @@ impl TryFromProto<typedb_protocol::query::res_part::Res> for QueryResponse {
     fn try_from_proto(proto: typedb_protocol::query::res_part::Res) -> Result<Self> {
         match proto {
             typedb_protocol::query::res_part::Res::DocumentsRes(documents) => {
-                let mut converted = Vec::with_capacity(documents.documents.len());
-                for document_proto in documents.documents.into_iter() {
-                    converted.push(TryFromProto::try_from_proto(document_proto)?);
-                }
-                Ok(QueryResponse::StreamConceptDocuments(converted))
-            }
-            typedb_protocol::query::res_part::Res::RowsRes(rows) => {
-                let mut converted = Vec::with_capacity(rows.rows.len());
-                for row_proto in rows.rows.into_iter() {
-                    converted.push(TryFromProto::try_from_proto(row_proto)?);
-                }
-                Ok(QueryResponse::StreamConceptRows(converted))
+                Ok(QueryResponse::StreamConceptDocuments(documents.documents))
             }
+            typedb_protocol::query::res_part::Res::RowsRes(rows) => Ok(QueryResponse::StreamConceptRows(rows.rows)),
         }
     }
 }
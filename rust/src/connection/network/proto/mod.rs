@@ -17,6 +17,7 @@
  * under the License.
  */
 
+pub(crate) use self::concept::{decode_document, decode_row_entry};
 use crate::Result;
 
 mod common;
@@ -19,10 +19,18 @@
 
 use crossbeam::channel::{bounded as bounded_blocking, Receiver as SyncReceiver, Sender as SyncSender};
 
-pub(in crate::connection) use self::{rpc::RPCTransmitter, transaction::TransactionTransmitter};
+pub(in crate::connection) use self::{
+    read_ahead::AdaptivePrefetch,
+    rpc::RPCTransmitter,
+    stream_buffer::{AnswerTracker, BufferLimit, BufferOccupancy},
+    transaction::{DispatchOptions, StreamOptions, TransactionTransmitter},
+};
 
+mod read_ahead;
+mod response_router;
 mod response_sink;
 mod rpc;
+mod stream_buffer;
 mod transaction;
 
 fn oneshot_blocking<T>() -> (SyncSender<T>, SyncReceiver<T>) {
@@ -0,0 +1,164 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+use std::{
+    cmp::max,
+    fmt,
+    sync::{
+        atomic::{AtomicBool, AtomicU64, AtomicUsize, Ordering},
+        Arc,
+    },
+    time::{Duration, Instant},
+};
+
+use crate::{common::RequestID, connection::server_connection::LatencyTracker};
+
+/// Per-transaction prefetch size, adapted to how fast query answers are consumed relative to the network latency.
+/// Batch sizes are fixed by the server for the lifetime of a query, so the adapted size applies to the following
+/// queries of the transaction.
+#[derive(Debug)]
+pub(in crate::connection) struct AdaptivePrefetch {
+    prefetch_size: AtomicU64,
+    latency_tracker: LatencyTracker,
+}
+
+impl AdaptivePrefetch {
+    const INITIAL_PREFETCH_SIZE: u64 = 128;
+    const MIN_PREFETCH_SIZE: u64 = 16;
+    const MAX_PREFETCH_SIZE: u64 = 8192;
+    const MIN_ROUND_TRIP: Duration = Duration::from_millis(1);
+
+    pub(in crate::connection) fn new(latency_tracker: LatencyTracker) -> Self {
+        Self { prefetch_size: AtomicU64::new(Self::INITIAL_PREFETCH_SIZE), latency_tracker }
+    }
+
+    pub(in crate::connection) fn prefetch_size(&self) -> u64 {
+        self.prefetch_size.load(Ordering::Relaxed)
+    }
+
+    fn grow(&self) {
+        self.prefetch_size
+            .fetch_update(Ordering::Relaxed, Ordering::Relaxed, |size| Some((size * 2).min(Self::MAX_PREFETCH_SIZE)))
+            .ok();
+    }
+
+    fn shrink(&self) {
+        self.prefetch_size
+            .fetch_update(Ordering::Relaxed, Ordering::Relaxed, |size| Some((size / 2).max(Self::MIN_PREFETCH_SIZE)))
+            .ok();
+    }
+
+    fn round_trip(&self) -> Duration {
+        max(self.latency_tracker.current_latency(), Self::MIN_ROUND_TRIP)
+    }
+}
+
+/// Consumption statistics of a single response stream, shared between the response collector and the consumer.
+#[derive(Debug)]
+pub(super) struct ReadAheadState {
+    epoch: Instant,
+    buffered: AtomicUsize,
+    last_consumed_nanos: AtomicU64,
+    consume_interval_nanos: AtomicU64,
+    awaiting_continuation: AtomicBool,
+    ran_dry: AtomicBool,
+}
+
+impl ReadAheadState {
+    pub(super) fn new() -> Self {
+        Self {
+            epoch: Instant::now(),
+            buffered: AtomicUsize::new(0),
+            last_consumed_nanos: AtomicU64::new(0),
+            consume_interval_nanos: AtomicU64::new(0),
+            awaiting_continuation: AtomicBool::new(false),
+            ran_dry: AtomicBool::new(false),
+        }
+    }
+
+    /// Called by the collector for every result pushed into the stream.
+    pub(super) fn on_buffered(&self) {
+        self.awaiting_continuation.store(false, Ordering::Relaxed);
+        self.buffered.fetch_add(1, Ordering::AcqRel);
+    }
+
+    /// Called by the consumer for every result taken out of the stream.
+    pub(super) fn on_consumed(&self) {
+        let now = self.epoch.elapsed().as_nanos() as u64;
+        let last = self.last_consumed_nanos.swap(now, Ordering::Relaxed);
+        if last != 0 {
+            // exponentially weighted moving average, weighting the newest interval by 1/8
+            let interval = now.saturating_sub(last);
+            let average = self.consume_interval_nanos.load(Ordering::Relaxed);
+            let average = if average == 0 { interval } else { (average * 7 + interval) / 8 };
+            self.consume_interval_nanos.store(average, Ordering::Relaxed);
+        }
+        if self.buffered.fetch_sub(1, Ordering::AcqRel) == 1 && self.awaiting_continuation.load(Ordering::Relaxed) {
+            self.ran_dry.store(true, Ordering::Relaxed);
+        }
+    }
+
+    fn expected_drain_time(&self) -> Duration {
+        let buffered = self.buffered.load(Ordering::Acquire) as u64;
+        Duration::from_nanos(self.consume_interval_nanos.load(Ordering::Relaxed).saturating_mul(buffered))
+    }
+}
+
+/// Sends the continuation of a stream as soon as the server pauses it, unless the consumer is not expected to drain
+/// what is already buffered within one network round trip, in which case the continuation is left to the consumer.
+pub(super) struct ReadAhead {
+    prefetch: Arc<AdaptivePrefetch>,
+    state: Arc<ReadAheadState>,
+    continuation: Box<dyn Fn(RequestID) -> bool + Send + Sync>,
+}
+
+impl ReadAhead {
+    pub(super) fn new(
+        prefetch: Arc<AdaptivePrefetch>,
+        state: Arc<ReadAheadState>,
+        continuation: impl Fn(RequestID) -> bool + Send + Sync + 'static,
+    ) -> Self {
+        Self { prefetch, state, continuation: Box::new(continuation) }
+    }
+
+    pub(super) fn state(&self) -> &ReadAheadState {
+        &self.state
+    }
+
+    /// Returns <code>true</code> if the continuation has been sent, and should not be forwarded to the consumer.
+    pub(super) fn try_continue(&self, request_id: RequestID) -> bool {
+        if self.state.ran_dry.swap(false, Ordering::Relaxed) {
+            // the consumer waited on the network despite the read-ahead: larger batches amortise the round trip
+            self.prefetch.grow();
+        }
+        if self.state.expected_drain_time() <= self.prefetch.round_trip() {
+            self.state.awaiting_continuation.store(true, Ordering::Relaxed);
+            (self.continuation)(request_id)
+        } else {
+            // the consumer is slower than the network: smaller batches avoid over-buffering
+            self.prefetch.shrink();
+            false
+        }
+    }
+}
+
+impl fmt::Debug for ReadAhead {
+    fn fmt(&self, f: &mut fmt::Formatter<'_>) -> fmt::Result {
+        f.debug_struct("ReadAhead").field("state", &self.state).finish()
+    }
+}
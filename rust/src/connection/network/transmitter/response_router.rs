@@ -0,0 +1,229 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+use std::{
+    collections::HashMap,
+    hash::{BuildHasherDefault, Hasher},
+    sync::Mutex,
+};
+
+use uuid::Uuid;
+
+/// Request IDs of a transaction: a random prefix shared by all requests of the transaction, followed by a sequence
+/// number that doubles as the routing key of their responses. The IDs keep the 16-byte shape of generated ones.
+pub(super) struct RequestIdSequence {
+    prefix: [u8; 8],
+    next: u64,
+}
+
+impl RequestIdSequence {
+    const LEN: usize = 16;
+
+    pub(super) fn new() -> Self {
+        let mut prefix = [0; 8];
+        prefix.copy_from_slice(&Uuid::new_v4().as_bytes()[..8]);
+        Self { prefix, next: 0 }
+    }
+
+    pub(super) fn next(&mut self) -> Vec<u8> {
+        let mut request_id = Vec::with_capacity(Self::LEN);
+        request_id.extend_from_slice(&self.prefix);
+        request_id.extend_from_slice(&self.next.to_be_bytes());
+        self.next += 1;
+        request_id
+    }
+
+    /// The routing key of a request ID issued by a <code>RequestIdSequence</code>.
+    pub(super) fn routing_key(request_id: &[u8]) -> Option<u64> {
+        if request_id.len() != Self::LEN {
+            return None;
+        }
+        Some(u64::from_be_bytes(request_id[Self::LEN - 8..].try_into().ok()?))
+    }
+}
+
+/// Routes responses to the sinks of their requests. The table is split into shards, each behind its own lock,
+/// so that registering new requests does not contend with routing the responses of running ones.
+pub(super) struct ResponseRouter<V> {
+    shards: Box<[Mutex<HashMap<u64, V, BuildHasherDefault<SequenceHasher>>>]>,
+}
+
+impl<V> ResponseRouter<V> {
+    const SHARD_COUNT: usize = 16;
+
+    pub(super) fn new() -> Self {
+        Self { shards: (0..Self::SHARD_COUNT).map(|_| Mutex::new(HashMap::default())).collect() }
+    }
+
+    fn shard(&self, key: u64) -> &Mutex<HashMap<u64, V, BuildHasherDefault<SequenceHasher>>> {
+        &self.shards[key as usize % Self::SHARD_COUNT]
+    }
+
+    pub(super) fn insert(&self, key: u64, value: V) {
+        self.shard(key).lock().unwrap().insert(key, value);
+    }
+
+    pub(super) fn contains(&self, key: u64) -> bool {
+        self.shard(key).lock().unwrap().contains_key(&key)
+    }
+
+    /// Takes a handle out of the value of <code>key</code>. The shard is unlocked before the handle is used,
+    /// so that routing a response never holds up other streams while it is sent.
+    pub(super) fn get<H>(&self, key: u64, handle: impl FnOnce(&V) -> H) -> Option<H> {
+        self.shard(key).lock().unwrap().get(&key).map(handle)
+    }
+
+    pub(super) fn remove(&self, key: u64) -> Option<V> {
+        self.shard(key).lock().unwrap().remove(&key)
+    }
+
+    pub(super) fn drain(&self) -> Vec<V> {
+        self.shards.iter().flat_map(|shard| std::mem::take(&mut *shard.lock().unwrap()).into_values()).collect()
+    }
+}
+
+/// Sequence numbers are already unique, so they only need their bits spread across the hash
+/// (Fibonacci hashing) rather than a DoS-resistant hasher.
+#[derive(Default)]
+struct SequenceHasher(u64);
+
+impl Hasher for SequenceHasher {
+    fn finish(&self) -> u64 {
+        self.0
+    }
+
+    fn write(&mut self, bytes: &[u8]) {
+        for &byte in bytes {
+            self.0 = (self.0.rotate_left(8) ^ byte as u64).wrapping_mul(0x9e37_79b9_7f4a_7c15);
+        }
+    }
+
+    fn write_u64(&mut self, value: u64) {
+        self.0 = value.wrapping_mul(0x9e37_79b9_7f4a_7c15);
+    }
+}
+
+#[cfg(test)]
+mod test {
+    use std::{
+        collections::HashMap,
+        sync::{Arc, RwLock},
+        thread,
+        time::{Duration, Instant},
+    };
+
+    use super::{RequestIdSequence, ResponseRouter};
+    use crate::common::RequestID;
+
+    #[test]
+    fn test_routing_keys_round_trip() {
+        let mut sequence = RequestIdSequence::new();
+        for expected_key in 0..1000 {
+            let request_id = sequence.next();
+            assert_eq!(request_id.len(), 16);
+            assert_eq!(RequestIdSequence::routing_key(&request_id), Some(expected_key));
+        }
+        assert_eq!(RequestIdSequence::routing_key(&[1, 2, 3]), None);
+    }
+
+    #[test]
+    fn test_router() {
+        let router = ResponseRouter::new();
+        (0..100).for_each(|key| router.insert(key, key * 2));
+        assert!(router.contains(42));
+        assert_eq!(router.get(42, |value| *value), Some(84));
+        assert_eq!(router.remove(42), Some(84));
+        assert!(!router.contains(42));
+        assert_eq!(router.drain().len(), 99);
+        assert!(!router.contains(0));
+    }
+
+    const STREAMS: u64 = 64;
+    const PARTS_PER_STREAM: u64 = 2000;
+
+    /// Microbenchmark of the routing table against the previous <code>RwLock<HashMap<RequestID, _>></code>: one thread
+    /// registers and retires requests, as the dispatcher does, while another routes the responses of concurrent
+    /// streams. Both tables are keyed from the same request IDs, and every operation starts from an owned copy of the
+    /// ID, as decoded from the wire. Run with <code>--ignored --nocapture</code>.
+    #[test]
+    #[ignore]
+    fn bench_routing() {
+        let wire_ids: Arc<Vec<Vec<u8>>> = {
+            let mut sequence = RequestIdSequence::new();
+            Arc::new((0..STREAMS).map(|_| sequence.next()).collect())
+        };
+
+        let rwlock_map = Arc::new(RwLock::new(HashMap::<RequestID, u64>::new()));
+        let baseline = run(
+            {
+                let (map, ids) = (rwlock_map.clone(), wire_ids.clone());
+                move |stream| {
+                    let request_id: RequestID = ids[stream as usize].clone().into();
+                    map.write().unwrap().insert(request_id, stream);
+                }
+            },
+            {
+                let (map, ids) = (rwlock_map.clone(), wire_ids.clone());
+                move |stream| {
+                    let request_id: RequestID = ids[stream as usize].clone().into();
+                    map.read().unwrap().get(&request_id).copied()
+                }
+            },
+        );
+
+        let router = Arc::new(ResponseRouter::new());
+        let sharded = run(
+            {
+                let (router, ids) = (router.clone(), wire_ids.clone());
+                move |stream| {
+                    let request_id = ids[stream as usize].clone();
+                    router.insert(RequestIdSequence::routing_key(&request_id).unwrap(), stream);
+                }
+            },
+            {
+                let (router, ids) = (router.clone(), wire_ids.clone());
+                move |stream| {
+                    let request_id = ids[stream as usize].clone();
+                    router.get(RequestIdSequence::routing_key(&request_id).unwrap(), |value| *value)
+                }
+            },
+        );
+
+        println!("RwLock<HashMap<RequestID, _>>: {baseline:?}; ResponseRouter: {sharded:?}");
+    }
+
+    fn run(
+        register: impl Fn(u64) + Send + 'static,
+        route: impl Fn(u64) -> Option<u64> + Send + 'static,
+    ) -> Duration {
+        (0..STREAMS).for_each(&register);
+        let start = Instant::now();
+        let dispatcher = thread::spawn(move || {
+            for round in 0..PARTS_PER_STREAM {
+                register(round % STREAMS);
+            }
+        });
+        for _ in 0..PARTS_PER_STREAM {
+            for stream in 0..STREAMS {
+                assert_eq!(route(stream), Some(stream));
+            }
+        }
+        dispatcher.join().unwrap();
+        start.elapsed()
+    }
+}
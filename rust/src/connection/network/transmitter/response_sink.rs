@@ -17,15 +17,23 @@
  * under the License.
  */
 
-use std::{fmt, fmt::Formatter, sync::Arc};
+use std::{
+    fmt,
+    fmt::Formatter,
+    sync::{Arc, Mutex},
+};
 
 use crossbeam::channel::Sender as SyncSender;
 use itertools::Either;
 use log::{debug, error};
 use tokio::sync::{mpsc::UnboundedSender, oneshot::Sender as AsyncOneshotSender};
 
+use super::{
+    read_ahead::ReadAhead,
+    stream_buffer::{Footprint, StreamBuffer},
+};
 use crate::{
-    common::{RequestID, Result},
+    common::{Callback, RequestID, Result},
     error::{ConnectionError, InternalError},
     Error,
 };
@@ -35,7 +43,68 @@ pub(super) enum ResponseSink<T> {
     ImmediateOneShot(ImmediateHandler<Result<T>>),
     AsyncOneShot(AsyncOneshotSender<Result<T>>),
     BlockingOneShot(SyncSender<Result<T>>),
-    Streamed(UnboundedSender<StreamResponse<T>>),
+    Streamed(Arc<StreamSink<T>>),
+}
+
+#[derive(Debug)]
+pub(super) struct StreamSink<T> {
+    sender: UnboundedSender<StreamResponse<T>>,
+    ready_notifier: Option<ReadyNotifier>,
+    read_ahead: Option<ReadAhead>,
+    buffer: Arc<StreamBuffer>,
+}
+
+impl<T> StreamSink<T> {
+    pub(super) fn new(
+        sender: UnboundedSender<StreamResponse<T>>,
+        ready_notifier: Option<ReadyNotifier>,
+        read_ahead: Option<ReadAhead>,
+        buffer: Arc<StreamBuffer>,
+    ) -> Self {
+        Self { sender, ready_notifier, read_ahead, buffer }
+    }
+
+    fn send_result(&self, response: Result<T>, footprint: Footprint) -> Result {
+        if let Some(read_ahead) = &self.read_ahead {
+            read_ahead.state().on_buffered();
+        }
+        self.buffer.on_buffered(footprint);
+        self.send(StreamResponse::Result(response))
+    }
+
+    fn send(&self, response: StreamResponse<T>) -> Result {
+        let result = self.sender.send(response).map_err(Error::from);
+        if let Some(notifier) = &self.ready_notifier {
+            notifier.notify();
+        }
+        result
+    }
+
+    /// Streams a response part, accounting for its <code>footprint</code> in the buffer limits.
+    pub(super) fn send_part(&self, response: Result<T>, footprint: Footprint) {
+        log_send_result(self.send_result(response, footprint))
+    }
+
+    pub(super) fn send_continuable(&self, request_id: RequestID) {
+        log_send_result(self.try_send_continuable(request_id))
+    }
+
+    fn try_send_continuable(&self, request_id: RequestID) -> Result {
+        if !self.buffer.has_room() {
+            // past the buffer limits, the continuation is held back until the consumer has caught up
+            self.buffer.park(request_id);
+            return Ok(());
+        }
+        match &self.read_ahead {
+            Some(read_ahead) if read_ahead.try_continue(request_id.clone()) => {
+                if let Some(notifier) = &self.ready_notifier {
+                    notifier.notify();
+                }
+                Ok(())
+            }
+            _ => self.send(StreamResponse::Continue(request_id)),
+        }
+    }
 }
 
 pub(super) struct ImmediateHandler<T> {
@@ -54,6 +123,36 @@ impl<T> fmt::Debug for ImmediateHandler<T> {
     }
 }
 
+/// Fires its callback exactly once: when the first response is pushed into the stream, or when the
+/// stream is dropped without ever receiving one.
+pub(super) struct ReadyNotifier {
+    callback: Mutex<Option<Callback>>,
+}
+
+impl ReadyNotifier {
+    pub(super) fn new(callback: Callback) -> Self {
+        Self { callback: Mutex::new(Some(callback)) }
+    }
+
+    fn notify(&self) {
+        if let Some(callback) = self.callback.lock().unwrap().take() {
+            callback()
+        }
+    }
+}
+
+impl Drop for ReadyNotifier {
+    fn drop(&mut self) {
+        self.notify()
+    }
+}
+
+impl fmt::Debug for ReadyNotifier {
+    fn fmt(&self, f: &mut Formatter<'_>) -> fmt::Result {
+        write!(f, "Ready notifier")
+    }
+}
+
 pub(super) enum StreamResponse<T> {
     Result(Result<T>),
     Continue(RequestID),
@@ -68,36 +167,23 @@ impl<T> ResponseSink<T> {
             }
             Self::AsyncOneShot(sink) => sink.send(response).map_err(|_| InternalError::SendError.into()),
             Self::BlockingOneShot(sink) => sink.send(response).map_err(Error::from),
-            Self::Streamed(sink) => sink.send(StreamResponse::Result(response)).map_err(Error::from),
+            Self::Streamed(sink) => sink.send_result(response, Footprint::default()),
         };
-        match result {
-            Err(Error::Internal(err @ InternalError::SendError)) => debug!("{err}"),
-            Err(err) => error!("{err}"),
-            Ok(()) => (),
-        }
+        log_send_result(result)
     }
 
     pub(super) fn send_result(&self, response: Result<T>) {
-        let result = match self {
-            Self::Streamed(sink) => sink.send(StreamResponse::Result(response)).map_err(Error::from),
+        match self {
+            Self::Streamed(sink) => sink.send_part(response, Footprint::default()),
             _ => unreachable!("attempted to stream over a one-shot callback"),
-        };
-        match result {
-            Err(Error::Internal(err @ InternalError::SendError)) => debug!("{err}"),
-            Err(err) => error!("{err}"),
-            Ok(()) => (),
         }
     }
 
-    pub(super) fn send_continuable(&self, request_id: RequestID) {
-        let result = match self {
-            Self::Streamed(sink) => sink.send(StreamResponse::Continue(request_id)).map_err(Error::from),
+    /// A handle on the stream of a streamed request, which can be sent to without holding on to the sink.
+    pub(super) fn stream_sink(&self) -> Arc<StreamSink<T>> {
+        match self {
+            Self::Streamed(sink) => sink.clone(),
             _ => unreachable!("attempted to stream over a one-shot callback"),
-        };
-        match result {
-            Err(Error::Internal(err @ InternalError::SendError)) => debug!("{err}"),
-            Err(err) => error!("{err}"),
-            Ok(()) => (),
         }
     }
 
@@ -105,8 +191,19 @@ impl<T> ResponseSink<T> {
         match self {
             Self::AsyncOneShot(sink) => sink.send(Err(error.into())).ok(),
             Self::BlockingOneShot(sink) => sink.send(Err(error.into())).ok(),
-            Self::Streamed(sink) => sink.send(StreamResponse::Result(Err(error.into()))).ok(),
-            Self::ImmediateOneShot(_) => None,
+            Self::Streamed(sink) => sink.send_result(Err(error.into()), Footprint::default()).ok(),
+            Self::ImmediateOneShot(handler) => {
+                handler.run(Err(error.into()));
+                Some(())
+            }
         };
     }
 }
+
+fn log_send_result(result: Result) {
+    match result {
+        Err(Error::Internal(err @ InternalError::SendError)) => debug!("{err}"),
+        Err(err) => error!("{err}"),
+        Ok(()) => (),
+    }
+}
@@ -0,0 +1,405 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+use std::{
+    collections::VecDeque,
+    fmt,
+    sync::{
+        atomic::{AtomicU64, Ordering},
+        Arc, Mutex, Weak,
+    },
+};
+
+use crate::common::RequestID;
+
+/// The size of a query response part, counted against the buffer limits.
+#[derive(Clone, Copy, Debug, Default)]
+pub(super) struct Footprint {
+    pub(super) rows: u64,
+    pub(super) bytes: u64,
+}
+
+/// Rows and bytes of query answers received from the server but not yet taken by the consumer.
+#[derive(Debug, Default)]
+pub(in crate::connection) struct BufferOccupancy {
+    rows: AtomicU64,
+    bytes: AtomicU64,
+    // streams whose continuation waits for room in this buffer
+    parked: Mutex<Vec<Weak<StreamBuffer>>>,
+}
+
+impl BufferOccupancy {
+    pub(in crate::connection) fn rows(&self) -> u64 {
+        self.rows.load(Ordering::Relaxed)
+    }
+
+    pub(in crate::connection) fn bytes(&self) -> u64 {
+        self.bytes.load(Ordering::Relaxed)
+    }
+
+    fn is_empty(&self) -> bool {
+        self.rows() == 0 && self.bytes() == 0
+    }
+
+    fn add(&self, footprint: Footprint) {
+        self.rows.fetch_add(footprint.rows, Ordering::Relaxed);
+        self.bytes.fetch_add(footprint.bytes, Ordering::Relaxed);
+    }
+
+    fn remove(&self, footprint: Footprint) {
+        self.rows.fetch_sub(footprint.rows, Ordering::Relaxed);
+        self.bytes.fetch_sub(footprint.bytes, Ordering::Relaxed);
+    }
+
+    fn park(&self, buffer: Weak<StreamBuffer>) {
+        self.parked.lock().unwrap().push(buffer);
+    }
+
+    /// Issues the parked continuations of the streams that have room again.
+    fn resume_parked(&self) {
+        let mut parked = self.parked.lock().unwrap();
+        if parked.is_empty() {
+            return;
+        }
+        // the last reference to a stream may be released here, and its drop resumes in turn
+        let mut visited = Vec::with_capacity(parked.len());
+        parked.retain(|buffer| match buffer.upgrade() {
+            Some(buffer) => {
+                let is_parked = !buffer.try_resume();
+                visited.push(buffer);
+                is_parked
+            }
+            None => false,
+        });
+        drop(parked);
+        drop(visited);
+    }
+}
+
+/// A cap on buffered answers, in rows and/or bytes.
+#[derive(Clone, Copy, Debug, Default)]
+pub(in crate::connection) struct BufferLimit {
+    rows: Option<u64>,
+    bytes: Option<u64>,
+}
+
+impl BufferLimit {
+    pub(in crate::connection) fn new(rows: Option<u64>, bytes: Option<u64>) -> Self {
+        Self { rows, bytes }
+    }
+
+    fn is_reached(&self, occupancy: &BufferOccupancy) -> bool {
+        self.rows.is_some_and(|rows| occupancy.rows() >= rows)
+            || self.bytes.is_some_and(|bytes| occupancy.bytes() >= bytes)
+    }
+}
+
+/// Buffer accounting of a single answer stream, which also counts towards that of its transaction.
+/// Shared by the response collector, which buffers response parts, and the consumer, which takes them
+/// and then their answers one by one.
+pub(super) struct StreamBuffer {
+    // footprints of the parts in the stream channel, or of their answers not yet consumed, in order
+    parts: Mutex<VecDeque<Footprint>>,
+    occupancy: BufferOccupancy,
+    limit: BufferLimit,
+    transaction_occupancy: Arc<BufferOccupancy>,
+    transaction_limit: BufferLimit,
+    parked_continuation: Mutex<Option<RequestID>>,
+    continuation: Box<dyn Fn(RequestID) -> bool + Send + Sync>,
+}
+
+impl StreamBuffer {
+    pub(super) fn new(
+        limit: BufferLimit,
+        transaction_occupancy: Arc<BufferOccupancy>,
+        transaction_limit: BufferLimit,
+        continuation: impl Fn(RequestID) -> bool + Send + Sync + 'static,
+    ) -> Self {
+        Self {
+            parts: Mutex::new(VecDeque::new()),
+            occupancy: BufferOccupancy::default(),
+            limit,
+            transaction_occupancy,
+            transaction_limit,
+            parked_continuation: Mutex::new(None),
+            continuation: Box::new(continuation),
+        }
+    }
+
+    pub(super) fn on_buffered(&self, footprint: Footprint) {
+        self.parts.lock().unwrap().push_back(footprint);
+        self.occupancy.add(footprint);
+        self.transaction_occupancy.add(footprint);
+    }
+
+    /// Called by the consumer for every part taken out of the stream channel. The answers of a part are only
+    /// released from the buffer as they are consumed, see <code>on_answer_consumed</code>.
+    pub(super) fn on_part_taken(&self) {
+        let mut parts = self.parts.lock().unwrap();
+        if parts.front().is_some_and(|part| part.rows == 0) {
+            let footprint = parts.pop_front().unwrap();
+            drop(parts);
+            self.remove(footprint);
+        }
+    }
+
+    /// Called by the consumer for every answer (row or document) taken out of the current part.
+    pub(super) fn on_answer_consumed(&self) {
+        let mut parts = self.parts.lock().unwrap();
+        let Some(part) = parts.front_mut().filter(|part| part.rows > 0) else {
+            return;
+        };
+        // the bytes of a part are spread evenly over its answers, the last one taking the remainder
+        let footprint = Footprint { rows: 1, bytes: part.bytes / part.rows };
+        part.rows -= 1;
+        part.bytes -= footprint.bytes;
+        if part.rows == 0 {
+            parts.pop_front();
+        }
+        drop(parts);
+        self.remove(footprint);
+    }
+
+    fn remove(&self, footprint: Footprint) {
+        self.occupancy.remove(footprint);
+        self.transaction_occupancy.remove(footprint);
+        self.transaction_occupancy.resume_parked();
+    }
+
+    /// Whether further answers may be requested before the consumer has caught up.
+    /// The transaction limit is waived once the stream itself is drained, so that a consumer reading one stream
+    /// to the end before the others is never left waiting on a continuation.
+    pub(super) fn has_room(&self) -> bool {
+        !self.limit.is_reached(&self.occupancy)
+            && (self.occupancy.is_empty() || !self.transaction_limit.is_reached(&self.transaction_occupancy))
+    }
+
+    /// Holds back the continuation of a stream that has no room, until enough of its answers are consumed.
+    pub(super) fn park(self: &Arc<Self>, request_id: RequestID) {
+        *self.parked_continuation.lock().unwrap() = Some(request_id);
+        self.transaction_occupancy.park(Arc::downgrade(self));
+        // the consumer may have caught up in the meantime
+        self.transaction_occupancy.resume_parked();
+    }
+
+    /// Returns <code>true</code> if the stream has no parked continuation left.
+    fn try_resume(&self) -> bool {
+        if !self.has_room() {
+            return false;
+        }
+        if let Some(request_id) = self.parked_continuation.lock().unwrap().take() {
+            (self.continuation)(request_id);
+        }
+        true
+    }
+}
+
+impl fmt::Debug for StreamBuffer {
+    fn fmt(&self, f: &mut fmt::Formatter<'_>) -> fmt::Result {
+        f.debug_struct("StreamBuffer")
+            .field("occupancy", &self.occupancy)
+            .field("limit", &self.limit)
+            .field("transaction_limit", &self.transaction_limit)
+            .finish()
+    }
+}
+
+impl Drop for StreamBuffer {
+    fn drop(&mut self) {
+        // answers left behind by an abandoned stream no longer occupy the transaction's buffer
+        for footprint in self.parts.get_mut().unwrap().drain(..) {
+            self.transaction_occupancy.remove(footprint);
+        }
+        self.transaction_occupancy.resume_parked();
+    }
+}
+
+/// The consumer's handle on the buffer accounting of a stream, through which its answers are released one by one.
+#[derive(Clone, Debug)]
+pub(in crate::connection) struct AnswerTracker {
+    buffer: Arc<StreamBuffer>,
+}
+
+impl AnswerTracker {
+    pub(super) fn new(buffer: Arc<StreamBuffer>) -> Self {
+        Self { buffer }
+    }
+
+    pub(in crate::connection) fn on_answer_consumed(&self) {
+        self.buffer.on_answer_consumed()
+    }
+}
+
+#[cfg(test)]
+mod test {
+    use std::sync::{Arc, Mutex};
+
+    use super::{BufferLimit, BufferOccupancy, Footprint, StreamBuffer};
+    use crate::common::RequestID;
+
+    type Continuations = Arc<Mutex<Vec<RequestID>>>;
+
+    fn stream_buffer(
+        limit: BufferLimit,
+        transaction_occupancy: Arc<BufferOccupancy>,
+        transaction_limit: BufferLimit,
+    ) -> (Arc<StreamBuffer>, Continuations) {
+        let continuations = Continuations::default();
+        let sent = continuations.clone();
+        let buffer = StreamBuffer::new(limit, transaction_occupancy, transaction_limit, move |request_id| {
+            sent.lock().unwrap().push(request_id);
+            true
+        });
+        (Arc::new(buffer), continuations)
+    }
+
+    fn rows(rows: u64, bytes: u64) -> Footprint {
+        Footprint { rows, bytes }
+    }
+
+    #[test]
+    fn test_answers_are_released_one_by_one() {
+        let transaction_occupancy = Arc::new(BufferOccupancy::default());
+        let (buffer, _) = stream_buffer(BufferLimit::default(), transaction_occupancy.clone(), BufferLimit::default());
+        buffer.on_buffered(rows(4, 10));
+        buffer.on_part_taken();
+        assert_eq!((buffer.occupancy.rows(), buffer.occupancy.bytes()), (4, 10));
+
+        let mut released = Vec::new();
+        for _ in 0..4 {
+            buffer.on_answer_consumed();
+            released.push((buffer.occupancy.rows(), buffer.occupancy.bytes()));
+        }
+        assert_eq!(released, vec![(3, 8), (2, 6), (1, 3), (0, 0)]);
+        assert_eq!((transaction_occupancy.rows(), transaction_occupancy.bytes()), (0, 0));
+    }
+
+    #[test]
+    fn test_parts_without_answers_are_released_when_taken() {
+        let (buffer, _) =
+            stream_buffer(BufferLimit::default(), Arc::new(BufferOccupancy::default()), BufferLimit::default());
+        buffer.on_buffered(rows(0, 5));
+        buffer.on_buffered(rows(2, 8));
+        buffer.on_part_taken();
+        assert_eq!((buffer.occupancy.rows(), buffer.occupancy.bytes()), (2, 8));
+        buffer.on_part_taken();
+        assert_eq!((buffer.occupancy.rows(), buffer.occupancy.bytes()), (2, 8));
+    }
+
+    #[test]
+    fn test_room_is_regained_per_consumed_row() {
+        let (buffer, _) = stream_buffer(
+            BufferLimit::new(Some(2), None),
+            Arc::new(BufferOccupancy::default()),
+            BufferLimit::default(),
+        );
+        buffer.on_buffered(rows(3, 30));
+        buffer.on_part_taken();
+        assert!(!buffer.has_room());
+        buffer.on_answer_consumed();
+        assert!(!buffer.has_room());
+        buffer.on_answer_consumed();
+        assert!(buffer.has_room());
+    }
+
+    #[test]
+    fn test_parked_continuation_resumes_once_when_the_consumer_catches_up() {
+        let (buffer, continuations) = stream_buffer(
+            BufferLimit::new(Some(2), None),
+            Arc::new(BufferOccupancy::default()),
+            BufferLimit::default(),
+        );
+        let request_id = RequestID::generate();
+        buffer.on_buffered(rows(3, 30));
+        buffer.park(request_id.clone());
+        assert!(continuations.lock().unwrap().is_empty());
+
+        buffer.on_part_taken();
+        buffer.on_answer_consumed();
+        assert!(continuations.lock().unwrap().is_empty());
+        buffer.on_answer_consumed();
+        assert!(*continuations.lock().unwrap() == vec![request_id]);
+        buffer.on_answer_consumed();
+        assert_eq!(continuations.lock().unwrap().len(), 1);
+    }
+
+    #[test]
+    fn test_parking_with_room_resumes_immediately() {
+        let (buffer, continuations) = stream_buffer(
+            BufferLimit::new(Some(2), None),
+            Arc::new(BufferOccupancy::default()),
+            BufferLimit::default(),
+        );
+        buffer.on_buffered(rows(1, 10));
+        buffer.park(RequestID::generate());
+        assert_eq!(continuations.lock().unwrap().len(), 1);
+    }
+
+    #[test]
+    fn test_transaction_limit_holds_back_streams_until_another_drains() {
+        let transaction_occupancy = Arc::new(BufferOccupancy::default());
+        let transaction_limit = BufferLimit::new(Some(3), None);
+        let (first, _) = stream_buffer(BufferLimit::default(), transaction_occupancy.clone(), transaction_limit);
+        let (second, continuations) =
+            stream_buffer(BufferLimit::default(), transaction_occupancy.clone(), transaction_limit);
+        first.on_buffered(rows(2, 20));
+        second.on_buffered(rows(1, 10));
+        assert!(!second.has_room());
+        second.park(RequestID::generate());
+        assert!(continuations.lock().unwrap().is_empty());
+
+        first.on_part_taken();
+        first.on_answer_consumed();
+        assert_eq!(continuations.lock().unwrap().len(), 1);
+    }
+
+    #[test]
+    fn test_drained_stream_has_room_past_the_transaction_limit() {
+        let transaction_occupancy = Arc::new(BufferOccupancy::default());
+        let transaction_limit = BufferLimit::new(Some(2), None);
+        let (first, _) = stream_buffer(BufferLimit::default(), transaction_occupancy.clone(), transaction_limit);
+        let (second, continuations) =
+            stream_buffer(BufferLimit::default(), transaction_occupancy.clone(), transaction_limit);
+        first.on_buffered(rows(2, 20));
+        second.on_buffered(rows(1, 10));
+        second.park(RequestID::generate());
+        assert!(continuations.lock().unwrap().is_empty());
+
+        // the consumer reads the second stream to the end before the first
+        second.on_part_taken();
+        second.on_answer_consumed();
+        assert_eq!(continuations.lock().unwrap().len(), 1);
+    }
+
+    #[test]
+    fn test_abandoned_stream_releases_the_transaction_buffer() {
+        let transaction_occupancy = Arc::new(BufferOccupancy::default());
+        let transaction_limit = BufferLimit::new(Some(3), None);
+        let (first, _) = stream_buffer(BufferLimit::default(), transaction_occupancy.clone(), transaction_limit);
+        let (second, continuations) =
+            stream_buffer(BufferLimit::default(), transaction_occupancy.clone(), transaction_limit);
+        first.on_buffered(rows(3, 30));
+        second.on_buffered(rows(1, 10));
+        second.park(RequestID::generate());
+        assert!(continuations.lock().unwrap().is_empty());
+
+        drop(first);
+        assert_eq!(transaction_occupancy.rows(), 1);
+        assert_eq!(continuations.lock().unwrap().len(), 1);
+    }
+}
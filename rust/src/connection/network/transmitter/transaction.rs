@@ -18,16 +18,14 @@
  */
 
 use std::{
-    collections::HashMap,
     future::Future,
     pin::Pin,
-    sync::{Arc, RwLock},
-    thread::sleep,
+    sync::{Arc, Mutex, RwLock},
     time::Duration,
 };
 
 use crossbeam::{atomic::AtomicCell, channel::Sender};
-use futures::StreamExt;
+use futures::{future::join_all, StreamExt};
 #[cfg(not(feature = "sync"))]
 use futures::TryStreamExt;
 #[cfg(feature = "sync")]
@@ -42,7 +40,7 @@ use tokio::{
         mpsc::{error::SendError, unbounded_channel as unbounded_async, UnboundedReceiver, UnboundedSender},
         oneshot::{channel as oneshot_async, Sender as AsyncOneshotSender},
     },
-    time::{sleep_until, Instant},
+    time::{sleep_until, timeout_at, Instant},
 };
 use tonic::Streaming;
 use typedb_protocol::transaction::{self, res_part::ResPart, server::Server, stream_signal::res_part::State};
@@ -50,7 +48,12 @@ use uuid::Uuid;
 
 #[cfg(feature = "sync")]
 use super::oneshot_blocking as oneshot;
-use super::response_sink::{ImmediateHandler, ResponseSink, StreamResponse};
+use super::{
+    read_ahead::{AdaptivePrefetch, ReadAhead, ReadAheadState},
+    response_router::{RequestIdSequence, ResponseRouter},
+    response_sink::{ImmediateHandler, ReadyNotifier, ResponseSink, StreamResponse, StreamSink},
+    stream_buffer::{AnswerTracker, BufferLimit, BufferOccupancy, Footprint, StreamBuffer},
+};
 use crate::{
     common::{
         box_promise,
@@ -73,6 +76,9 @@ pub(in crate::connection) struct TransactionTransmitter {
     error: Arc<RwLock<Option<Error>>>,
     on_close_register_sink: UnboundedSender<Box<dyn FnOnce(Option<Error>) + Send + Sync>>,
     shutdown_sink: UnboundedSender<()>,
+    adaptive_prefetch: Arc<AdaptivePrefetch>,
+    buffer_occupancy: Arc<BufferOccupancy>,
+    buffer_limit: BufferLimit,
     // runtime is alive as long as the transaction transmitter is alive:
     background_runtime: Arc<BackgroundRuntime>,
 }
@@ -88,6 +94,9 @@ impl TransactionTransmitter {
         background_runtime: Arc<BackgroundRuntime>,
         request_sink: UnboundedSender<transaction::Client>,
         response_source: Streaming<transaction::Server>,
+        latency_tracker: LatencyTracker,
+        dispatch_options: DispatchOptions,
+        buffer_limit: BufferLimit,
     ) -> Self {
         let callback_handler_sink = background_runtime.callback_handler_sink();
         let (buffer_sink, buffer_source) = unbounded_async();
@@ -106,8 +115,19 @@ impl TransactionTransmitter {
             callback_handler_sink,
             shutdown_sink.clone(),
             shutdown_source,
+            dispatch_options,
         ));
-        Self { request_sink: buffer_sink, is_open, error, on_close_register_sink, shutdown_sink, background_runtime }
+        Self {
+            request_sink: buffer_sink,
+            is_open,
+            error,
+            on_close_register_sink,
+            shutdown_sink,
+            adaptive_prefetch: Arc::new(AdaptivePrefetch::new(latency_tracker)),
+            buffer_occupancy: Arc::new(BufferOccupancy::default()),
+            buffer_limit,
+            background_runtime,
+        }
     }
 
     pub(in crate::connection) fn is_open(&self) -> bool {
@@ -118,6 +138,16 @@ impl TransactionTransmitter {
         &self.shutdown_sink
     }
 
+    /// The prefetch size learned from the consumption of previous answer streams with read-ahead enabled.
+    pub(in crate::connection) fn adaptive_prefetch_size(&self) -> u64 {
+        self.adaptive_prefetch.prefetch_size()
+    }
+
+    /// The answers received for the streams of this transaction but not yet taken by their consumers.
+    pub(in crate::connection) fn buffer_occupancy(&self) -> &BufferOccupancy {
+        &self.buffer_occupancy
+    }
+
     pub(in crate::connection) fn force_close(&self) {
         if self.is_open.compare_exchange(true, false).is_ok() {
             *self.error.write().unwrap() = Some(ConnectionError::TransactionIsClosed.into());
@@ -162,22 +192,106 @@ impl TransactionTransmitter {
         })
     }
 
+    /// Sends a one-shot request without blocking; the callback is run on the callback handler thread
+    /// once the response arrives or the transaction closes.
+    #[cfg(feature = "sync")]
+    pub(in crate::connection) fn single_with_callback(
+        &self,
+        req: TransactionRequest,
+        callback: impl FnOnce(Result<TransactionResponse>) + Send + 'static,
+    ) {
+        let sink = self.background_runtime.callback_handler_sink();
+        let callback = OnceCallback { callback: Mutex::new(Some(callback)), sink };
+        let handler = ImmediateHandler { handler: Arc::new(move |response| callback.run(response)) };
+        if !self.is_open() {
+            return handler.run(Err(self.error()));
+        }
+        let send_result = self.request_sink.send((req, Some(ResponseSink::ImmediateOneShot(handler))));
+        if let Err(SendError((_, Some(sink)))) = send_result {
+            sink.error(ConnectionError::TransactionIsClosed);
+        }
+    }
+
+    /// Opens a response stream, see <code>StreamOptions</code>. Its answers are released from the stream buffer
+    /// through the returned tracker as they are consumed.
     pub(in crate::connection) fn stream(
         &self,
         req: TransactionRequest,
-    ) -> Result<impl Stream<Item = Result<TransactionResponse>>> {
+        stream_options: StreamOptions,
+    ) -> Result<(impl Stream<Item = Result<TransactionResponse>>, AnswerTracker)> {
+        self.stream_with_notifier(req, stream_options, None)
+    }
+
+    /// Opens a response stream; <code>on_ready</code> is run on the callback handler thread as soon as
+    /// the stream has its first response buffered, so that the first read from it does not block.
+    /// It is also run if the stream fails to open.
+    #[cfg(feature = "sync")]
+    pub(in crate::connection) fn stream_with_ready_callback(
+        &self,
+        req: TransactionRequest,
+        stream_options: StreamOptions,
+        on_ready: impl FnOnce() + Send + 'static,
+    ) -> Result<(impl Stream<Item = Result<TransactionResponse>>, AnswerTracker)> {
+        let callback_handler_sink = self.background_runtime.callback_handler_sink();
+        let notifier = ReadyNotifier::new(Box::new(move || {
+            let (response_sink, _) = oneshot_async();
+            callback_handler_sink.send((Box::new(on_ready), response_sink)).ok();
+        }));
+        self.stream_with_notifier(req, stream_options, Some(notifier))
+    }
+
+    fn stream_with_notifier(
+        &self,
+        req: TransactionRequest,
+        stream_options: StreamOptions,
+        notifier: Option<ReadyNotifier>,
+    ) -> Result<(impl Stream<Item = Result<TransactionResponse>>, AnswerTracker)> {
         if !self.is_open() {
             return Err(self.error().into());
         }
         let (res_part_sink, recv) = unbounded_async();
-        self.request_sink
-            .send((req, Some(ResponseSink::Streamed(res_part_sink))))
-            .map_err(|_| ConnectionError::TransactionIsClosed)?;
+        // a continuation held back for lack of room is resumed the same way as it would have been sent: directly under
+        // read-ahead, otherwise through the consumer; the weak sender lets the stream end once the collector drops it
+        let continuation: Box<dyn Fn(RequestID) -> bool + Send + Sync> = if stream_options.read_ahead {
+            let continuation_sink = self.request_sink.clone();
+            Box::new(move |request_id| {
+                continuation_sink.send((TransactionRequest::Stream { request_id }, None)).is_ok()
+            })
+        } else {
+            let stream_sink = res_part_sink.downgrade();
+            Box::new(move |request_id| {
+                stream_sink.upgrade().is_some_and(|sink| sink.send(StreamResponse::Continue(request_id)).is_ok())
+            })
+        };
+        let buffer = Arc::new(StreamBuffer::new(
+            stream_options.buffer_limit,
+            self.buffer_occupancy.clone(),
+            self.buffer_limit,
+            continuation,
+        ));
+        let read_ahead_state = stream_options.read_ahead.then(|| Arc::new(ReadAheadState::new()));
+        let read_ahead = read_ahead_state.clone().map(|state| {
+            let continuation_sink = self.request_sink.clone();
+            ReadAhead::new(self.adaptive_prefetch.clone(), state, move |request_id| {
+                continuation_sink.send((TransactionRequest::Stream { request_id }, None)).is_ok()
+            })
+        });
+        let response_sink =
+            ResponseSink::Streamed(Arc::new(StreamSink::new(res_part_sink, notifier, read_ahead, buffer.clone())));
+        self.request_sink.send((req, Some(response_sink))).map_err(|_| ConnectionError::TransactionIsClosed)?;
         let movable_sink = self.request_sink.clone();
-        Ok(NetworkStream::new(recv).filter_map(move |response| {
+        let answer_tracker = AnswerTracker::new(buffer.clone());
+        let stream = NetworkStream::new(recv).filter_map(move |response| {
+            if let StreamResponse::Result(_) = &response {
+                buffer.on_part_taken();
+                if let Some(state) = &read_ahead_state {
+                    state.on_consumed();
+                }
+            }
             let moveable_sink = movable_sink.clone();
             Self::process_response(response, moveable_sink)
-        }))
+        });
+        Ok((stream, answer_tracker))
     }
 
     #[cfg(not(feature = "sync"))]
@@ -234,62 +348,70 @@ impl TransactionTransmitter {
         callback_handler_sink: Sender<(Callback, AsyncOneshotSender<()>)>,
         shutdown_sink: UnboundedSender<()>,
         shutdown_signal: UnboundedReceiver<()>,
+        dispatch_options: DispatchOptions,
     ) {
-        let mut collector = ResponseCollector {
-            callbacks: Default::default(),
+        let collector = ResponseCollector {
+            callbacks: Arc::new(ResponseRouter::new()),
             is_open,
             error,
             on_close: Default::default(),
             callback_handler_sink,
         };
-        tokio::task::spawn_blocking({
-            let collector = collector.clone();
-            move || {
-                Self::dispatch_loop(queue_source, request_sink, collector, on_close_callback_source, shutdown_signal)
-            }
-        });
+        tokio::spawn(Self::dispatch_loop(
+            queue_source,
+            request_sink,
+            collector.clone(),
+            on_close_callback_source,
+            shutdown_signal,
+            dispatch_options,
+        ));
         tokio::spawn(Self::listen_loop(response_source, collector, shutdown_sink));
     }
 
-    fn dispatch_loop(
+    async fn dispatch_loop(
         mut request_source: UnboundedReceiver<(TransactionRequest, Option<ResponseSink<TransactionResponse>>)>,
         request_sink: UnboundedSender<transaction::Client>,
-        mut collector: ResponseCollector,
+        collector: ResponseCollector,
         mut on_close_callback_source: UnboundedReceiver<Box<dyn FnOnce(Option<Error>) + Send + Sync>>,
         mut shutdown_signal: UnboundedReceiver<()>,
+        dispatch_options: DispatchOptions,
     ) {
-        const MAX_GRPC_MESSAGE_LEN: usize = 1_000_000;
-        const DISPATCH_INTERVAL: Duration = Duration::from_micros(50);
-
-        let mut request_buffer = TransactionRequestBuffer::default();
+        let coalescing_window = dispatch_options.coalescing_window;
+        let mut dispatcher = RequestDispatcher::new(request_sink, collector, dispatch_options.max_batch_size);
         loop {
-            if let Ok(_) = shutdown_signal.try_recv() {
-                if !request_buffer.is_empty() {
-                    request_sink.send(request_buffer.take()).unwrap();
-                }
-                break;
-            }
-            if let Ok(callback) = on_close_callback_source.try_recv() {
-                collector.on_close.write().unwrap().push(callback)
-            }
-            // sleep, then take all messages off the request queue and dispatch them
-            sleep(DISPATCH_INTERVAL);
-            while let Ok(recv) = request_source.try_recv() {
-                let (request, callback) = recv;
-                let request = request.into_proto();
-                if let Some(callback) = callback {
-                    collector.register(request.req_id.clone().into(), callback);
+            // the task is parked until there is something to do, so an idle transaction costs nothing
+            let (request, callback) = select! {
+                biased;
+                _ = shutdown_signal.recv() => break,
+                Some(callback) = on_close_callback_source.recv() => {
+                    dispatcher.collector.on_close.write().unwrap().push(callback);
+                    continue;
                 }
-                if request_buffer.len() + request.encoded_len() > MAX_GRPC_MESSAGE_LEN {
-                    request_sink.send(request_buffer.take()).unwrap();
+                request = request_source.recv() => match request {
+                    Some(request) => request,
+                    None => break,
+                },
+            };
+            dispatcher.buffer(request, callback);
+
+            // coalesce the requests that arrive within the window into the same message
+            if !coalescing_window.is_zero() {
+                let deadline = Instant::now() + coalescing_window;
+                while !dispatcher.is_full() {
+                    match timeout_at(deadline, request_source.recv()).await {
+                        Ok(Some((request, callback))) => dispatcher.buffer(request, callback),
+                        Ok(None) | Err(_) => break,
+                    }
                 }
-                request_buffer.push(request);
             }
-            if !request_buffer.is_empty() {
-                request_sink.send(request_buffer.take()).unwrap();
+            while let Ok((request, callback)) = request_source.try_recv() {
+                dispatcher.buffer(request, callback);
             }
+            dispatcher.flush();
         }
+        dispatcher.flush();
     }
+
     async fn listen_loop(
         mut grpc_source: Streaming<transaction::Server>,
         collector: ResponseCollector,
@@ -306,6 +428,81 @@ impl TransactionTransmitter {
     }
 }
 
+/// How the answers of a response stream are requested and buffered. With <code>read_ahead</code>, the continuation
+/// of the stream may be requested before the consumer has drained the answers already buffered (see
+/// <code>ReadAhead</code>), as long as neither the stream nor its transaction has reached its buffer limit.
+#[derive(Clone, Copy, Debug, Default)]
+pub(in crate::connection) struct StreamOptions {
+    pub(in crate::connection) read_ahead: bool,
+    pub(in crate::connection) buffer_limit: BufferLimit,
+}
+
+/// How the requests of a transaction are coalesced into the messages sent to the server.
+#[derive(Clone, Copy, Debug)]
+pub(in crate::connection) struct DispatchOptions {
+    coalescing_window: Duration,
+    max_batch_size: usize,
+}
+
+impl DispatchOptions {
+    const MAX_GRPC_MESSAGE_LEN: usize = 1_000_000;
+
+    pub(in crate::connection) fn new(coalescing_window: Duration, max_batch_size: usize) -> Self {
+        Self { coalescing_window, max_batch_size: max_batch_size.clamp(1, Self::MAX_GRPC_MESSAGE_LEN) }
+    }
+}
+
+/// Assigns request IDs, registers the response sinks and coalesces requests into messages, on the dispatch task.
+struct RequestDispatcher {
+    request_buffer: TransactionRequestBuffer,
+    request_sink: UnboundedSender<transaction::Client>,
+    collector: ResponseCollector,
+    request_ids: RequestIdSequence,
+    max_batch_size: usize,
+}
+
+impl RequestDispatcher {
+    fn new(
+        request_sink: UnboundedSender<transaction::Client>,
+        collector: ResponseCollector,
+        max_batch_size: usize,
+    ) -> Self {
+        Self {
+            request_buffer: TransactionRequestBuffer::default(),
+            request_sink,
+            collector,
+            request_ids: RequestIdSequence::new(),
+            max_batch_size,
+        }
+    }
+
+    fn buffer(&mut self, request: TransactionRequest, callback: Option<ResponseSink<TransactionResponse>>) {
+        // stream continuations carry the ID of the query they continue
+        let is_continuation = matches!(request, TransactionRequest::Stream { .. });
+        let mut request = request.into_proto();
+        if !is_continuation {
+            request.req_id = self.request_ids.next();
+        }
+        if let Some(callback) = callback {
+            self.collector.register(&request.req_id, callback);
+        }
+        if !self.request_buffer.is_empty() && self.request_buffer.len() + request.encoded_len() > self.max_batch_size {
+            self.request_sink.send(self.request_buffer.take()).unwrap();
+        }
+        self.request_buffer.push(request);
+    }
+
+    fn is_full(&self) -> bool {
+        self.request_buffer.len() >= self.max_batch_size
+    }
+
+    fn flush(&mut self) {
+        if !self.request_buffer.is_empty() {
+            self.request_sink.send(self.request_buffer.take()).unwrap();
+        }
+    }
+}
+
 #[derive(Default)]
 struct TransactionRequestBuffer {
     reqs: Vec<transaction::Req>,
@@ -332,9 +529,35 @@ impl TransactionRequestBuffer {
     }
 }
 
+/// Hands a callback over to the callback handler exactly once. If the callback has not run by the time it is dropped,
+/// e.g. because its request was discarded when the transaction closed, it runs with a <code>TransactionIsClosed</code>
+/// error, so that whatever it holds on to is released.
+#[cfg(feature = "sync")]
+struct OnceCallback<F: FnOnce(Result<TransactionResponse>) + Send + 'static> {
+    callback: Mutex<Option<F>>,
+    sink: Sender<(Callback, AsyncOneshotSender<()>)>,
+}
+
+#[cfg(feature = "sync")]
+impl<F: FnOnce(Result<TransactionResponse>) + Send + 'static> OnceCallback<F> {
+    fn run(&self, response: Result<TransactionResponse>) {
+        if let Some(callback) = self.callback.lock().unwrap().take() {
+            let (response_sink, _) = oneshot_async();
+            self.sink.send((Box::new(move || callback(response)), response_sink)).ok();
+        }
+    }
+}
+
+#[cfg(feature = "sync")]
+impl<F: FnOnce(Result<TransactionResponse>) + Send + 'static> Drop for OnceCallback<F> {
+    fn drop(&mut self) {
+        self.run(Err(ConnectionError::TransactionIsClosed.into()))
+    }
+}
+
 #[derive(Clone)]
 struct ResponseCollector {
-    callbacks: Arc<RwLock<HashMap<RequestID, ResponseSink<TransactionResponse>>>>,
+    callbacks: Arc<ResponseRouter<ResponseSink<TransactionResponse>>>,
     is_open: Arc<AtomicCell<bool>>,
     error: Arc<RwLock<Option<Error>>>,
     on_close: Arc<RwLock<Vec<Box<dyn FnOnce(Option<Error>) + Send + Sync>>>>,
@@ -342,8 +565,11 @@ struct ResponseCollector {
 }
 
 impl ResponseCollector {
-    fn register(&mut self, request_id: RequestID, callback: ResponseSink<TransactionResponse>) {
-        self.callbacks.write().unwrap().insert(request_id, callback);
+    fn register(&self, request_id: &[u8], callback: ResponseSink<TransactionResponse>) {
+        match RequestIdSequence::routing_key(request_id) {
+            Some(key) => self.callbacks.insert(key, callback),
+            None => callback.error(ConnectionError::UnknownRequestId { request_id: request_id.to_vec().into() }),
+        }
     }
 
     async fn collect(&self, message: transaction::Server) {
@@ -354,50 +580,72 @@ impl ResponseCollector {
         }
     }
 
+    fn routing_key(&self, request_id: &[u8]) -> Option<u64> {
+        RequestIdSequence::routing_key(request_id).filter(|&key| self.callbacks.contains(key))
+    }
+
+    fn row_count(response: &TransactionResponse) -> u64 {
+        match response {
+            TransactionResponse::Query(QueryResponse::StreamConceptRows(rows)) => rows.len() as u64,
+            TransactionResponse::Query(QueryResponse::StreamConceptDocuments(documents)) => documents.len() as u64,
+            _ => 0,
+        }
+    }
+
     fn collect_res(&self, res: transaction::Res) {
-        let request_id = res.req_id.clone().into();
-        if !self.callbacks.read().unwrap().contains_key(&request_id) {
-            error!("{}", ConnectionError::UnknownRequestId { request_id });
+        let Some(key) = self.routing_key(&res.req_id) else {
+            error!("{}", ConnectionError::UnknownRequestId { request_id: res.req_id.into() });
             return;
-        }
+        };
 
         let ok_response = match TransactionResponse::try_from_proto(res) {
             Ok(response) => response,
             Err(err) => {
-                let sink = self.callbacks.write().unwrap().remove(&request_id).unwrap();
-                sink.error(err);
+                if let Some(sink) = self.callbacks.remove(key) {
+                    sink.error(err);
+                }
                 return;
             }
         };
 
         if matches!(&ok_response, TransactionResponse::Query(_)) {
-            let guard = self.callbacks.write().unwrap();
-            let sink = guard.get(&request_id).unwrap();
-            sink.send_result(Ok(ok_response));
-        } else {
-            let sink = self.callbacks.write().unwrap().remove(&request_id).unwrap();
+            if let Some(sink) = self.callbacks.get(key, ResponseSink::stream_sink) {
+                sink.send_part(Ok(ok_response), Footprint::default());
+            }
+        } else if let Some(sink) = self.callbacks.remove(key) {
             sink.finish(Ok(ok_response));
         }
     }
 
     async fn collect_res_part(&self, res_part: transaction::ResPart) {
-        let request_id = res_part.req_id.clone().into();
+        let Some(key) = RequestIdSequence::routing_key(&res_part.req_id) else {
+            error!("{}", ConnectionError::UnknownRequestId { request_id: res_part.req_id.into() });
+            return;
+        };
+        let request_id: RequestID = res_part.req_id.into();
 
         match res_part.res_part {
-            Some(ResPart::QueryRes(query_res)) => match self.callbacks.read().unwrap().get(&request_id) {
-                Some(sink) => {
-                    let response = TransactionResponse::try_from_proto(query_res);
-                    if let Err(err) = &response {
-                        self.callbacks.write().unwrap().remove(&request_id);
+            Some(ResPart::QueryRes(query_res)) => {
+                let bytes = query_res.encoded_len() as u64;
+                let response = TransactionResponse::try_from_proto(query_res);
+                let routed = match response {
+                    Ok(response) => {
+                        let footprint = Footprint { rows: Self::row_count(&response), bytes };
+                        let stream_sink = self.callbacks.get(key, ResponseSink::stream_sink);
+                        stream_sink.map(|sink| sink.send_part(Ok(response), footprint))
+                    }
+                    Err(err) => {
                         error!("{}", err);
+                        self.callbacks.remove(key).map(|sink| sink.send_result(Err(err)))
                     }
-                    sink.send_result(response)
+                };
+                if routed.is_none() {
+                    error!("{}", ConnectionError::UnknownRequestId { request_id })
                 }
-                _ => error!("{}", ConnectionError::UnknownRequestId { request_id }),
-            },
+            }
             Some(ResPart::StreamRes(stream_res)) => match stream_res.state {
                 None => {
-                    self.callbacks.write().unwrap().remove(&request_id);
+                    self.callbacks.remove(key);
                     error!(
                         "{}",
                         ConnectionError::MissingResponseField {
@@ -406,26 +654,23 @@ impl ResponseCollector {
                     )
                 }
                 Some(state) => match state {
-                    State::Continue(_) => match self.callbacks.read().unwrap().get(&request_id) {
+                    State::Continue(_) => match self.callbacks.get(key, ResponseSink::stream_sink) {
                         Some(sink) => sink.send_continuable(request_id),
-                        None => error!("{}", ConnectionError::UnknownRequestId { request_id: request_id.clone() }),
+                        None => error!("{}", ConnectionError::UnknownRequestId { request_id }),
                     },
                     State::Done(_) => {
-                        self.callbacks.write().unwrap().remove(&request_id);
+                        self.callbacks.remove(key);
                     }
-                    State::Error(error) => {
-                        match self.callbacks.read().unwrap().get(&request_id) {
-                            Some(sink) => {
-                                sink.send_result(Ok(TransactionResponse::Query(QueryResponse::from_proto(error))));
-                            }
-                            _ => error!("{}", ConnectionError::UnknownRequestId { request_id: request_id.clone() }),
+                    State::Error(error) => match self.callbacks.remove(key) {
+                        Some(sink) => {
+                            sink.send_result(Ok(TransactionResponse::Query(QueryResponse::from_proto(error))));
                         }
-                        self.callbacks.write().unwrap().remove(&request_id);
-                    }
+                        None => error!("{}", ConnectionError::UnknownRequestId { request_id }),
+                    },
                 },
             },
             None => {
-                self.callbacks.write().unwrap().remove(&request_id);
+                self.callbacks.remove(key);
                 error!("{}", ConnectionError::MissingResponseField { field: "transaction.res_part.res_part" })
             }
         }
@@ -433,31 +678,31 @@ impl ResponseCollector {
 
     async fn close(self) {
         self.is_open.store(false);
-        let mut listeners = std::mem::take(&mut *self.callbacks.write().unwrap());
-        for (_, listener) in listeners.drain() {
+        for listener in self.callbacks.drain() {
             listener.finish(Ok(TransactionResponse::Close));
         }
-        let callbacks = std::mem::take(&mut *self.on_close.write().unwrap());
-        for callback in callbacks {
-            let (response_sink, response) = oneshot_async();
-            self.callback_handler_sink.send((Box::new(move || callback(None)), response_sink)).unwrap();
-            response.await.ok();
-        }
+        self.run_on_close_callbacks(None).await;
     }
 
     async fn close_with_error(self, error: Error) {
         self.is_open.store(false);
         *self.error.write().unwrap() = Some(error.clone());
-        let mut listeners = std::mem::take(&mut *self.callbacks.write().unwrap());
-        for (_, listener) in listeners.drain() {
+        for listener in self.callbacks.drain() {
             listener.error(error.clone());
         }
+        self.run_on_close_callbacks(Some(error)).await;
+    }
+
+    /// Hands all on-close callbacks to the callback handlers at once, so that they may run in parallel,
+    /// and waits for all of them to finish.
+    async fn run_on_close_callbacks(&self, error: Option<Error>) {
         let callbacks = std::mem::take(&mut *self.on_close.write().unwrap());
-        for callback in callbacks {
+        let responses = callbacks.into_iter().map(|callback| {
             let error = error.clone();
             let (response_sink, response) = oneshot_async();
-            self.callback_handler_sink.send((Box::new(move || callback(Some(error))), response_sink)).unwrap();
-            response.await.ok();
-        }
+            self.callback_handler_sink.send((Box::new(move || callback(error)), response_sink)).unwrap();
+            response
+        });
+        join_all(responses.collect::<Vec<_>>()).await;
     }
 }
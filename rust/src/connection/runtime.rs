@@ -17,7 +17,7 @@
  * under the License.
  */
 
-use std::{future::Future, thread, thread::JoinHandle};
+use std::{fmt, future::Future, sync::Arc, thread, thread::JoinHandle};
 
 use crossbeam::{
     atomic::AtomicCell,
@@ -34,20 +34,74 @@ use tokio::{
 
 use crate::common::{Callback, Result};
 
+/// A native runtime (network I/O threads and callback handler thread) that can be shared by several drivers,
+/// so that the number of threads scales with the load rather than with the number of drivers.
+/// The runtime is shut down once it has been dropped along with every driver using it.
+///
+/// # Examples
+///
+/// ```rust
+/// let runtime = DriverRuntime::new(4, 2)?;
+/// let driver_options = DriverOptions::new(false, None)?.runtime(runtime.clone());
+/// ```
+#[derive(Clone)]
+pub struct DriverRuntime {
+    background_runtime: Arc<BackgroundRuntime>,
+}
+
+impl DriverRuntime {
+    /// Starts a runtime with the given numbers of worker threads and callback threads,
+    /// see <code>DriverOptions::worker_threads</code> and <code>DriverOptions::callback_threads</code>.
+    pub fn new(worker_threads: usize, callback_threads: usize) -> Result<Self> {
+        Ok(Self { background_runtime: Arc::new(BackgroundRuntime::new(worker_threads, callback_threads)?) })
+    }
+
+    pub(crate) fn background_runtime(&self) -> Arc<BackgroundRuntime> {
+        self.background_runtime.clone()
+    }
+
+    /// Retrieves the number of references currently keeping this runtime running: the <code>DriverRuntime</code>
+    /// handles and <code>DriverOptions</code> holding it, and the drivers, server connections and open transactions
+    /// using it.
+    pub fn reference_count(&self) -> usize {
+        Arc::strong_count(&self.background_runtime)
+    }
+}
+
+impl fmt::Debug for DriverRuntime {
+    fn fmt(&self, f: &mut fmt::Formatter<'_>) -> fmt::Result {
+        f.debug_struct("DriverRuntime").field("is_open", &self.background_runtime.is_open()).finish()
+    }
+}
+
 pub(crate) struct BackgroundRuntime {
     async_runtime_handle: runtime::Handle,
     is_open: AtomicCell<bool>,
     shutdown_sink: UnboundedSender<()>,
 
-    callback_handler: Option<JoinHandle<()>>,
+    callback_handlers: Vec<JoinHandle<()>>,
     callback_handler_sink: Option<Sender<(Callback, AsyncOneshotSender<()>)>>,
 }
 
 impl BackgroundRuntime {
-    pub(crate) fn new() -> Result<Self> {
+    /// Starts a runtime driving all network I/O and response processing. With a single worker thread, all of it runs
+    /// on the "gRPC worker" thread; with more, the work of concurrent transactions is spread across the workers.
+    /// Several workers use tokio's multi-threaded runtime, which needs the `multi-thread` feature of the crate;
+    /// without it, the runtime always runs on a single thread.
+    /// Callbacks are executed in parallel by <code>callback_threads</code> threads taking them off a shared queue.
+    pub(crate) fn new(worker_threads: usize, callback_threads: usize) -> Result<Self> {
         let is_open = AtomicCell::new(true);
         let (shutdown_sink, mut shutdown_source) = unbounded_async();
-        let async_runtime = runtime::Builder::new_current_thread().enable_time().enable_io().build()?;
+        let async_runtime = match worker_threads {
+            #[cfg(feature = "multi-thread")]
+            worker_threads @ 2.. => runtime::Builder::new_multi_thread()
+                .worker_threads(worker_threads)
+                .thread_name("gRPC worker")
+                .enable_time()
+                .enable_io()
+                .build()?,
+            _ => runtime::Builder::new_current_thread().enable_time().enable_io().build()?,
+        };
         let async_runtime_handle = async_runtime.handle().clone();
         thread::Builder::new().name("gRPC worker".to_owned()).spawn(move || {
             async_runtime.block_on(async move {
@@ -56,18 +110,23 @@ impl BackgroundRuntime {
         })?;
 
         let (callback_handler_sink, callback_handler_source) = unbounded::<(Callback, AsyncOneshotSender<()>)>();
-        let callback_handler = Some(thread::Builder::new().name("Callback handler".to_owned()).spawn(move || {
-            while let Ok((callback, response_sink)) = callback_handler_source.recv() {
-                callback();
-                response_sink.send(()).ok();
-            }
-        })?);
+        let callback_handlers = (0..callback_threads.max(1))
+            .map(|_| {
+                let callback_handler_source = callback_handler_source.clone();
+                thread::Builder::new().name("Callback handler".to_owned()).spawn(move || {
+                    while let Ok((callback, response_sink)) = callback_handler_source.recv() {
+                        callback();
+                        response_sink.send(()).ok();
+                    }
+                })
+            })
+            .collect::<std::io::Result<_>>()?;
 
         Ok(Self {
             async_runtime_handle,
             is_open,
             shutdown_sink,
-            callback_handler,
+            callback_handlers,
             callback_handler_sink: Some(callback_handler_sink),
         })
     }
@@ -112,8 +171,14 @@ impl Drop for BackgroundRuntime {
         self.is_open.store(false);
         self.shutdown_sink.send(()).ok();
         drop(self.callback_handler_sink.take());
-        if let Err(err) = self.callback_handler.take().unwrap().join() {
-            error!("Error shutting down the callback handler thread: {:?}", err);
+        for callback_handler in self.callback_handlers.drain(..) {
+            // the runtime may be dropped by one of its own callbacks, which must not wait for itself
+            if callback_handler.thread().id() == thread::current().id() {
+                continue;
+            }
+            if let Err(err) = callback_handler.join() {
+                error!("Error shutting down the callback handler thread: {:?}", err);
+            }
         }
     }
 }
@@ -21,7 +21,7 @@ use std::{
     collections::HashMap,
     fmt,
     sync::{
-        atomic::{AtomicU64, Ordering},
+        atomic::{AtomicBool, AtomicU64, Ordering},
         Arc, Mutex,
     },
     time::Duration,
@@ -34,7 +34,7 @@ use crate::{
     common::{address::Address, RequestID},
     connection::{
         message::{Request, Response, TransactionRequest, TransactionResponse},
-        network::transmitter::{RPCTransmitter, TransactionTransmitter},
+        network::transmitter::{BufferLimit, DispatchOptions, RPCTransmitter, TransactionTransmitter},
         runtime::BackgroundRuntime,
         TransactionStream,
     },
@@ -46,11 +46,13 @@ use crate::{
 #[derive(Clone)]
 pub(crate) struct ServerConnection {
     background_runtime: Arc<BackgroundRuntime>,
+    is_open: Arc<AtomicBool>,
     username: String,
     connection_id: Uuid,
     request_transmitter: Arc<RPCTransmitter>,
     transaction_shutdown_senders: Arc<Mutex<HashMap<RequestID, UnboundedSender<()>>>>,
     latency_tracker: LatencyTracker,
+    dispatch_options: DispatchOptions,
 }
 
 impl ServerConnection {
@@ -64,6 +66,10 @@ impl ServerConnection {
         driver_version: &str,
     ) -> crate::Result<(Self, Vec<DatabaseInfo>)> {
         let username = credentials.username().to_string();
+        let dispatch_options = DispatchOptions::new(
+            driver_options.get_transaction_coalescing_window(),
+            driver_options.get_transaction_max_batch_size(),
+        );
         let request_transmitter =
             Arc::new(RPCTransmitter::start(address, credentials, driver_options, &background_runtime)?);
         let (connection_id, latency, database_info) =
@@ -71,11 +77,13 @@ impl ServerConnection {
         let latency_tracker = LatencyTracker::new(latency);
         let server_connection = Self {
             background_runtime,
+            is_open: Arc::new(AtomicBool::new(true)),
             username,
             connection_id,
             request_transmitter,
             transaction_shutdown_senders: Default::default(),
             latency_tracker,
+            dispatch_options,
         };
         Ok((server_connection, database_info))
     }
@@ -116,20 +124,26 @@ impl ServerConnection {
 
     #[cfg_attr(feature = "sync", maybe_async::must_be_sync)]
     async fn request(&self, request: Request) -> crate::Result<Response> {
-        if !self.background_runtime.is_open() {
+        if !self.is_open() {
             return Err(ConnectionError::ServerConnectionIsClosed.into());
         }
         self.request_transmitter.request(request).await
     }
 
     fn request_blocking(&self, request: Request) -> crate::Result<Response> {
-        if !self.background_runtime.is_open() {
+        if !self.is_open() {
             return Err(ConnectionError::ServerConnectionIsClosed.into());
         }
         self.request_transmitter.request_blocking(request)
     }
 
+    /// A connection is closed either on its own, or along with the runtime it runs on.
+    fn is_open(&self) -> bool {
+        self.is_open.load(Ordering::Relaxed) && self.background_runtime.is_open()
+    }
+
     pub(crate) fn force_close(&self) -> crate::Result {
+        self.is_open.store(false, Ordering::Relaxed);
         for (id, sender) in self.transaction_shutdown_senders.lock().unwrap().drain() {
             let _ = sender.send(());
         }
@@ -226,8 +240,14 @@ impl ServerConnection {
                     Instant::now().duration_since(open_request_start).as_millis() as u64 - server_duration_millis;
                 self.latency_tracker.update_latency(open_latency);
 
-                let transmitter =
-                    TransactionTransmitter::new(self.background_runtime.clone(), request_sink, response_source);
+                let transmitter = TransactionTransmitter::new(
+                    self.background_runtime.clone(),
+                    request_sink,
+                    response_source,
+                    self.latency_tracker.clone(),
+                    self.dispatch_options,
+                    BufferLimit::new(options.transaction_buffer_limit_rows, options.transaction_buffer_limit_bytes),
+                );
                 let transmitter_shutdown_sink = transmitter.shutdown_sink().clone();
                 let transaction_stream = TransactionStream::new(transaction_type, options, transmitter);
                 self.transaction_shutdown_senders.lock().unwrap().insert(request_id, transmitter_shutdown_sink);
@@ -315,7 +335,7 @@ impl LatencyTracker {
         self.latency_millis.store((latency_millis + previous_latency) / 2, Ordering::Relaxed);
     }
 
-    fn current_latency(&self) -> Duration {
+    pub(crate) fn current_latency(&self) -> Duration {
         Duration::from_millis(self.latency_millis.load(Ordering::Relaxed))
     }
 }
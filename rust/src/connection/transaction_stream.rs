@@ -17,12 +17,16 @@
  * under the License.
  */
 
+#[cfg(feature = "sync")]
+use std::sync::Mutex;
 use std::{fmt, iter, pin::Pin, sync::Arc};
 
+#[cfg(feature = "sync")]
+use crossbeam::channel::bounded;
 #[cfg(not(feature = "sync"))]
 use futures::{stream, StreamExt};
 
-use super::network::transmitter::TransactionTransmitter;
+use super::network::transmitter::{AnswerTracker, BufferLimit, StreamOptions, TransactionTransmitter};
 use crate::{
     answer::{concept_document::ConceptDocument, ConceptRow, QueryAnswer},
     box_stream,
@@ -30,7 +34,11 @@ use crate::{
         stream::{BoxStream, Stream},
         Promise, Result,
     },
-    connection::message::{QueryRequest, QueryResponse, TransactionRequest, TransactionResponse},
+    concept::LabelInterner,
+    connection::{
+        decode_document,
+        message::{QueryRequest, QueryResponse, TransactionRequest, TransactionResponse},
+    },
     error::{ConnectionError, InternalError},
     promisify, resolve, Error, Options, TransactionType,
 };
@@ -39,6 +47,7 @@ pub(crate) struct TransactionStream {
     type_: TransactionType,
     options: Options,
     transaction_transmitter: TransactionTransmitter,
+    labels: Arc<LabelInterner>,
 }
 
 impl TransactionStream {
@@ -47,7 +56,7 @@ impl TransactionStream {
         options: Options,
         transaction_transmitter: TransactionTransmitter,
     ) -> Self {
-        Self { type_, options, transaction_transmitter }
+        Self { type_, options, transaction_transmitter, labels: Arc::new(LabelInterner::default()) }
     }
 
     pub(crate) fn is_open(&self) -> bool {
@@ -82,15 +91,92 @@ impl TransactionStream {
         }
     }
 
+    #[cfg(feature = "sync")]
+    pub(crate) fn commit_with_callback(self: Pin<Box<Self>>, callback: impl FnOnce(Result) + Send + 'static) {
+        // the stream must outlive the commit request, so it is held by the callback, which is always either run or
+        // dropped along with the request; the callback runs on the callback handler, so it waits for the lock
+        let this = Arc::new(Mutex::new(Some(self)));
+        let callback_this = this.clone();
+        let stream = this.lock().unwrap();
+        let transmitter = &stream.as_ref().unwrap().transaction_transmitter;
+        transmitter.single_with_callback(TransactionRequest::Commit, move |response| {
+            callback_this.lock().unwrap().take();
+            callback(response.map(|_| ()))
+        });
+    }
+
     pub(crate) fn rollback(&self) -> impl Promise<'_, Result> {
         let promise = self.single(TransactionRequest::Rollback);
         promisify! { resolve!(promise).map(|_| ()) }
     }
 
-    pub(crate) fn query(&self, query: &str, options: Options) -> impl Promise<'static, Result<QueryAnswer>> {
-        let stream = self.query_stream(QueryRequest::Query { query: query.to_owned(), options });
+    #[cfg(feature = "sync")]
+    pub(crate) fn rollback_with_callback(&self, callback: impl FnOnce(Result) + Send + 'static) {
+        self.transaction_transmitter
+            .single_with_callback(TransactionRequest::Rollback, move |response| callback(response.map(|_| ())))
+    }
+
+    pub(crate) fn query(&self, query: String, options: Options) -> impl Promise<'static, Result<QueryAnswer>> {
+        let stream_options = Self::stream_options(&options);
+        Self::query_answer(self.query_stream(self.query_request(query, options), stream_options), self.labels.clone())
+    }
+
+    #[cfg(feature = "sync")]
+    pub(crate) fn query_with_callback(
+        &self,
+        query: String,
+        options: Options,
+        callback: impl FnOnce(Result<QueryAnswer>) + Send + 'static,
+    ) {
+        // the ready callback can only fire once the response stream has been handed over through this channel
+        let (stream_sink, stream_source) =
+            bounded::<Result<(BoxStream<'static, Result<TransactionResponse>>, AnswerTracker)>>(1);
+        let stream_options = Self::stream_options(&options);
+        let request = TransactionRequest::Query(self.query_request(query, options));
+        let labels = self.labels.clone();
+        let stream = self.transaction_transmitter.stream_with_ready_callback(request, stream_options, move || {
+            let stream = stream_source.recv().unwrap_or_else(|_| Err(ConnectionError::TransactionIsClosed.into()));
+            // the first response is already buffered, so resolving the header does not block
+            let stream = stream.map(|(stream, tracker)| (Self::into_query_responses(stream), tracker));
+            callback(resolve!(Self::query_answer(stream, labels)))
+        });
+        stream_sink.send(stream.map(|(stream, tracker)| (box_stream(stream), tracker))).ok();
+    }
+
+    fn stream_options(options: &Options) -> StreamOptions {
+        StreamOptions {
+            read_ahead: options.adaptive_prefetch == Some(true),
+            buffer_limit: BufferLimit::new(options.stream_buffer_limit_rows, options.stream_buffer_limit_bytes),
+        }
+    }
+
+    fn query_request(&self, query: String, options: Options) -> QueryRequest {
+        let options = match options {
+            Options { adaptive_prefetch: Some(true), prefetch_size: None, .. } => {
+                options.prefetch_size(self.transaction_transmitter.adaptive_prefetch_size())
+            }
+            _ => options,
+        };
+        // a single batch must fit in the stream buffer
+        let options = match (options.prefetch_size, options.stream_buffer_limit_rows) {
+            (Some(prefetch_size), Some(limit)) if prefetch_size > limit => options.prefetch_size(limit.max(1)),
+            _ => options,
+        };
+        QueryRequest::Query { query, options }
+    }
+
+    /// The rows and bytes of answers received for the queries of this transaction but not yet consumed.
+    pub(crate) fn buffered_answers(&self) -> (u64, u64) {
+        let occupancy = self.transaction_transmitter.buffer_occupancy();
+        (occupancy.rows(), occupancy.bytes())
+    }
+
+    fn query_answer(
+        stream: Result<(impl Stream<Item = Result<QueryResponse>> + Send + 'static, AnswerTracker)>,
+        labels: Arc<LabelInterner>,
+    ) -> impl Promise<'static, Result<QueryAnswer>> {
         promisify! {
-            let mut stream = stream?;
+            let (mut stream, tracker) = stream?;
 
             #[cfg(feature = "sync")]
             let header = stream.next();
@@ -110,11 +196,14 @@ impl TransactionStream {
                     let stream_header = header.clone();
                     let answers = box_stream(stream.flat_map(move |result| {
                         let header = header.clone();
+                        let tracker = tracker.clone();
                         match result {
                             Ok(QueryResponse::StreamConceptDocuments(documents)) => {
                                 stream_iter(documents.into_iter().map({
                                         move |document| {
-                                            Ok(ConceptDocument::new(header.clone(), document))
+                                            tracker.on_answer_consumed();
+                                            decode_document(document)
+                                                .map(|document| ConceptDocument::new(header.clone(), document))
                                         }
                                     }))
                             }
@@ -130,13 +219,17 @@ impl TransactionStream {
                 QueryResponse::ConceptRowsHeader(rows_header) => {
                     let header = Arc::new(rows_header);
                     let stream_header = header.clone();
+                    // the lower bound of the size hint counts the rows of the part being read, which are ready
                     let answers = box_stream(stream.flat_map(move |result| {
                         let header = header.clone();
+                        let labels = labels.clone();
+                        let tracker = tracker.clone();
                         match result {
                             Ok(QueryResponse::StreamConceptRows(rows)) => {
                                 stream_iter(rows.into_iter().map({
                                     move |row| {
-                                        Ok(ConceptRow::new(header.clone(), row))
+                                        tracker.on_answer_consumed();
+                                        Ok(ConceptRow::new_encoded(header.clone(), row, labels.clone()))
                                     }
                                 }))
                             }
@@ -159,16 +252,31 @@ impl TransactionStream {
         self.transaction_transmitter.single(req)
     }
 
-    fn stream(&self, req: TransactionRequest) -> Result<impl Stream<Item = Result<TransactionResponse>>> {
-        self.transaction_transmitter.stream(req)
+    fn stream(
+        &self,
+        req: TransactionRequest,
+        stream_options: StreamOptions,
+    ) -> Result<(impl Stream<Item = Result<TransactionResponse>>, AnswerTracker)> {
+        self.transaction_transmitter.stream(req, stream_options)
+    }
+
+    fn query_stream(
+        &self,
+        req: QueryRequest,
+        stream_options: StreamOptions,
+    ) -> Result<(impl Stream<Item = Result<QueryResponse>>, AnswerTracker)> {
+        let (stream, tracker) = self.stream(TransactionRequest::Query(req), stream_options)?;
+        Ok((Self::into_query_responses(stream), tracker))
     }
 
-    fn query_stream(&self, req: QueryRequest) -> Result<impl Stream<Item = Result<QueryResponse>>> {
-        Ok(self.stream(TransactionRequest::Query(req))?.map(|response| match response {
+    fn into_query_responses(
+        stream: impl Stream<Item = Result<TransactionResponse>>,
+    ) -> impl Stream<Item = Result<QueryResponse>> {
+        stream.map(|response| match response {
             Ok(TransactionResponse::Query(res)) => Ok(res),
             Ok(other) => Err(InternalError::UnexpectedResponseType { response_type: format!("{other:?}") }.into()),
             Err(err) => Err(err),
-        }))
+        })
     }
 }
 
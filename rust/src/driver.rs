@@ -20,7 +20,10 @@
 use std::{
     collections::{HashMap, HashSet},
     fmt,
-    sync::Arc,
+    sync::{
+        atomic::{AtomicBool, Ordering},
+        Arc,
+    },
 };
 
 use itertools::Itertools;
@@ -41,6 +44,8 @@ pub struct TypeDBDriver {
     database_manager: DatabaseManager,
     user_manager: UserManager,
     background_runtime: Arc<BackgroundRuntime>,
+    owns_runtime: bool,
+    is_open: AtomicBool,
     username: Option<String>,
     is_cloud: bool,
 }
@@ -101,7 +106,14 @@ impl TypeDBDriver {
     ) -> Result<Self> {
         let id = address.as_ref().to_string();
         let address: Address = id.parse()?;
-        let background_runtime = Arc::new(BackgroundRuntime::new()?);
+        let owns_runtime = driver_options.get_runtime().is_none();
+        let background_runtime = match driver_options.get_runtime() {
+            Some(runtime) => runtime.background_runtime(),
+            None => Arc::new(BackgroundRuntime::new(
+                driver_options.get_worker_threads(),
+                driver_options.get_callback_threads(),
+            )?),
+        };
 
         let (server_connection, database_info) = ServerConnection::new_core(
             background_runtime.clone(),
@@ -130,6 +142,8 @@ impl TypeDBDriver {
             database_manager,
             user_manager,
             background_runtime,
+            owns_runtime,
+            is_open: AtomicBool::new(true),
             username: None,
             is_cloud: false,
         })
@@ -177,7 +191,7 @@ impl TypeDBDriver {
         } else {
             todo!("Only a single address is accepted for TypeDB Cloud 3.0")
         }
-        // let background_runtime = Arc::new(BackgroundRuntime::new()?);
+        // let background_runtime = Arc::new(BackgroundRuntime::new(driver_options.get_worker_threads())?);
         // let servers = Self::fetch_server_list(background_runtime.clone(), init_addresses, credentials.clone())?;
         // let server_to_address = servers.into_iter().map(|address| (address.clone(), address)).collect();
         // Self::new_cloud_impl(server_to_address, background_runtime, credential)
@@ -236,7 +250,7 @@ impl TypeDBDriver {
         U: AsRef<str> + Sync,
     {
         todo!("No address translation is available and only a single server is accepted for TypeDB Cloud 3.0")
-        // let background_runtime = Arc::new(BackgroundRuntime::new()?);
+        // let background_runtime = Arc::new(BackgroundRuntime::new(driver_options.get_worker_threads())?);
         //
         // let fetched =
         //     Self::fetch_server_list(background_runtime.clone(), address_translation.keys(), credential.clone())?;
@@ -323,7 +337,7 @@ impl TypeDBDriver {
     /// connection.is_open()
     /// ```
     pub fn is_open(&self) -> bool {
-        self.background_runtime.is_open()
+        self.is_open.load(Ordering::Relaxed) && self.background_runtime.is_open()
     }
 
     /// Check if the connection is to an Cloud server.
@@ -371,7 +385,8 @@ impl TypeDBDriver {
         Ok(Transaction::new(transaction_stream))
     }
 
-    /// Closes this connection if it is open.
+    /// Closes this connection if it is open. A runtime shared with other drivers is left running for them,
+    /// and is shut down once all of them and its <code>DriverRuntime</code> handles have been dropped.
     ///
     /// # Examples
     ///
@@ -383,9 +398,14 @@ impl TypeDBDriver {
             return Ok(());
         }
 
+        self.is_open.store(false, Ordering::Relaxed);
         let result =
             self.server_connections.values().map(ServerConnection::force_close).try_collect().map_err(Into::into);
-        self.background_runtime.force_close().and(result)
+        if self.owns_runtime {
+            self.background_runtime.force_close().and(result)
+        } else {
+            result
+        }
     }
 
     pub(crate) fn server_count(&self) -> usize {
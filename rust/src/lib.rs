@@ -22,7 +22,7 @@
 
 pub use self::{
     common::{box_stream, error, info, BoxPromise, BoxStream, Error, Options, Promise, Result, TransactionType, IID},
-    connection::{Credentials, DriverOptions},
+    connection::{Credentials, DriverOptions, DriverRuntime},
     database::{Database, DatabaseManager},
     driver::TypeDBDriver,
     transaction::Transaction,
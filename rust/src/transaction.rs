@@ -75,15 +75,92 @@ impl Transaction {
         query: impl AsRef<str>,
         options: Options,
     ) -> impl Promise<'static, Result<QueryAnswer>> {
-        let query = query.as_ref();
+        self.transaction_stream.query(query.as_ref().to_owned(), options)
+    }
+
+    /// Performs a TypeQL query in this transaction, taking ownership of the query text,
+    /// so that a large query is handed to the request without being copied.
+    ///
+    /// # Arguments
+    ///
+    /// * `query` — The TypeQL query to be executed
+    /// * `options` — Query options
+    ///
+    /// # Examples
+    ///
+    /// ```rust
+    /// transaction.query_owned(query, options)
+    /// ```
+    pub fn query_owned(&self, query: String, options: Options) -> impl Promise<'static, Result<QueryAnswer>> {
         self.transaction_stream.query(query, options)
     }
 
+    /// Performs a TypeQL query in this transaction without blocking the caller.
+    /// The callback is executed on the driver's callback thread once the first response of the query
+    /// has arrived, so resolving the answer header never blocks.
+    ///
+    /// # Arguments
+    ///
+    /// * `query` — The TypeQL query to be executed
+    /// * `options` — Query options
+    /// * `callback` — The function to receive the query answer or the error
+    ///
+    /// # Examples
+    ///
+    /// ```rust
+    /// transaction.query_with_callback(query, options, |answer| { /* ... */ })
+    /// ```
+    #[cfg(feature = "sync")]
+    pub fn query_with_callback(
+        &self,
+        query: impl AsRef<str>,
+        options: Options,
+        callback: impl FnOnce(Result<QueryAnswer>) + Send + 'static,
+    ) {
+        self.transaction_stream.query_with_callback(query.as_ref().to_owned(), options, callback)
+    }
+
+    /// Performs a TypeQL query in this transaction without blocking the caller, taking ownership of the query text.
+    /// See [`Transaction::query_with_callback`] and [`Transaction::query_owned`]
+    #[cfg(feature = "sync")]
+    pub fn query_owned_with_callback(
+        &self,
+        query: String,
+        options: Options,
+        callback: impl FnOnce(Result<QueryAnswer>) + Send + 'static,
+    ) {
+        self.transaction_stream.query_with_callback(query, options, callback)
+    }
+
     /// Retrieves the transaction’s type (READ or WRITE).
     pub fn type_(&self) -> TransactionType {
         self.type_
     }
 
+    /// Retrieves the number of answer rows (or documents) received for the queries of this transaction
+    /// but not yet taken by their consumers.
+    ///
+    /// # Examples
+    ///
+    /// ```rust
+    /// transaction.buffered_rows()
+    /// ```
+    pub fn buffered_rows(&self) -> u64 {
+        self.transaction_stream.buffered_answers().0
+    }
+
+    /// Retrieves the number of bytes of encoded answers received for the queries of this transaction
+    /// but not yet taken by their consumers.
+    ///
+    /// # Examples
+    ///
+    /// ```rust
+    /// transaction.buffered_bytes()
+    /// ```
+    pub fn buffered_bytes(&self) -> u64 {
+        self.transaction_stream.buffered_answers().1
+    }
+
     /// Registers a callback function which will be executed when this transaction is closed.
     ///
     /// # Arguments
@@ -123,6 +200,20 @@ impl Transaction {
         stream.commit()
     }
 
+    /// Commits the changes made via this transaction without blocking the caller.
+    /// The callback is executed on the driver's callback thread once the commit has completed.
+    ///
+    /// # Examples
+    ///
+    /// ```rust
+    /// transaction.commit_with_callback(|result| { /* ... */ })
+    /// ```
+    #[cfg(feature = "sync")]
+    pub fn commit_with_callback(self, callback: impl FnOnce(Result) + Send + 'static) {
+        let stream = self.transaction_stream;
+        stream.commit_with_callback(callback)
+    }
+
     /// Rolls back the uncommitted changes made via this transaction.
     ///
     /// # Examples
@@ -134,6 +225,19 @@ impl Transaction {
     pub fn rollback(&self) -> impl Promise<'_, Result> {
         self.transaction_stream.rollback()
     }
+
+    /// Rolls back the uncommitted changes made via this transaction without blocking the caller.
+    /// The callback is executed on the driver's callback thread once the rollback has completed.
+    ///
+    /// # Examples
+    ///
+    /// ```rust
+    /// transaction.rollback_with_callback(|result| { /* ... */ })
+    /// ```
+    #[cfg(feature = "sync")]
+    pub fn rollback_with_callback(&self, callback: impl FnOnce(Result) + Send + 'static) {
+        self.transaction_stream.rollback_with_callback(callback)
+    }
 }
 
 impl fmt::Debug for Transaction {
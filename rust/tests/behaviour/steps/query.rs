@@ -60,10 +60,10 @@ async fn get_answer_rows_var(
             let position = collected_column_names.iter().find_position(|name| name == &&var.name).map(|(pos, _)| pos);
             match position {
                 None => None,
-                Some(position) => concept_row.get_index(position),
+                Some(position) => concept_row.get_index(position).unwrap(),
             }
         }
-        params::IsByVarIndex::IsNot => concept_row.get(&var.name),
+        params::IsByVarIndex::IsNot => concept_row.get(&var.name).unwrap(),
     }
     .ok_or(BehaviourTestOptionalError::VariableDoesNotExist(var.name))
 }
@@ -904,7 +904,7 @@ pub async fn answer_get_row_get_variable_is_struct(
 #[step(expr = r"answer get row\({int}\) get concepts size is: {int}")]
 pub async fn answer_get_row_get_concepts_size_is(context: &mut Context, index: usize, size: usize) {
     let concept_row = context.get_collected_answer_row_index(index).await;
-    assert_eq!(size, concept_row.get_concepts().collect_vec().len());
+    assert_eq!(size, concept_row.get_concepts().map(|concept| concept.unwrap()).collect_vec().len());
 }
 
 #[apply(generic_step)]